@@ -1,11 +1,22 @@
 package fctreddit.api;
 
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+
 /**
  * Represents a Post and a Reply in the system
  */
-
+@Entity
+@Table(indexes = {
+		@Index(name = "post_parent", columnList = "parentId"),
+		@Index(name = "post_creation", columnList = "creationTimestamp"),
+		@Index(name = "post_author", columnList = "authorId") })
 public class Post {
 
+	@Id
 	private String postId;
 	private String authorId;
 	private long creationTimestamp;
@@ -15,6 +26,10 @@ public class Post {
 	private int upVote;
 	private int downVote;
 	
+	// Storage-only fields, not part of the data model exchanged with clients
+	private String parentId; // Derived from parentUrl, so that replies can be looked up by index
+	private int replyCount;
+	
 	
 	public Post() {
 		
@@ -118,6 +133,11 @@ public class Post {
 		this.downVote = downVote;
 	}
 
+	@PrePersist
+	void deriveParentId() {
+		parentId = parentUrl == null ? null : parentUrl.substring(parentUrl.lastIndexOf('/') + 1);
+	}
+
 	public int hashCode() {
 		final int prime = 31;
 		int result = 1;
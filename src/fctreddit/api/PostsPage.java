@@ -0,0 +1,42 @@
+package fctreddit.api;
+
+import java.util.List;
+
+/**
+ * Represents a page of post identifiers, together with the cursor to the next page
+ */
+public class PostsPage {
+
+	private List<String> postIds;
+	private String nextCursor; //This should be null when this is the last page.
+
+	public PostsPage() {
+
+	}
+
+	public PostsPage(List<String> postIds, String nextCursor) {
+		this.postIds = postIds;
+		this.nextCursor = nextCursor;
+	}
+
+	public List<String> getPostIds() {
+		return postIds;
+	}
+
+	public void setPostIds(List<String> postIds) {
+		this.postIds = postIds;
+	}
+
+	public String getNextCursor() {
+		return nextCursor;
+	}
+
+	public void setNextCursor(String nextCursor) {
+		this.nextCursor = nextCursor;
+	}
+
+	@Override
+	public String toString() {
+		return "PostsPage [postIds=" + postIds + ", nextCursor=" + nextCursor + "]";
+	}
+}
@@ -1,19 +1,31 @@
 package fctreddit.api;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Version;
 
 /**
  * Represents a User in the system
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = User.CACHE_REGION)
 public class User {
+	// The second-level cache region of users
+	public static final String CACHE_REGION = "users";
+
 	private String email;
 	@Id
 	private String userId;
 	private String fullName;
 	private String password;
 	private String avatarUrl;
+	@Version
+	private long version; // Guards conditional writes, not part of the JSON representation
 	
 	public User(){	
 	}
@@ -31,6 +43,11 @@ public class User {
 		this(userId, fullName, email, password);
 		this.avatarUrl = avatarUrl;
 	}
+	
+	public User(String userId, String fullName, String email, String password, String avatarUrl, long version) {
+		this(userId, fullName, email, password, avatarUrl);
+		this.version = version;
+	}
 
 	@Override
 	public int hashCode() {
@@ -115,6 +132,13 @@ public class User {
 		return this.avatarUrl;
 	}
 
+	/**
+	 * @return the version of the stored user, incremented by every update
+	 */
+	public long version() {
+		return version;
+	}
+
 	@Override
 	public String toString() {
 		return "User [email=" + email + ", userId=" + userId + ", fullName=" + fullName + ", password=" + password
@@ -0,0 +1,57 @@
+package fctreddit.api.java;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import fctreddit.api.Post;
+
+/**
+ * Asynchronous variants of the Content operations that wait on something else: another
+ * service, to check the password of the user, or a new answer to a post. The returned
+ * futures complete with the same outcomes as the synchronous operations, without holding
+ * the calling thread in the meantime.
+ */
+public interface AsyncContent extends Content {
+
+	/**
+	 * Asynchronous variant of {@link #createPost(Post, String)}.
+	 */
+	CompletableFuture<Result<String>> createPostAsync(Post post, String userPassword);
+
+	/**
+	 * Asynchronous variant of {@link #getPostAnswers(String, long)}. When a timeout is given,
+	 * the returned future is only completed once a new answer is added to the post or the
+	 * timeout expires.
+	 */
+	CompletableFuture<Result<List<String>>> getPostAnswersAsync(String postId, long maxTimeout);
+
+	/**
+	 * Asynchronous variant of {@link #updatePost(String, String, Post)}.
+	 */
+	CompletableFuture<Result<Post>> updatePostAsync(String postId, String userPassword, Post post);
+
+	/**
+	 * Asynchronous variant of {@link #deletePost(String, String)}.
+	 */
+	CompletableFuture<Result<Void>> deletePostAsync(String postId, String userPassword);
+
+	/**
+	 * Asynchronous variant of {@link #upVotePost(String, String, String)}.
+	 */
+	CompletableFuture<Result<Void>> upVotePostAsync(String postId, String userId, String userPassword);
+
+	/**
+	 * Asynchronous variant of {@link #removeUpVotePost(String, String, String)}.
+	 */
+	CompletableFuture<Result<Void>> removeUpVotePostAsync(String postId, String userId, String userPassword);
+
+	/**
+	 * Asynchronous variant of {@link #downVotePost(String, String, String)}.
+	 */
+	CompletableFuture<Result<Void>> downVotePostAsync(String postId, String userId, String userPassword);
+
+	/**
+	 * Asynchronous variant of {@link #removeDownVotePost(String, String, String)}.
+	 */
+	CompletableFuture<Result<Void>> removeDownVotePostAsync(String postId, String userId, String userPassword);
+}
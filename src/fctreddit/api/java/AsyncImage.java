@@ -0,0 +1,21 @@
+package fctreddit.api.java;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous variants of the Image operations that check the password of the user with
+ * the Users service. The returned futures complete with the same outcomes as the
+ * synchronous operations, without holding the calling thread in the meantime.
+ */
+public interface AsyncImage extends Image {
+
+	/**
+	 * Asynchronous variant of {@link #createImage(String, byte[], String)}.
+	 */
+	CompletableFuture<Result<String>> createImageAsync(String userId, byte[] imageContents, String password);
+
+	/**
+	 * Asynchronous variant of {@link #deleteImage(String, String, String)}.
+	 */
+	CompletableFuture<Result<Void>> deleteImageAsync(String userId, String imageId, String password);
+}
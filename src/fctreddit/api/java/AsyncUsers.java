@@ -0,0 +1,25 @@
+package fctreddit.api.java;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import fctreddit.api.User;
+
+/**
+ * Asynchronous variants of the Users operations that the other services call, to check
+ * the password of a user or to fetch the profiles of many users. The returned futures
+ * complete with the same outcomes as the synchronous operations, without holding the
+ * calling thread in the meantime.
+ */
+public interface AsyncUsers extends Users {
+
+	/**
+	 * Asynchronous variant of {@link #getUser(String, String)}.
+	 */
+	CompletableFuture<Result<User>> getUserAsync(String userId, String password);
+
+	/**
+	 * Asynchronous variant of {@link #getUsersByIds(List)}.
+	 */
+	CompletableFuture<Result<List<User>>> getUsersByIdsAsync(List<String> userIds);
+}
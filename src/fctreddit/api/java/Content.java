@@ -3,6 +3,7 @@ package fctreddit.api.java;
 import java.util.List;
 
 import fctreddit.api.Post;
+import fctreddit.api.PostsPage;
 
 public interface Content {
 
@@ -45,6 +46,19 @@ public interface Content {
 	 */
 	public Result<List<String>> getPosts(long timestamp, String sortOrder);
 	
+	/**
+	 * Retrieves one page of the list returned by {@link #getPosts(long, String)}.
+	 * 
+	 * @param timestamp same as in {@link #getPosts(long, String)}
+	 * @param sortOrder same as in {@link #getPosts(long, String)}
+	 * @param cursor the opaque cursor returned with the previous page, or null for the first page.
+	 * Cursors remain valid while new posts are being created.
+	 * @param limit the maximum number of PostIds in the page
+	 * @return 	OK and the page of PostIds, with the cursor to the next page (null on the last page)
+	 * 			BAD_REQUEST if the cursor is not valid for this sortOrder or limit is not positive
+	 */
+	public Result<PostsPage> getPosts(long timestamp, String sortOrder, String cursor, int limit);
+	
 	/**
 	 * Retrieves a given post.
 	 * 
@@ -54,6 +68,16 @@ public interface Content {
 	 */
 	public Result<Post> getPost(String postId);
 	
+	/**
+	 * Retrieves many posts at once, saving a getPost call per post.
+	 * 
+	 * @param postIds the unique identifiers of the posts to be retrieved
+	 * @return 	OK and the Posts, in the order of postIds, skipping the postIds that do not
+	 * 			match an existing Post
+	 * 			BAD_REQUEST if postIds is missing or has more entries than a server accepts at once
+	 */
+	public Result<List<Post>> getPostsByIds(List<String> postIds);
+	
 	/**
 	 * Retrieves a list with all unique identifiers of posts that have the post
 	 * identified by the postId as their ancestor (i.e., the replies to that post),
@@ -3,6 +3,7 @@ package fctreddit.api.java;
 import java.util.List;
 
 import fctreddit.api.User;
+import fctreddit.api.java.Result.ErrorCode;
 
 public interface Users {
 
@@ -17,6 +18,19 @@ public interface Users {
 	 */
 	Result<String> createUser(User user);
 
+	/**
+	 * Creates many users at once, each as if by {@link #createUser(User)}, without
+	 * stopping at the first one that cannot be created.
+	 * 
+	 * @param users the users to be created
+	 * @return <OK,List<ErrorCode>> with the outcome of each user, in the given order:
+	 * 			OK if it was created;
+	 * 			CONFLICT if the userId already exists or appears earlier in the list;
+	 * 			BAD_REQUEST if the User is not valid.
+	 * 		   BAD_REQUEST if the list is null
+	 */
+	Result<List<ErrorCode>> createUsers(List<User> users);
+
 	/**
 	 * Obtains the information on the user identified by name.
 	 * 
@@ -28,6 +42,30 @@ public interface Users {
 	 */
 	Result<User> getUser(String userId, String password);
 
+	/**
+	 * Opens a session for the user, whose token the other services accept in place of
+	 * the password, without asking this service, until it expires.
+	 * 
+	 * @param userId   the userId of the user
+	 * @param password password of the user
+	 * @return 	<OK, String> and the session token in the case of success (password is correct)
+	 * 			FORBIDDEN if the password is null or incorrect; 
+	 * 			NOT_FOUND if no user exists with the provided userId
+	 * 			NOT_IMPLEMENTED if sessions are not configured
+	 */
+	Result<String> login(String userId, String password);
+
+	/**
+	 * Retrieves the public profiles of many users at once, which needs no password.
+	 * 
+	 * @param userIds the userIds of the users to be retrieved
+	 * @return <OK,List<User>> and the Users, in the order of userIds, skipping the userIds
+	 * 			that do not match an existing User. Only the userId, fullName and avatarUrl
+	 * 			of each User are filled in.
+	 * 			BAD_REQUEST if userIds is missing or has more entries than a server accepts at once
+	 */
+	Result<List<User>> getUsersByIds(List<String> userIds);
+
 	/**
 	 * Modifies the information of a user. Values of null in any field of the user
 	 * will be considered as if the the fields is not to be modified (the id cannot
@@ -65,4 +103,16 @@ public interface Users {
 	 * 		    of the number of hits (including 0 hits)
 	 */
 	Result<List<User>> searchUsers(String pattern);
+
+	/**
+	 * Retrieves one page of the list returned by {@link #searchUsers(String)}, in which
+	 * users are ordered by userId.
+	 * 
+	 * @param pattern same as in {@link #searchUsers(String)}
+	 * @param cursor the userId of the last user of the previous page, or null for the first page
+	 * @param limit the maximum number of users in the page, or 0 for all the remaining users
+	 * @return <OK,List<User>> and the page of Users, shorter than limit only on the last page
+	 * 			BAD_REQUEST if limit is negative
+	 */
+	Result<List<User>> searchUsers(String pattern, String cursor, int limit);
 }
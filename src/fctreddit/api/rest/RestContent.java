@@ -3,6 +3,7 @@ package fctreddit.api.rest;
 import java.util.List;
 
 import fctreddit.api.Post;
+import fctreddit.api.PostsPage;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.DELETE;
 import jakarta.ws.rs.GET;
@@ -12,6 +13,8 @@ import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.container.Suspended;
 import jakarta.ws.rs.core.MediaType;
 
 @Path(RestContent.PATH)
@@ -27,6 +30,11 @@ public interface RestContent {
 	public static final String USERID = "userId";
 	public static final String SORTBY = "sortBy";
 	public static final String TIMEOUT = "timeout";
+	public static final String PAGE = "page";
+	public static final String CURSOR = "cursor";
+	public static final String LIMIT = "limit";
+	public static final String BATCH = "batch";
+	public static final String SERVICE_NAME = "Content";
 	
 	/**
 	 * The following constants are the values that can be sent for the query parameter SORTBY
@@ -51,7 +59,7 @@ public interface RestContent {
 	@POST
 	@Consumes(MediaType.APPLICATION_JSON)
 	@Produces(MediaType.APPLICATION_JSON)
-	public String createPost(Post post, @QueryParam(PASSWORD) String userPassword);
+	public void createPost(Post post, @QueryParam(PASSWORD) String userPassword, @Suspended AsyncResponse ar);
 	
 	/**
 	 * Retrieves a list with all top-level Posts unique identifiers (i.e., Posts that have no parent Post).
@@ -72,6 +80,23 @@ public interface RestContent {
 	@Produces(MediaType.APPLICATION_JSON)
 	public List<String> getPosts(@QueryParam(TIMESTAMP) long timestamp, @QueryParam(SORTBY) String sortOrder);
 	
+	/**
+	 * Retrieves one page of the list returned by getPosts.
+	 * 
+	 * @param timestamp same as in getPosts
+	 * @param sortOrder same as in getPosts
+	 * @param cursor the opaque cursor returned with the previous page, absent for the first page.
+	 * Cursors remain valid while new posts are being created.
+	 * @param limit the maximum number of PostIds in the page
+	 * @return 	OK and the page of PostIds, with the cursor to the next page (null on the last page)
+	 * 			BAD_REQUEST if the cursor is not valid for this sortOrder or limit is not positive
+	 */
+	@GET
+	@Path(PAGE)
+	@Produces(MediaType.APPLICATION_JSON)
+	public PostsPage getPostsPage(@QueryParam(TIMESTAMP) long timestamp, @QueryParam(SORTBY) String sortOrder,
+			@QueryParam(CURSOR) String cursor, @QueryParam(LIMIT) int limit);
+	
 	/**
 	 * Retrieves a given post.
 	 * 
@@ -84,6 +109,20 @@ public interface RestContent {
 	@Produces(MediaType.APPLICATION_JSON)
 	public Post getPost(@PathParam(POSTID) String postId);
 	
+	/**
+	 * Retrieves many posts at once, saving a getPost call per post.
+	 * 
+	 * @param postIds the unique identifiers of the posts to be retrieved
+	 * @return 	OK and the Posts, in the order of postIds, skipping the postIds that do not
+	 * 			match an existing Post
+	 * 			BAD_REQUEST if postIds is missing or has more entries than a server accepts at once
+	 */
+	@POST
+	@Path(BATCH)
+	@Consumes(MediaType.APPLICATION_JSON)
+	@Produces(MediaType.APPLICATION_JSON)
+	public List<Post> getPostsByIds(List<String> postIds);
+	
 	/**
 	 * Retrieves a list with all unique identifiers of posts that have the post
 	 * identified by the postId as their ancestor (i.e., the replies to that post),
@@ -94,13 +133,14 @@ public interface RestContent {
 	 * 		  to the post. If a new answer is added to the target post after the start of 
 	 * 		  the execution of this operation and before the timeout expires an answer should
 	 * 		  be sent to the client at that time. 		   
+	 * 		  The request is suspended while waiting, so no server thread is held by it.
 	 * @return 	OK and the List of PostIds that are answers to the post ordered by creationTime 
 	 * 			NOT_FOUND if postId does not match an existing Post			
 	 */
 	@GET
 	@Path("{" + POSTID + "}/" + REPLIES)
 	@Produces(MediaType.APPLICATION_JSON)
-	public List<String> getPostAnswers(@PathParam(POSTID) String postId, @QueryParam(TIMEOUT) long timeout);
+	public void getPostAnswers(@PathParam(POSTID) String postId, @QueryParam(TIMEOUT) long timeout, @Suspended AsyncResponse ar);
 	
 	/**
 	 * Updates the contents of a post restricted to the fields:
@@ -119,7 +159,8 @@ public interface RestContent {
 	@Path("{" + POSTID + "}")
 	@Consumes(MediaType.APPLICATION_JSON)
 	@Produces(MediaType.APPLICATION_JSON)
-	public Post updatePost(@PathParam(POSTID) String postId, @QueryParam(PASSWORD) String userPassword, Post post);
+	public void updatePost(@PathParam(POSTID) String postId, @QueryParam(PASSWORD) String userPassword, Post post,
+			@Suspended AsyncResponse ar);
 	
 	/**
 	 * Deletes a given Post, only the author of the Post can do this operation. A successful delete will also remove
@@ -133,7 +174,7 @@ public interface RestContent {
 	 */	
 	@DELETE
 	@Path("{" + POSTID + "}")
-	public void deletePost(@PathParam(POSTID) String postId, @QueryParam(PASSWORD) String userPassword);
+	public void deletePost(@PathParam(POSTID) String postId, @QueryParam(PASSWORD) String userPassword, @Suspended AsyncResponse ar);
 	
 	/**
 	 * Adds an upvote to a given post made by a specific user (might be different from the author
@@ -151,7 +192,8 @@ public interface RestContent {
 	 */
 	@POST
 	@Path("{" + POSTID + "}/" + UPVOTE + "/{" + USERID + "}" )
-	public void upVotePost(@PathParam(POSTID) String postId, @PathParam(USERID) String userId, @QueryParam(PASSWORD) String userPassword);
+	public void upVotePost(@PathParam(POSTID) String postId, @PathParam(USERID) String userId, @QueryParam(PASSWORD) String userPassword,
+			@Suspended AsyncResponse ar);
 	
 	/**
 	 * Removes a previously added upvote to a given post made by a specific user (might be different from the author
@@ -167,7 +209,8 @@ public interface RestContent {
 	 */
 	@DELETE
 	@Path("{" + POSTID + "}/" + UPVOTE + "/{" + USERID + "}" )
-	public void removeUpVotePost(@PathParam(POSTID) String postId, @PathParam(USERID) String userId, @QueryParam(PASSWORD) String userPassword);
+	public void removeUpVotePost(@PathParam(POSTID) String postId, @PathParam(USERID) String userId, @QueryParam(PASSWORD) String userPassword,
+			@Suspended AsyncResponse ar);
 	
 	/**
 	 * Adds an downvote to a given post made by a specific user (might be different from the author
@@ -185,7 +228,8 @@ public interface RestContent {
 	 */
 	@POST
 	@Path("{" + POSTID + "}/" + DOWNVOTE + "/{" + USERID + "}" )
-	public void downVotePost(@PathParam(POSTID) String postId, @PathParam(USERID) String userId, @QueryParam(PASSWORD) String userPassword);
+	public void downVotePost(@PathParam(POSTID) String postId, @PathParam(USERID) String userId, @QueryParam(PASSWORD) String userPassword,
+			@Suspended AsyncResponse ar);
 	
 	/**
 	 * Removes a previously added downvote to a given post made by a specific user (might be different from the author
@@ -201,7 +245,8 @@ public interface RestContent {
 	 */
 	@DELETE
 	@Path("{" + POSTID + "}/" + DOWNVOTE + "/{" + USERID + "}" )
-	public void removeDownVotePost(@PathParam(POSTID) String postId, @PathParam(USERID) String userId, @QueryParam(PASSWORD) String userPassword);
+	public void removeDownVotePost(@PathParam(POSTID) String postId, @PathParam(USERID) String userId, @QueryParam(PASSWORD) String userPassword,
+			@Suspended AsyncResponse ar);
 	
 	/**
 	 * Exposes the number of upvotes currently associated with a given post
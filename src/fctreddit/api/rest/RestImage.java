@@ -8,6 +8,8 @@ import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.container.Suspended;
 import jakarta.ws.rs.core.MediaType;
 
 @Path(RestImage.PATH)
@@ -31,7 +33,8 @@ public interface RestImage {
 	@POST
 	@Path("{" + USER_ID + "}")
 	@Consumes(MediaType.APPLICATION_OCTET_STREAM)
-	String createImage(@PathParam(USER_ID) String userId, byte[] imageContents, @QueryParam(PASSWORD) String password);
+	void createImage(@PathParam(USER_ID) String userId, byte[] imageContents, @QueryParam(PASSWORD) String password,
+			@Suspended AsyncResponse ar);
 
 	/**
 	 * Gets the contents of an image associated with the imageId
@@ -57,7 +60,8 @@ public interface RestImage {
 	 */
 	@DELETE
 	@Path("{" + USER_ID + "}/{" + IMAGE_ID + "}")
-	void deleteImage(@PathParam(USER_ID) String userId, @PathParam(IMAGE_ID) String imageId, @QueryParam(PASSWORD) String password);
+	void deleteImage(@PathParam(USER_ID) String userId, @PathParam(IMAGE_ID) String imageId, @QueryParam(PASSWORD) String password,
+			@Suspended AsyncResponse ar);
 	
 	
 	
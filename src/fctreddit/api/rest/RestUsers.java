@@ -3,6 +3,7 @@ package fctreddit.api.rest;
 import java.util.List;
 
 import fctreddit.api.User;
+import fctreddit.api.java.Result.ErrorCode;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.DELETE;
 import jakarta.ws.rs.GET;
@@ -13,12 +14,18 @@ import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.StreamingOutput;
 
 @Path(RestUsers.PATH)
 public interface RestUsers {
 
 	public static final String PATH = "/users";
 	public static final String QUERY = "query";
+	public static final String CURSOR = "cursor";
+	public static final String LIMIT = "limit";
+	public static final String IMPORT = "import";
+	public static final String BATCH = "batch";
+	public static final String SESSION = "session";
 	public static final String USER_ID = "userId";
 	public static final String PASSWORD = "password";
 	public static final String SERVICE_NAME = "Users";
@@ -38,6 +45,22 @@ public interface RestUsers {
 	@Produces(MediaType.APPLICATION_JSON)
 	String createUser(User user);
 
+	/**
+	 * Creates many users at once, each as if by createUser, without stopping at the
+	 * first one that cannot be created.
+	 * 
+	 * @param users Users to be created (in the body of the request)
+	 * @return 	OK and the outcome of each user, in the given order: OK if it was created,
+	 * 			CONFLICT if the userId already exists or appears earlier in the list, or
+	 * 			BAD_REQUEST if the User is not valid.
+	 * 			BAD_REQUEST if the list is missing
+	 */
+	@POST
+	@Path(IMPORT)
+	@Consumes(MediaType.APPLICATION_JSON)
+	@Produces(MediaType.APPLICATION_JSON)
+	List<ErrorCode> createUsers(List<User> users);
+
 	/**
 	 * Obtains the information on the user identified by name.
 	 * 
@@ -52,6 +75,37 @@ public interface RestUsers {
 	@Produces(MediaType.APPLICATION_JSON)
 	User getUser(@PathParam(USER_ID) String userId, @QueryParam(PASSWORD) String password);
 
+	/**
+	 * Opens a session for the user, whose token the other services accept in place of
+	 * the password until it expires.
+	 * 
+	 * @param userId   the userId of the user
+	 * @param password password of the user
+	 * @return 	OK and the session token in the case of success (password is correct)
+	 * 			FORBIDDEN if the password is null or incorrect; 
+	 * 			NOT_FOUND if no user exists with the provided userId
+	 * 			NOT_IMPLEMENTED if sessions are not configured
+	 */
+	@POST
+	@Path("/{" + USER_ID + "}/" + SESSION)
+	@Produces(MediaType.APPLICATION_JSON)
+	String login(@PathParam(USER_ID) String userId, @QueryParam(PASSWORD) String password);
+
+	/**
+	 * Retrieves the public profiles of many users at once, which needs no password.
+	 * 
+	 * @param userIds the userIds of the users to be retrieved (in the body of the request)
+	 * @return 	OK and the Users, in the order of userIds, skipping the userIds that do not
+	 * 			match an existing User. Only the userId, fullName and avatarUrl of each User
+	 * 			are filled in.
+	 * 			BAD_REQUEST if userIds is missing or has more entries than a server accepts at once
+	 */
+	@POST
+	@Path(BATCH)
+	@Consumes(MediaType.APPLICATION_JSON)
+	@Produces(MediaType.APPLICATION_JSON)
+	List<User> getUsersByIds(List<String> userIds);
+
 	/**
 	 * Modifies the information of a user. Values of null in any field of the user
 	 * will be considered as if the the fields is not to be modified (the id cannot
@@ -90,11 +144,18 @@ public interface RestUsers {
 	 * (of the user), case-insensitive. The password of the users returned by the
 	 * query must be set to the empty string "".
 	 * 
+	 * The users are ordered by userId and streamed as they are read, so the list may be
+	 * paged through with the cursor and limit parameters or fetched whole.
+	 * 
 	 * @param pattern substring to search (empty pattern translates to all users)
+	 * @param cursor the userId of the last user of the previous page, absent for the first page
+	 * @param limit the maximum number of users to return, absent or 0 for all of them
 	 * @return OK and the list of Users matching the search, regardless of the number of hits
 	 *         (including 0 hits)
+	 *         BAD_REQUEST if limit is negative
 	 */
 	@GET
 	@Produces(MediaType.APPLICATION_JSON)
-	List<User> searchUsers(@QueryParam(QUERY) String pattern);
+	StreamingOutput searchUsers(@QueryParam(QUERY) String pattern, @QueryParam(CURSOR) String cursor,
+			@QueryParam(LIMIT) int limit);
 }
\ No newline at end of file
@@ -3,7 +3,14 @@ package fctreddit.api.utils;
 import java.io.IOException;
 import java.net.*;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Logger;
 
 /**
@@ -31,6 +38,12 @@ public class Discovery {
     // Using concurrent map to ensure thread safety
     private final ConcurrentHashMap<String, ServiceInfo> services = new ConcurrentHashMap<>();
 
+    private record Lookup(String serviceName, int minReplies, CompletableFuture<URI[]> uris) {
+    }
+
+    // Lookups waiting for enough announcements of their service, completed by the listener
+    private final List<Lookup> lookups = new ArrayList<>();
+
     static {
         // addresses some multicast issues on some TCP/IP stacks
         System.setProperty("java.net.preferIPv4Stack", "true");
@@ -53,6 +66,8 @@ public class Discovery {
     private final String serviceName;
     private final String serviceURI;
     private final MulticastSocket ms;
+    private final AtomicBoolean listening = new AtomicBoolean();
+    private final AtomicBoolean announcing = new AtomicBoolean();
 
     // The single instance of Discovery.
     private static Discovery instance = null;
@@ -103,30 +118,47 @@ public class Discovery {
     }
 
     /**
-     * Starts sending service announcements at regular intervals...
-     * @throws IOException
+     * Starts collecting the announcements of other services and, if this instance was
+     * initialized with service information, announcing that service.
      */
     public void start() {
-        // If this discovery instance was initialized with service information,
-        // start the thread that makes the periodic announcement.
-        if (this.serviceName != null && this.serviceURI != null) {
-            Log.info(String.format("Starting Discovery announcements on: %s for: %s -> %s",
-                    addr, serviceName, serviceURI));
-
-            byte[] announceBytes = String.format("%s%s%s", serviceName, DELIMITER, serviceURI).getBytes();
-            DatagramPacket announcePkt = new DatagramPacket(announceBytes, announceBytes.length, addr);
-
-            new Thread(() -> {
-                while (true) {
-                    try {
-                        ms.send(announcePkt);
-                        Thread.sleep(DISCOVERY_ANNOUNCE_PERIOD);
-                    } catch (Exception e) {
-                        e.printStackTrace();
-                    }
+        listen();
+        announce();
+    }
+
+    /**
+     * Starts sending service announcements at regular intervals, if this instance was
+     * initialized with service information. A server calls it once it is ready to serve,
+     * so clients do not find it while it is still starting.
+     */
+    public void announce() {
+        if (this.serviceName == null || this.serviceURI == null || !announcing.compareAndSet(false, true))
+            return;
+
+        Log.info(String.format("Starting Discovery announcements on: %s for: %s -> %s",
+                addr, serviceName, serviceURI));
+
+        byte[] announceBytes = String.format("%s%s%s", serviceName, DELIMITER, serviceURI).getBytes();
+        DatagramPacket announcePkt = new DatagramPacket(announceBytes, announceBytes.length, addr);
+
+        new Thread(() -> {
+            while (true) {
+                try {
+                    ms.send(announcePkt);
+                    Thread.sleep(DISCOVERY_ANNOUNCE_PERIOD);
+                } catch (Exception e) {
+                    e.printStackTrace();
                 }
-            }).start();
-        }
+            }
+        }).start();
+    }
+
+    /**
+     * Starts collecting the announcements received from the network.
+     */
+    public void listen() {
+        if (!listening.compareAndSet(false, true))
+            return;
 
         // Start thread to collect announcements received from the network.
         new Thread(() -> {
@@ -156,6 +188,7 @@ public class Discovery {
                         }
 
                         info.serviceTimestamp = Instant.now();
+                        completeLookups(receivedServiceName);
                     }
                 } catch (IOException e) {
                     // Do nothing
@@ -174,15 +207,54 @@ public class Discovery {
      * @return an array of URI with the service instances discovered.
      */
     public URI[] knownUrisOf(String serviceName, int minReplies) {
-        while (true) {
-            ServiceInfo info = services.get(serviceName);
-            if (info != null && !info.serviceUris.isEmpty()) {
-                long elapsedMillis = Instant.now().toEpochMilli() - info.serviceTimestamp.toEpochMilli();
-                if (elapsedMillis <= DISCOVERY_ANNOUNCEMENT_EXPIRATION && info.serviceUris.size() >= minReplies) {
-                    return info.serviceUris.toArray(new URI[0]);
+        return urisOf(serviceName, minReplies).join();
+    }
+
+    /**
+     * Returns the known services, without blocking.
+     *
+     * @param serviceName the name of the service being discovered
+     * @param minReplies minimum number of requested URIs
+     * @return a future completed with the URIs of the service instances discovered, as soon
+     *         as there are at least minReplies of them.
+     */
+    public CompletableFuture<URI[]> urisOf(String serviceName, int minReplies) {
+        URI[] known = currentUrisOf(serviceName, minReplies);
+        if (known != null)
+            return CompletableFuture.completedFuture(known);
+
+        Lookup lookup = new Lookup(serviceName, minReplies, new CompletableFuture<>());
+        synchronized (lookups) {
+            lookups.add(lookup);
+        }
+        // An announcement may have been received before the lookup was registered
+        completeLookups(serviceName);
+        return lookup.uris();
+    }
+
+    private URI[] currentUrisOf(String serviceName, int minReplies) {
+        ServiceInfo info = services.get(serviceName);
+        if (info == null || info.serviceTimestamp == null || info.serviceUris.size() < minReplies)
+            return null;
+
+        long elapsedMillis = Instant.now().toEpochMilli() - info.serviceTimestamp.toEpochMilli();
+        return elapsedMillis <= DISCOVERY_ANNOUNCEMENT_EXPIRATION ? info.serviceUris.toArray(new URI[0]) : null;
+    }
+
+    private void completeLookups(String serviceName) {
+        Map<Lookup, URI[]> found = new HashMap<>();
+        synchronized (lookups) {
+            for (Iterator<Lookup> it = lookups.iterator(); it.hasNext();) {
+                Lookup lookup = it.next();
+                URI[] uris = lookup.serviceName().equals(serviceName) ? currentUrisOf(serviceName, lookup.minReplies()) : null;
+                if (uris != null) {
+                    it.remove();
+                    found.put(lookup, uris);
                 }
             }
         }
+        // Completed off the listener thread, which must not run the work waiting on them
+        found.forEach((lookup, uris) -> lookup.uris().completeAsync(() -> uris));
     }
 
     // Main method for testing purposes
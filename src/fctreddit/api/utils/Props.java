@@ -0,0 +1,55 @@
+package fctreddit.api.utils;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.Properties;
+import java.util.logging.Logger;
+
+/**
+ * Deployment settings, read from the fctreddit.props file of the working directory.
+ * A system property with the same name takes precedence over the file.
+ */
+public class Props {
+    private static final Logger Log = Logger.getLogger(Props.class.getName());
+
+    private static final String PROPS_FILE = "fctreddit.props";
+
+    private static Properties props;
+
+    private Props() {
+    }
+
+    /**
+     * @return the value of the setting, or defaultValue if it is not set
+     */
+    public static String get(String key, String defaultValue) {
+        String value = System.getProperty(key);
+        if (value == null)
+            value = load().getProperty(key);
+        return value == null || value.isBlank() ? defaultValue : value.trim();
+    }
+
+    /**
+     * @return the value of the setting, or defaultValue if it is not set or not a number
+     */
+    public static int getInt(String key, int defaultValue) {
+        try {
+            return Integer.parseInt(get(key, Integer.toString(defaultValue)));
+        } catch (NumberFormatException e) {
+            Log.warning("Ignoring invalid value for " + key + ": " + get(key, null));
+            return defaultValue;
+        }
+    }
+
+    private static synchronized Properties load() {
+        if (props == null) {
+            props = new Properties();
+            try (var in = new FileInputStream(PROPS_FILE)) {
+                props.load(in);
+            } catch (IOException e) {
+                Log.info("No " + PROPS_FILE + " found, using defaults.");
+            }
+        }
+        return props;
+    }
+}
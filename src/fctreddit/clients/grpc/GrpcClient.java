@@ -0,0 +1,63 @@
+package fctreddit.clients.grpc;
+
+import java.net.URI;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import fctreddit.api.java.Result;
+import fctreddit.api.java.Result.ErrorCode;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+
+public class GrpcClient {
+	private static final Logger Log = Logger.getLogger(GrpcClient.class.getName());
+
+	protected static final long GRPC_REQUEST_TIMEOUT = 5000;
+
+	final URI serverURI;
+	final ManagedChannel channel;
+
+	protected GrpcClient(URI serverURI) {
+		this.serverURI = serverURI;
+		this.channel = ManagedChannelBuilder.forAddress(serverURI.getHost(), serverURI.getPort())
+				.usePlaintext()
+				.build();
+	}
+
+	/**
+	 * Runs a call, returning its value, or the error code matching the status it failed with
+	 */
+	protected <T> Result<T> toJavaResult(Supplier<T> call) {
+		try {
+			return Result.ok(call.get());
+		} catch (StatusRuntimeException x) {
+			return Result.error(statusToErrorCode(x.getStatus()));
+		}
+	}
+
+	/**
+	 * Translates a gRPC status to the matching Result error code
+	 */
+	protected static ErrorCode statusToErrorCode(Status status) {
+		return switch (status.getCode()) {
+			case OK -> ErrorCode.OK;
+			case NOT_FOUND -> ErrorCode.NOT_FOUND;
+			case ALREADY_EXISTS -> ErrorCode.CONFLICT;
+			case PERMISSION_DENIED -> ErrorCode.FORBIDDEN;
+			case INVALID_ARGUMENT -> ErrorCode.BAD_REQUEST;
+			case UNIMPLEMENTED -> ErrorCode.NOT_IMPLEMENTED;
+			case DEADLINE_EXCEEDED, UNAVAILABLE -> {
+				Log.info("Timeout: " + status);
+				yield ErrorCode.TIMEOUT;
+			}
+			default -> ErrorCode.INTERNAL_ERROR;
+		};
+	}
+
+	@Override
+	public String toString() {
+		return serverURI.toString();
+	}
+}
@@ -1,4 +1,222 @@
 package fctreddit.clients.grpc;
 
-public class GrpcUsersClient {
+import static fctreddit.server.grpc.DataModelAdaptor.GrpcUser_to_User;
+import static fctreddit.server.grpc.DataModelAdaptor.User_to_GrpcUser;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
+
+import fctreddit.api.User;
+import fctreddit.api.java.AsyncUsers;
+import fctreddit.api.java.Result;
+import fctreddit.api.java.Result.ErrorCode;
+import fctreddit.impl.grpc.generated_java.UsersGrpc;
+import fctreddit.impl.grpc.generated_java.UsersProtoBuf.CreateUserArgs;
+import fctreddit.impl.grpc.generated_java.UsersProtoBuf.CreateUsersResult;
+import fctreddit.impl.grpc.generated_java.UsersProtoBuf.DeleteUserArgs;
+import fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs;
+import fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult;
+import fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUsersByIdsArgs;
+import fctreddit.impl.grpc.generated_java.UsersProtoBuf.GrpcUser;
+import fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginArgs;
+import fctreddit.impl.grpc.generated_java.UsersProtoBuf.SearchUserArgs;
+import fctreddit.impl.grpc.generated_java.UsersProtoBuf.UpdateUserArgs;
+import io.grpc.Status;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import io.grpc.stub.StreamObserver;
+
+/**
+ * Client of the Users service over gRPC. The asynchronous operations use the
+ * non-blocking stub, so no thread waits for their replies.
+ */
+public class GrpcUsersClient extends GrpcClient implements AsyncUsers {
+	private static final Logger Log = Logger.getLogger(GrpcUsersClient.class.getName());
+
+	// The part of the deadline of an import given to each user
+	private static final long IMPORT_MILLIS_PER_USER = 5;
+
+	final UsersGrpc.UsersBlockingStub stub;
+	final UsersGrpc.UsersStub asyncStub;
+
+	public GrpcUsersClient(URI serverURI) {
+		super(serverURI);
+		Log.info("Using server URI: " + serverURI);
+		this.stub = UsersGrpc.newBlockingStub(channel);
+		this.asyncStub = UsersGrpc.newStub(channel);
+	}
+
+	private UsersGrpc.UsersBlockingStub stub() {
+		return stub.withDeadlineAfter(GRPC_REQUEST_TIMEOUT, TimeUnit.MILLISECONDS);
+	}
+
+	private UsersGrpc.UsersStub asyncStub() {
+		return asyncStub.withDeadlineAfter(GRPC_REQUEST_TIMEOUT, TimeUnit.MILLISECONDS);
+	}
+
+	@Override
+	public Result<String> createUser(User user) {
+		return toJavaResult(() -> stub().createUser(CreateUserArgs.newBuilder()
+				.setUser(User_to_GrpcUser(user))
+				.build()).getUserId());
+	}
+
+	/**
+	 * Users are sent as the call becomes ready for them, so a slow server holds the sender back
+	 * instead of the users piling up in the channel. The deadline grows with the number of users.
+	 */
+	@Override
+	public Result<List<ErrorCode>> createUsers(List<User> users) {
+		if (users == null)
+			return Result.error(ErrorCode.BAD_REQUEST);
+
+		long timeout = GRPC_REQUEST_TIMEOUT + users.size() * IMPORT_MILLIS_PER_USER;
+		var future = new CompletableFuture<Result<List<ErrorCode>>>();
+		asyncStub.withDeadlineAfter(timeout, TimeUnit.MILLISECONDS).createUsers(new ClientResponseObserver<CreateUserArgs, CreateUsersResult>() {
+			@Override
+			public void beforeStart(ClientCallStreamObserver<CreateUserArgs> requests) {
+				var pending = users.iterator();
+				var done = new AtomicBoolean();
+				requests.setOnReadyHandler(() -> {
+					while (requests.isReady() && pending.hasNext())
+						requests.onNext(CreateUserArgs.newBuilder().setUser(User_to_GrpcUser(pending.next())).build());
+					if (!pending.hasNext() && done.compareAndSet(false, true))
+						requests.onCompleted();
+				});
+			}
+
+			@Override
+			public void onNext(CreateUsersResult result) {
+				future.complete(Result.ok(result.getStatusList().stream().map(ErrorCode::valueOf).toList()));
+			}
+
+			@Override
+			public void onError(Throwable t) {
+				future.complete(Result.error(statusToErrorCode(Status.fromThrowable(t))));
+			}
+
+			@Override
+			public void onCompleted() {
+			}
+		});
+
+		// The deadline ends the call, this only bounds the wait should that never be reported
+		return future.completeOnTimeout(Result.error(ErrorCode.TIMEOUT), timeout + GRPC_REQUEST_TIMEOUT, TimeUnit.MILLISECONDS)
+				.join();
+	}
+
+	@Override
+	public Result<User> getUser(String userId, String pwd) {
+		return toJavaResult(() -> GrpcUser_to_User(stub().getUser(getUserArgs(userId, pwd)).getUser()));
+	}
+
+	@Override
+	public CompletableFuture<Result<User>> getUserAsync(String userId, String pwd) {
+		var future = new CompletableFuture<Result<User>>();
+		asyncStub().getUser(getUserArgs(userId, pwd), new StreamObserver<GetUserResult>() {
+			@Override
+			public void onNext(GetUserResult result) {
+				future.complete(Result.ok(GrpcUser_to_User(result.getUser())));
+			}
+
+			@Override
+			public void onError(Throwable t) {
+				future.complete(Result.error(statusToErrorCode(Status.fromThrowable(t))));
+			}
+
+			@Override
+			public void onCompleted() {
+			}
+		});
+		return future;
+	}
+
+	private static GetUserArgs getUserArgs(String userId, String pwd) {
+		var b = GetUserArgs.newBuilder().setUserId(userId);
+		if (pwd != null)
+			b.setPassword(pwd);
+		return b.build();
+	}
+
+	@Override
+	public Result<String> login(String userId, String pwd) {
+		var b = LoginArgs.newBuilder().setUserId(userId);
+		if (pwd != null)
+			b.setPassword(pwd);
+		return toJavaResult(() -> stub().login(b.build()).getToken());
+	}
+
+	@Override
+	public Result<List<User>> getUsersByIds(List<String> userIds) {
+		return getUsersByIdsAsync(userIds).join();
+	}
+
+	@Override
+	public CompletableFuture<Result<List<User>>> getUsersByIdsAsync(List<String> userIds) {
+		if (userIds == null)
+			return CompletableFuture.completedFuture(Result.error(ErrorCode.BAD_REQUEST));
+
+		var future = new CompletableFuture<Result<List<User>>>();
+		asyncStub().getUsersByIds(GetUsersByIdsArgs.newBuilder().addAllUserId(userIds).build(), new StreamObserver<GrpcUser>() {
+			final List<User> users = new ArrayList<>();
+
+			@Override
+			public void onNext(GrpcUser user) {
+				users.add(GrpcUser_to_User(user));
+			}
+
+			@Override
+			public void onError(Throwable t) {
+				future.complete(Result.error(statusToErrorCode(Status.fromThrowable(t))));
+			}
+
+			@Override
+			public void onCompleted() {
+				future.complete(Result.ok(users));
+			}
+		});
+		return future;
+	}
+
+	@Override
+	public Result<User> updateUser(String userId, String pwd, User user) {
+		return toJavaResult(() -> GrpcUser_to_User(stub().updateUser(UpdateUserArgs.newBuilder()
+				.setUserId(userId)
+				.setPassword(pwd)
+				.setUser(User_to_GrpcUser(user))
+				.build()).getUser()));
+	}
+
+	@Override
+	public Result<User> deleteUser(String userId, String pwd) {
+		return toJavaResult(() -> GrpcUser_to_User(stub().deleteUser(DeleteUserArgs.newBuilder()
+				.setUserId(userId)
+				.setPassword(pwd)
+				.build()).getUser()));
+	}
+
+	@Override
+	public Result<List<User>> searchUsers(String pattern) {
+		return searchUsers(pattern, null, 0);
+	}
+
+	@Override
+	public Result<List<User>> searchUsers(String pattern, String cursor, int limit) {
+		var b = SearchUserArgs.newBuilder().setLimit(limit);
+		if (pattern != null)
+			b.setPattern(pattern);
+		if (cursor != null)
+			b.setCursor(cursor);
+
+		return toJavaResult(() -> {
+			List<User> users = new ArrayList<>();
+			stub().searchUsers(b.build()).forEachRemaining(user -> users.add(GrpcUser_to_User(user)));
+			return users;
+		});
+	}
 }
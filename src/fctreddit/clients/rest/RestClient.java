@@ -10,6 +10,10 @@ import org.glassfish.jersey.client.ClientConfig;
 import org.glassfish.jersey.client.ClientProperties;
 
 import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import java.util.logging.Logger;
 
@@ -49,6 +53,39 @@ public class RestClient {
         return Result.error(ErrorCode.TIMEOUT);
     }
 
+    /**
+     * Asynchronous variant of reTry: a request that does not reach the server is sent again
+     * after RETRY_SLEEP, with no thread waiting in between.
+     */
+    protected <T> CompletableFuture<Result<T>> reTryAsync(Supplier<CompletionStage<Result<T>>> func) {
+        return reTryAsync(func, 0);
+    }
+
+    private <T> CompletableFuture<Result<T>> reTryAsync(Supplier<CompletionStage<Result<T>>> func, int attempt) {
+        if (attempt == MAX_RETRIES)
+            return CompletableFuture.completedFuture(Result.error(ErrorCode.TIMEOUT));
+
+        CompletableFuture<Result<T>> pending;
+        try {
+            pending = func.get().toCompletableFuture();
+        } catch (Exception x) {
+            pending = CompletableFuture.failedFuture(x);
+        }
+        return pending.handle((res, x) -> {
+            if (x == null)
+                return CompletableFuture.completedFuture(res);
+
+            Throwable cause = x instanceof CompletionException && x.getCause() != null ? x.getCause() : x;
+            if (cause instanceof ProcessingException) {
+                Log.info("Timeout: " + cause.getMessage());
+                var later = CompletableFuture.delayedExecutor(RETRY_SLEEP, TimeUnit.MILLISECONDS);
+                return CompletableFuture.supplyAsync(() -> attempt + 1, later).thenCompose(next -> reTryAsync(func, next));
+            }
+            cause.printStackTrace();
+            return CompletableFuture.completedFuture(Result.<T>error(ErrorCode.INTERNAL_ERROR));
+        }).thenCompose(next -> next);
+    }
+
     protected <T> Result<T> toJavaResult(Response r, Class<T> entityType) {
         try {
             int status = r.getStatus();
@@ -1,6 +1,7 @@
 package fctreddit.clients.rest;
 
 import fctreddit.api.Post;
+import fctreddit.api.PostsPage;
 import fctreddit.api.java.Content;
 import fctreddit.api.java.Result;
 import fctreddit.api.rest.RestContent;
@@ -9,9 +10,12 @@ import jakarta.ws.rs.client.WebTarget;
 import jakarta.ws.rs.core.GenericType;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import org.glassfish.jersey.client.ClientProperties;
 
 import java.net.URI;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.logging.Logger;
 
 public class RestContentClient extends RestClient implements Content {
@@ -59,6 +63,25 @@ public class RestContentClient extends RestClient implements Content {
         }
     }
 
+    private Result<PostsPage> clt_getPostsPage(long timestamp, String sortOrder, String cursor, int limit) {
+        WebTarget t = target.path(RestContent.PAGE).queryParam(RestContent.LIMIT, limit);
+
+        if (timestamp > 0)
+            t = t.queryParam(RestContent.TIMESTAMP, timestamp);
+
+        if (sortOrder != null)
+            t = t.queryParam(RestContent.SORTBY, sortOrder);
+
+        if (cursor != null)
+            t = t.queryParam(RestContent.CURSOR, cursor);
+
+        Response r = t.request()
+                .accept(MediaType.APPLICATION_JSON)
+                .get();
+
+        return super.toJavaResult(r, PostsPage.class);
+    }
+
     private Result<Post> clt_getPost(String postId) {
         Response r = target.path(postId)
                 .request()
@@ -68,10 +91,34 @@ public class RestContentClient extends RestClient implements Content {
         return super.toJavaResult(r, Post.class);
     }
 
-    private Result<List<String>> clt_getPostAnswers(String postId) {
-        Response r = target.path(postId).path(RestContent.REPLIES)
+    private Result<List<Post>> clt_getPostsByIds(List<String> postIds) {
+        Response r = target.path(RestContent.BATCH)
                 .request()
                 .accept(MediaType.APPLICATION_JSON)
+                .post(Entity.entity(postIds, MediaType.APPLICATION_JSON));
+
+        try {
+            int status = r.getStatus();
+            if (status != Response.Status.OK.getStatusCode())
+                return Result.error(getErrorCodeFrom(status));
+            else
+                return Result.ok(r.readEntity(new GenericType<List<Post>>() {}));
+        } finally {
+            r.close();
+        }
+    }
+
+    private Result<List<String>> clt_getPostAnswers(String postId, long maxTimeout) {
+        WebTarget t = target.path(postId).path(RestContent.REPLIES);
+
+        if (maxTimeout > 0)
+            t = t.queryParam(RestContent.TIMEOUT, maxTimeout);
+
+        // The server may legitimately hold the reply for up to maxTimeout, so the read
+        // timeout of this request has to cover it on top of the usual allowance
+        Response r = t.request()
+                .property(ClientProperties.READ_TIMEOUT, (int) Math.min(Integer.MAX_VALUE, READ_TIMEOUT + Math.max(0, maxTimeout)))
+                .accept(MediaType.APPLICATION_JSON)
                 .get();
 
         try {
@@ -198,6 +245,42 @@ public class RestContentClient extends RestClient implements Content {
         return super.reTry(() -> clt_getPosts(timestamp, sortOrder));
     }
 
+    public Result<PostsPage> getPosts(long timestamp, String sortOrder, String cursor, int limit) {
+        return super.reTry(() -> clt_getPostsPage(timestamp, sortOrder, cursor, limit));
+    }
+
+    /**
+     * Iterates over the PostIds returned by getPosts, fetching them from the server one page
+     * at a time, only as the iteration advances.
+     *
+     * @throws IllegalStateException from the iterator if fetching a page fails
+     */
+    public Iterator<String> iteratePosts(long timestamp, String sortOrder, int pageSize) {
+        return new Iterator<>() {
+            private Iterator<String> page = null;
+            private String cursor = null;
+
+            @Override
+            public boolean hasNext() {
+                while (page == null || (!page.hasNext() && cursor != null)) {
+                    Result<PostsPage> res = getPosts(timestamp, sortOrder, cursor, pageSize);
+                    if (!res.isOK())
+                        throw new IllegalStateException("Unable to fetch posts: " + res.error());
+                    page = res.value().getPostIds().iterator();
+                    cursor = res.value().getNextCursor();
+                }
+                return page.hasNext();
+            }
+
+            @Override
+            public String next() {
+                if (!hasNext())
+                    throw new NoSuchElementException();
+                return page.next();
+            }
+        };
+    }
+
     public Result<Post> getPost(String postId) {
         // Original implementation didn't use retry logic for this method
         try {
@@ -208,13 +291,18 @@ public class RestContentClient extends RestClient implements Content {
         }
     }
 
+    @Override
+    public Result<List<Post>> getPostsByIds(List<String> postIds) {
+        return super.reTry(() -> clt_getPostsByIds(postIds));
+    }
+
     @Override
     public Result<List<String>> getPostAnswers(String postId, long maxTimeout) {
-        return null;
+        return super.reTry(() -> clt_getPostAnswers(postId, maxTimeout));
     }
 
     public Result<List<String>> getPostAnswers(String postId) {
-        return super.reTry(() -> clt_getPostAnswers(postId));
+        return getPostAnswers(postId, 0);
     }
 
     public Result<Post> updatePost(String postId, String userPassword, Post post) {
@@ -243,7 +331,7 @@ public class RestContentClient extends RestClient implements Content {
 
     @Override
     public Result<Integer> getupVotes(String postId) {
-        return null;
+        return getUpVotes(postId);
     }
 
     public Result<Integer> getUpVotes(String postId) {
@@ -1,8 +1,9 @@
 package fctreddit.clients.rest;
 
 import fctreddit.api.User;
+import fctreddit.api.java.AsyncUsers;
 import fctreddit.api.java.Result;
-import fctreddit.api.java.Users;
+import fctreddit.api.java.Result.ErrorCode;
 import fctreddit.api.rest.RestUsers;
 import fctreddit.api.utils.Discovery;
 import jakarta.ws.rs.client.Entity;
@@ -13,9 +14,11 @@ import jakarta.ws.rs.core.Response;
 
 import java.net.URI;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.logging.Logger;
 
-public class RestUsersClient extends RestClient implements Users {
+public class RestUsersClient extends RestClient implements AsyncUsers {
 	private static final Logger Log = Logger.getLogger(RestUsersClient.class.getName());
 
 	final WebTarget target;
@@ -52,6 +55,23 @@ public class RestUsersClient extends RestClient implements Users {
 		return super.toJavaResult(r, String.class);
 	}
 
+	private Result<List<ErrorCode>> clt_createUsers(List<User> users) {
+		Response r = target.path(RestUsers.IMPORT).request()
+				.accept(MediaType.APPLICATION_JSON)
+				.post(Entity.entity(users, MediaType.APPLICATION_JSON));
+
+		try {
+			int status = r.getStatus();
+			if (status == Response.Status.OK.getStatusCode() && r.hasEntity()) {
+				return Result.ok(r.readEntity(new GenericType<List<ErrorCode>>() {}));
+			} else {
+				return Result.error(getErrorCodeFrom(status));
+			}
+		} finally {
+			r.close();
+		}
+	}
+
 	private Result<User> clt_getUser(String userId, String pwd) {
 		Response r = target.path(userId)
 				.queryParam(RestUsers.PASSWORD, pwd).request()
@@ -61,6 +81,58 @@ public class RestUsersClient extends RestClient implements Users {
 		return super.toJavaResult(r, User.class);
 	}
 
+	private CompletionStage<Result<User>> clt_getUserAsync(String userId, String pwd) {
+		return target.path(userId)
+				.queryParam(RestUsers.PASSWORD, pwd).request()
+				.accept(MediaType.APPLICATION_JSON)
+				.rx().get()
+				.thenApply(r -> toJavaResult(r, User.class));
+	}
+
+	private Result<String> clt_login(String userId, String pwd) {
+		Response r = target.path(userId).path(RestUsers.SESSION)
+				.queryParam(RestUsers.PASSWORD, pwd).request()
+				.accept(MediaType.APPLICATION_JSON)
+				.post(Entity.entity("", MediaType.APPLICATION_JSON));
+
+		return super.toJavaResult(r, String.class);
+	}
+
+	private Result<List<User>> clt_getUsersByIds(List<String> userIds) {
+		Response r = target.path(RestUsers.BATCH).request()
+				.accept(MediaType.APPLICATION_JSON)
+				.post(Entity.entity(userIds, MediaType.APPLICATION_JSON));
+
+		try {
+			int status = r.getStatus();
+			if (status == Response.Status.OK.getStatusCode() && r.hasEntity()) {
+				return Result.ok(r.readEntity(new GenericType<List<User>>() {}));
+			} else {
+				return Result.error(getErrorCodeFrom(status));
+			}
+		} finally {
+			r.close();
+		}
+	}
+
+	private CompletionStage<Result<List<User>>> clt_getUsersByIdsAsync(List<String> userIds) {
+		return target.path(RestUsers.BATCH).request()
+				.accept(MediaType.APPLICATION_JSON)
+				.rx().post(Entity.entity(userIds, MediaType.APPLICATION_JSON))
+				.thenApply(r -> {
+					try {
+						int status = r.getStatus();
+						if (status == Response.Status.OK.getStatusCode() && r.hasEntity()) {
+							return Result.ok(r.readEntity(new GenericType<List<User>>() {}));
+						} else {
+							return Result.error(getErrorCodeFrom(status));
+						}
+					} finally {
+						r.close();
+					}
+				});
+	}
+
 	private Result<User> clt_updateUser(String userId, String pwd, User user) {
 		Response r = target.path(userId)
 				.queryParam(RestUsers.PASSWORD, pwd).request()
@@ -96,16 +168,58 @@ public class RestUsersClient extends RestClient implements Users {
 		}
 	}
 
+	private Result<List<User>> clt_searchUsers(String pattern, String cursor, int limit) {
+		WebTarget t = target.queryParam(RestUsers.QUERY, pattern).queryParam(RestUsers.LIMIT, limit);
+
+		if (cursor != null)
+			t = t.queryParam(RestUsers.CURSOR, cursor);
+
+		Response r = t.request()
+				.accept(MediaType.APPLICATION_JSON)
+				.get();
+
+		try {
+			int status = r.getStatus();
+			if (status == Response.Status.OK.getStatusCode() && r.hasEntity()) {
+				return Result.ok(r.readEntity(new GenericType<List<User>>() {}));
+			} else {
+				return Result.error(getErrorCodeFrom(status));
+			}
+		} finally {
+			r.close();
+		}
+	}
+
 	// Public API methods that use retry logic
 
 	public Result<String> createUser(User user) {
 		return super.reTry(() -> clt_createUser(user));
 	}
 
+	public Result<List<ErrorCode>> createUsers(List<User> users) {
+		return super.reTry(() -> clt_createUsers(users));
+	}
+
 	public Result<User> getUser(String userId, String pwd) {
 		return super.reTry(() -> clt_getUser(userId, pwd));
 	}
 
+	public CompletableFuture<Result<User>> getUserAsync(String userId, String pwd) {
+		return super.reTryAsync(() -> clt_getUserAsync(userId, pwd));
+	}
+
+	public Result<String> login(String userId, String pwd) {
+		return super.reTry(() -> clt_login(userId, pwd));
+	}
+
+	public Result<List<User>> getUsersByIds(List<String> userIds) {
+		return super.reTry(() -> clt_getUsersByIds(userIds));
+	}
+
+	public CompletableFuture<Result<List<User>>> getUsersByIdsAsync(List<String> userIds) {
+		return super.reTryAsync(() -> clt_getUsersByIdsAsync(userIds));
+	}
+
 	public Result<User> updateUser(String userId, String pwd, User user) {
 		return super.reTry(() -> clt_updateUser(userId, pwd, user));
 	}
@@ -117,4 +231,8 @@ public class RestUsersClient extends RestClient implements Users {
 	public Result<List<User>> searchUsers(String pattern) {
 		return super.reTry(() -> clt_searchUsers(pattern));
 	}
-}
\ No newline at end of file
+
+	public Result<List<User>> searchUsers(String pattern, String cursor, int limit) {
+		return super.reTry(() -> clt_searchUsers(pattern, cursor, limit));
+	}
+}
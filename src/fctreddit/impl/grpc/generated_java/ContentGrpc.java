@@ -108,6 +108,37 @@ public final class ContentGrpc {
     return getGetPostMethod;
   }
 
+  private static volatile io.grpc.MethodDescriptor<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByIdsArgs,
+      fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost> getGetPostsByIdsMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "getPostsByIds",
+      requestType = fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByIdsArgs.class,
+      responseType = fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+  public static io.grpc.MethodDescriptor<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByIdsArgs,
+      fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost> getGetPostsByIdsMethod() {
+    io.grpc.MethodDescriptor<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByIdsArgs, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost> getGetPostsByIdsMethod;
+    if ((getGetPostsByIdsMethod = ContentGrpc.getGetPostsByIdsMethod) == null) {
+      synchronized (ContentGrpc.class) {
+        if ((getGetPostsByIdsMethod = ContentGrpc.getGetPostsByIdsMethod) == null) {
+          ContentGrpc.getGetPostsByIdsMethod = getGetPostsByIdsMethod =
+              io.grpc.MethodDescriptor.<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByIdsArgs, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "getPostsByIds"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByIdsArgs.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost.getDefaultInstance()))
+              .setSchemaDescriptor(new ContentMethodDescriptorSupplier("getPostsByIds"))
+              .build();
+        }
+      }
+    }
+    return getGetPostsByIdsMethod;
+  }
+
   private static volatile io.grpc.MethodDescriptor<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs,
       fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsResult> getGetPostAnswersMethod;
 
@@ -456,6 +487,13 @@ public final class ContentGrpc {
       io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetPostMethod(), responseObserver);
     }
 
+    /**
+     */
+    default void getPostsByIds(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByIdsArgs request,
+        io.grpc.stub.StreamObserver<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetPostsByIdsMethod(), responseObserver);
+    }
+
     /**
      */
     default void getPostAnswers(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs request,
@@ -571,6 +609,14 @@ public final class ContentGrpc {
           getChannel().newCall(getGetPostMethod(), getCallOptions()), request, responseObserver);
     }
 
+    /**
+     */
+    public void getPostsByIds(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByIdsArgs request,
+        io.grpc.stub.StreamObserver<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncServerStreamingCall(
+          getChannel().newCall(getGetPostsByIdsMethod(), getCallOptions()), request, responseObserver);
+    }
+
     /**
      */
     public void getPostAnswers(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs request,
@@ -681,6 +727,14 @@ public final class ContentGrpc {
           getChannel(), getGetPostMethod(), getCallOptions(), request);
     }
 
+    /**
+     */
+    public java.util.Iterator<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost> getPostsByIds(
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByIdsArgs request) {
+      return io.grpc.stub.ClientCalls.blockingServerStreamingCall(
+          getChannel(), getGetPostsByIdsMethod(), getCallOptions(), request);
+    }
+
     /**
      */
     public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsResult getPostAnswers(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs request) {
@@ -861,15 +915,16 @@ public final class ContentGrpc {
   private static final int METHODID_CREATE_POST = 0;
   private static final int METHODID_GET_POSTS = 1;
   private static final int METHODID_GET_POST = 2;
-  private static final int METHODID_GET_POST_ANSWERS = 3;
-  private static final int METHODID_UPDATE_POST = 4;
-  private static final int METHODID_DELETE_POST = 5;
-  private static final int METHODID_UP_VOTE_POST = 6;
-  private static final int METHODID_REMOVE_UP_VOTE_POST = 7;
-  private static final int METHODID_DOWN_VOTE_POST = 8;
-  private static final int METHODID_REMOVE_DOWN_VOTE_POST = 9;
-  private static final int METHODID_GET_UP_VOTES = 10;
-  private static final int METHODID_GET_DOWN_VOTES = 11;
+  private static final int METHODID_GET_POSTS_BY_IDS = 3;
+  private static final int METHODID_GET_POST_ANSWERS = 4;
+  private static final int METHODID_UPDATE_POST = 5;
+  private static final int METHODID_DELETE_POST = 6;
+  private static final int METHODID_UP_VOTE_POST = 7;
+  private static final int METHODID_REMOVE_UP_VOTE_POST = 8;
+  private static final int METHODID_DOWN_VOTE_POST = 9;
+  private static final int METHODID_REMOVE_DOWN_VOTE_POST = 10;
+  private static final int METHODID_GET_UP_VOTES = 11;
+  private static final int METHODID_GET_DOWN_VOTES = 12;
 
   private static final class MethodHandlers<Req, Resp> implements
       io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
@@ -900,6 +955,10 @@ public final class ContentGrpc {
           serviceImpl.getPost((fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs) request,
               (io.grpc.stub.StreamObserver<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost>) responseObserver);
           break;
+        case METHODID_GET_POSTS_BY_IDS:
+          serviceImpl.getPostsByIds((fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByIdsArgs) request,
+              (io.grpc.stub.StreamObserver<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost>) responseObserver);
+          break;
         case METHODID_GET_POST_ANSWERS:
           serviceImpl.getPostAnswers((fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs) request,
               (io.grpc.stub.StreamObserver<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsResult>) responseObserver);
@@ -975,6 +1034,13 @@ public final class ContentGrpc {
               fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs,
               fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost>(
                 service, METHODID_GET_POST)))
+        .addMethod(
+          getGetPostsByIdsMethod(),
+          io.grpc.stub.ServerCalls.asyncServerStreamingCall(
+            new MethodHandlers<
+              fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByIdsArgs,
+              fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost>(
+                service, METHODID_GET_POSTS_BY_IDS)))
         .addMethod(
           getGetPostAnswersMethod(),
           io.grpc.stub.ServerCalls.asyncUnaryCall(
@@ -1089,6 +1155,7 @@ public final class ContentGrpc {
               .addMethod(getCreatePostMethod())
               .addMethod(getGetPostsMethod())
               .addMethod(getGetPostMethod())
+              .addMethod(getGetPostsByIdsMethod())
               .addMethod(getGetPostAnswersMethod())
               .addMethod(getUpdatePostMethod())
               .addMethod(getDeletePostMethod())
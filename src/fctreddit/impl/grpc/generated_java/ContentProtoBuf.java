@@ -3042,6 +3042,34 @@ public final class ContentProtoBuf {
      */
     com.google.protobuf.ByteString
         getSortOrderBytes();
+
+    /**
+     * <code>optional string cursor = 3;</code>
+     * @return Whether the cursor field is set.
+     */
+    boolean hasCursor();
+    /**
+     * <code>optional string cursor = 3;</code>
+     * @return The cursor.
+     */
+    java.lang.String getCursor();
+    /**
+     * <code>optional string cursor = 3;</code>
+     * @return The bytes for cursor.
+     */
+    com.google.protobuf.ByteString
+        getCursorBytes();
+
+    /**
+     * <code>optional int32 limit = 4;</code>
+     * @return Whether the limit field is set.
+     */
+    boolean hasLimit();
+    /**
+     * <code>optional int32 limit = 4;</code>
+     * @return The limit.
+     */
+    int getLimit();
   }
   /**
    * Protobuf type {@code GetPostsArgs}
@@ -3057,6 +3085,7 @@ public final class ContentProtoBuf {
     }
     private GetPostsArgs() {
       sortOrder_ = "";
+      cursor_ = "";
     }
 
     @java.lang.Override
@@ -3101,6 +3130,17 @@ public final class ContentProtoBuf {
               sortOrder_ = s;
               break;
             }
+            case 26: {
+              java.lang.String s = input.readStringRequireUtf8();
+              bitField0_ |= 0x00000004;
+              cursor_ = s;
+              break;
+            }
+            case 32: {
+              bitField0_ |= 0x00000008;
+              limit_ = input.readInt32();
+              break;
+            }
             default: {
               if (!parseUnknownField(
                   input, unknownFields, extensionRegistry, tag)) {
@@ -3201,6 +3241,71 @@ public final class ContentProtoBuf {
       }
     }
 
+    public static final int CURSOR_FIELD_NUMBER = 3;
+    private volatile java.lang.Object cursor_;
+    /**
+     * <code>optional string cursor = 3;</code>
+     * @return Whether the cursor field is set.
+     */
+    @java.lang.Override
+    public boolean hasCursor() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>optional string cursor = 3;</code>
+     * @return The cursor.
+     */
+    @java.lang.Override
+    public java.lang.String getCursor() {
+      java.lang.Object ref = cursor_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        cursor_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string cursor = 3;</code>
+     * @return The bytes for cursor.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getCursorBytes() {
+      java.lang.Object ref = cursor_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        cursor_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int LIMIT_FIELD_NUMBER = 4;
+    private int limit_;
+    /**
+     * <code>optional int32 limit = 4;</code>
+     * @return Whether the limit field is set.
+     */
+    @java.lang.Override
+    public boolean hasLimit() {
+      return ((bitField0_ & 0x00000008) != 0);
+    }
+    /**
+     * <code>optional int32 limit = 4;</code>
+     * @return The limit.
+     */
+    @java.lang.Override
+    public int getLimit() {
+      return limit_;
+    }
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -3221,6 +3326,12 @@ public final class ContentProtoBuf {
       if (((bitField0_ & 0x00000002) != 0)) {
         com.google.protobuf.GeneratedMessageV3.writeString(output, 2, sortOrder_);
       }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, cursor_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        output.writeInt32(4, limit_);
+      }
       unknownFields.writeTo(output);
     }
 
@@ -3237,6 +3348,13 @@ public final class ContentProtoBuf {
       if (((bitField0_ & 0x00000002) != 0)) {
         size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, sortOrder_);
       }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, cursor_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(4, limit_);
+      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -3262,6 +3380,16 @@ public final class ContentProtoBuf {
         if (!getSortOrder()
             .equals(other.getSortOrder())) return false;
       }
+      if (hasCursor() != other.hasCursor()) return false;
+      if (hasCursor()) {
+        if (!getCursor()
+            .equals(other.getCursor())) return false;
+      }
+      if (hasLimit() != other.hasLimit()) return false;
+      if (hasLimit()) {
+        if (getLimit()
+            != other.getLimit()) return false;
+      }
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -3282,6 +3410,14 @@ public final class ContentProtoBuf {
         hash = (37 * hash) + SORTORDER_FIELD_NUMBER;
         hash = (53 * hash) + getSortOrder().hashCode();
       }
+      if (hasCursor()) {
+        hash = (37 * hash) + CURSOR_FIELD_NUMBER;
+        hash = (53 * hash) + getCursor().hashCode();
+      }
+      if (hasLimit()) {
+        hash = (37 * hash) + LIMIT_FIELD_NUMBER;
+        hash = (53 * hash) + getLimit();
+      }
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -3419,6 +3555,10 @@ public final class ContentProtoBuf {
         bitField0_ = (bitField0_ & ~0x00000001);
         sortOrder_ = "";
         bitField0_ = (bitField0_ & ~0x00000002);
+        cursor_ = "";
+        bitField0_ = (bitField0_ & ~0x00000004);
+        limit_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000008);
         return this;
       }
 
@@ -3455,6 +3595,14 @@ public final class ContentProtoBuf {
           to_bitField0_ |= 0x00000002;
         }
         result.sortOrder_ = sortOrder_;
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.cursor_ = cursor_;
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.limit_ = limit_;
+          to_bitField0_ |= 0x00000008;
+        }
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -3512,6 +3660,14 @@ public final class ContentProtoBuf {
           sortOrder_ = other.sortOrder_;
           onChanged();
         }
+        if (other.hasCursor()) {
+          bitField0_ |= 0x00000004;
+          cursor_ = other.cursor_;
+          onChanged();
+        }
+        if (other.hasLimit()) {
+          setLimit(other.getLimit());
+        }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
@@ -3663,6 +3819,128 @@ public final class ContentProtoBuf {
         onChanged();
         return this;
       }
+
+      private java.lang.Object cursor_ = "";
+      /**
+       * <code>optional string cursor = 3;</code>
+       * @return Whether the cursor field is set.
+       */
+      public boolean hasCursor() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>optional string cursor = 3;</code>
+       * @return The cursor.
+       */
+      public java.lang.String getCursor() {
+        java.lang.Object ref = cursor_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          cursor_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string cursor = 3;</code>
+       * @return The bytes for cursor.
+       */
+      public com.google.protobuf.ByteString
+          getCursorBytes() {
+        java.lang.Object ref = cursor_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          cursor_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string cursor = 3;</code>
+       * @param value The cursor to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCursor(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        cursor_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string cursor = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCursor() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        cursor_ = getDefaultInstance().getCursor();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string cursor = 3;</code>
+       * @param value The bytes for cursor to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCursorBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        bitField0_ |= 0x00000004;
+        cursor_ = value;
+        onChanged();
+        return this;
+      }
+
+      private int limit_ ;
+      /**
+       * <code>optional int32 limit = 4;</code>
+       * @return Whether the limit field is set.
+       */
+      @java.lang.Override
+      public boolean hasLimit() {
+        return ((bitField0_ & 0x00000008) != 0);
+      }
+      /**
+       * <code>optional int32 limit = 4;</code>
+       * @return The limit.
+       */
+      @java.lang.Override
+      public int getLimit() {
+        return limit_;
+      }
+      /**
+       * <code>optional int32 limit = 4;</code>
+       * @param value The limit to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLimit(int value) {
+        bitField0_ |= 0x00000008;
+        limit_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 limit = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLimit() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        limit_ = 0;
+        onChanged();
+        return this;
+      }
       @java.lang.Override
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -3744,6 +4022,23 @@ public final class ContentProtoBuf {
      */
     com.google.protobuf.ByteString
         getPostIdBytes(int index);
+
+    /**
+     * <code>optional string nextCursor = 2;</code>
+     * @return Whether the nextCursor field is set.
+     */
+    boolean hasNextCursor();
+    /**
+     * <code>optional string nextCursor = 2;</code>
+     * @return The nextCursor.
+     */
+    java.lang.String getNextCursor();
+    /**
+     * <code>optional string nextCursor = 2;</code>
+     * @return The bytes for nextCursor.
+     */
+    com.google.protobuf.ByteString
+        getNextCursorBytes();
   }
   /**
    * Protobuf type {@code GetPostsResult}
@@ -3759,6 +4054,7 @@ public final class ContentProtoBuf {
     }
     private GetPostsResult() {
       postId_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      nextCursor_ = "";
     }
 
     @java.lang.Override
@@ -3801,6 +4097,12 @@ public final class ContentProtoBuf {
               postId_.add(s);
               break;
             }
+            case 18: {
+              java.lang.String s = input.readStringRequireUtf8();
+              bitField0_ |= 0x00000001;
+              nextCursor_ = s;
+              break;
+            }
             default: {
               if (!parseUnknownField(
                   input, unknownFields, extensionRegistry, tag)) {
@@ -3838,6 +4140,7 @@ public final class ContentProtoBuf {
               fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsResult.class, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsResult.Builder.class);
     }
 
+    private int bitField0_;
     public static final int POSTID_FIELD_NUMBER = 1;
     private com.google.protobuf.LazyStringList postId_;
     /**
@@ -3873,6 +4176,52 @@ public final class ContentProtoBuf {
       return postId_.getByteString(index);
     }
 
+    public static final int NEXTCURSOR_FIELD_NUMBER = 2;
+    private volatile java.lang.Object nextCursor_;
+    /**
+     * <code>optional string nextCursor = 2;</code>
+     * @return Whether the nextCursor field is set.
+     */
+    @java.lang.Override
+    public boolean hasNextCursor() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional string nextCursor = 2;</code>
+     * @return The nextCursor.
+     */
+    @java.lang.Override
+    public java.lang.String getNextCursor() {
+      java.lang.Object ref = nextCursor_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        nextCursor_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string nextCursor = 2;</code>
+     * @return The bytes for nextCursor.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getNextCursorBytes() {
+      java.lang.Object ref = nextCursor_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        nextCursor_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -3890,6 +4239,9 @@ public final class ContentProtoBuf {
       for (int i = 0; i < postId_.size(); i++) {
         com.google.protobuf.GeneratedMessageV3.writeString(output, 1, postId_.getRaw(i));
       }
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, nextCursor_);
+      }
       unknownFields.writeTo(output);
     }
 
@@ -3907,6 +4259,9 @@ public final class ContentProtoBuf {
         size += dataSize;
         size += 1 * getPostIdList().size();
       }
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, nextCursor_);
+      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -3924,6 +4279,11 @@ public final class ContentProtoBuf {
 
       if (!getPostIdList()
           .equals(other.getPostIdList())) return false;
+      if (hasNextCursor() != other.hasNextCursor()) return false;
+      if (hasNextCursor()) {
+        if (!getNextCursor()
+            .equals(other.getNextCursor())) return false;
+      }
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -3939,6 +4299,10 @@ public final class ContentProtoBuf {
         hash = (37 * hash) + POSTID_FIELD_NUMBER;
         hash = (53 * hash) + getPostIdList().hashCode();
       }
+      if (hasNextCursor()) {
+        hash = (37 * hash) + NEXTCURSOR_FIELD_NUMBER;
+        hash = (53 * hash) + getNextCursor().hashCode();
+      }
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -4074,6 +4438,8 @@ public final class ContentProtoBuf {
         super.clear();
         postId_ = com.google.protobuf.LazyStringArrayList.EMPTY;
         bitField0_ = (bitField0_ & ~0x00000001);
+        nextCursor_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
         return this;
       }
 
@@ -4101,11 +4467,17 @@ public final class ContentProtoBuf {
       public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsResult buildPartial() {
         fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsResult result = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsResult(this);
         int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
         if (((bitField0_ & 0x00000001) != 0)) {
           postId_ = postId_.getUnmodifiableView();
           bitField0_ = (bitField0_ & ~0x00000001);
         }
         result.postId_ = postId_;
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.nextCursor_ = nextCursor_;
+        result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
@@ -4164,6 +4536,11 @@ public final class ContentProtoBuf {
           }
           onChanged();
         }
+        if (other.hasNextCursor()) {
+          bitField0_ |= 0x00000002;
+          nextCursor_ = other.nextCursor_;
+          onChanged();
+        }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
@@ -4303,34 +4680,117 @@ public final class ContentProtoBuf {
         onChanged();
         return this;
       }
-      @java.lang.Override
-      public final Builder setUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
-        return super.setUnknownFields(unknownFields);
-      }
 
-      @java.lang.Override
-      public final Builder mergeUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
-        return super.mergeUnknownFields(unknownFields);
+      private java.lang.Object nextCursor_ = "";
+      /**
+       * <code>optional string nextCursor = 2;</code>
+       * @return Whether the nextCursor field is set.
+       */
+      public boolean hasNextCursor() {
+        return ((bitField0_ & 0x00000002) != 0);
       }
-
-
-      // @@protoc_insertion_point(builder_scope:GetPostsResult)
-    }
-
-    // @@protoc_insertion_point(class_scope:GetPostsResult)
-    private static final fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsResult DEFAULT_INSTANCE;
-    static {
-      DEFAULT_INSTANCE = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsResult();
-    }
-
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsResult getDefaultInstance() {
-      return DEFAULT_INSTANCE;
-    }
-
-    private static final com.google.protobuf.Parser<GetPostsResult>
-        PARSER = new com.google.protobuf.AbstractParser<GetPostsResult>() {
+      /**
+       * <code>optional string nextCursor = 2;</code>
+       * @return The nextCursor.
+       */
+      public java.lang.String getNextCursor() {
+        java.lang.Object ref = nextCursor_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          nextCursor_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string nextCursor = 2;</code>
+       * @return The bytes for nextCursor.
+       */
+      public com.google.protobuf.ByteString
+          getNextCursorBytes() {
+        java.lang.Object ref = nextCursor_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          nextCursor_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string nextCursor = 2;</code>
+       * @param value The nextCursor to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNextCursor(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        nextCursor_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string nextCursor = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearNextCursor() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        nextCursor_ = getDefaultInstance().getNextCursor();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string nextCursor = 2;</code>
+       * @param value The bytes for nextCursor to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNextCursorBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        bitField0_ |= 0x00000002;
+        nextCursor_ = value;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:GetPostsResult)
+    }
+
+    // @@protoc_insertion_point(class_scope:GetPostsResult)
+    private static final fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsResult DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsResult();
+    }
+
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsResult getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<GetPostsResult>
+        PARSER = new com.google.protobuf.AbstractParser<GetPostsResult>() {
       @java.lang.Override
       public GetPostsResult parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
@@ -4461,39 +4921,626 @@ public final class ContentProtoBuf {
     public static final int POSTID_FIELD_NUMBER = 1;
     private volatile java.lang.Object postId_;
     /**
-     * <code>string postId = 1;</code>
-     * @return The postId.
+     * <code>string postId = 1;</code>
+     * @return The postId.
+     */
+    @java.lang.Override
+    public java.lang.String getPostId() {
+      java.lang.Object ref = postId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        postId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string postId = 1;</code>
+     * @return The bytes for postId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getPostIdBytes() {
+      java.lang.Object ref = postId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        postId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(postId_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, postId_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(postId_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, postId_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs)) {
+        return super.equals(obj);
+      }
+      fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs other = (fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs) obj;
+
+      if (!getPostId()
+          .equals(other.getPostId())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + POSTID_FIELD_NUMBER;
+      hash = (53 * hash) + getPostId().hashCode();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code GetPostArgs}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:GetPostArgs)
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgsOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GetPostArgs_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GetPostArgs_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs.class, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs.Builder.class);
+      }
+
+      // Construct using fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        postId_ = "";
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GetPostArgs_descriptor;
+      }
+
+      @java.lang.Override
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs getDefaultInstanceForType() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs build() {
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs buildPartial() {
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs result = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs(this);
+        result.postId_ = postId_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs) {
+          return mergeFrom((fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs other) {
+        if (other == fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs.getDefaultInstance()) return this;
+        if (!other.getPostId().isEmpty()) {
+          postId_ = other.postId_;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private java.lang.Object postId_ = "";
+      /**
+       * <code>string postId = 1;</code>
+       * @return The postId.
+       */
+      public java.lang.String getPostId() {
+        java.lang.Object ref = postId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          postId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string postId = 1;</code>
+       * @return The bytes for postId.
+       */
+      public com.google.protobuf.ByteString
+          getPostIdBytes() {
+        java.lang.Object ref = postId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          postId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string postId = 1;</code>
+       * @param value The postId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPostId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        postId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string postId = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPostId() {
+        
+        postId_ = getDefaultInstance().getPostId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string postId = 1;</code>
+       * @param value The bytes for postId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPostIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        postId_ = value;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:GetPostArgs)
+    }
+
+    // @@protoc_insertion_point(class_scope:GetPostArgs)
+    private static final fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs();
+    }
+
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<GetPostArgs>
+        PARSER = new com.google.protobuf.AbstractParser<GetPostArgs>() {
+      @java.lang.Override
+      public GetPostArgs parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new GetPostArgs(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<GetPostArgs> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<GetPostArgs> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface GetPostsByIdsArgsOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:GetPostsByIdsArgs)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated string postId = 1;</code>
+     * @return A list containing the postId.
+     */
+    java.util.List<java.lang.String>
+        getPostIdList();
+    /**
+     * <code>repeated string postId = 1;</code>
+     * @return The count of postId.
+     */
+    int getPostIdCount();
+    /**
+     * <code>repeated string postId = 1;</code>
+     * @param index The index of the element to return.
+     * @return The postId at the given index.
+     */
+    java.lang.String getPostId(int index);
+    /**
+     * <code>repeated string postId = 1;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the postId at the given index.
+     */
+    com.google.protobuf.ByteString
+        getPostIdBytes(int index);
+  }
+  /**
+   * Protobuf type {@code GetPostsByIdsArgs}
+   */
+  public static final class GetPostsByIdsArgs extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:GetPostsByIdsArgs)
+      GetPostsByIdsArgsOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use GetPostsByIdsArgs.newBuilder() to construct.
+    private GetPostsByIdsArgs(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private GetPostsByIdsArgs() {
+      postId_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new GetPostsByIdsArgs();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private GetPostsByIdsArgs(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                postId_ = new com.google.protobuf.LazyStringArrayList();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              postId_.add(s);
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (com.google.protobuf.UninitializedMessageException e) {
+        throw e.asInvalidProtocolBufferException().setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          postId_ = postId_.getUnmodifiableView();
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GetPostsByIdsArgs_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GetPostsByIdsArgs_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByIdsArgs.class, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByIdsArgs.Builder.class);
+    }
+
+    public static final int POSTID_FIELD_NUMBER = 1;
+    private com.google.protobuf.LazyStringList postId_;
+    /**
+     * <code>repeated string postId = 1;</code>
+     * @return A list containing the postId.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getPostIdList() {
+      return postId_;
+    }
+    /**
+     * <code>repeated string postId = 1;</code>
+     * @return The count of postId.
+     */
+    public int getPostIdCount() {
+      return postId_.size();
+    }
+    /**
+     * <code>repeated string postId = 1;</code>
+     * @param index The index of the element to return.
+     * @return The postId at the given index.
      */
-    @java.lang.Override
-    public java.lang.String getPostId() {
-      java.lang.Object ref = postId_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        postId_ = s;
-        return s;
-      }
+    public java.lang.String getPostId(int index) {
+      return postId_.get(index);
     }
     /**
-     * <code>string postId = 1;</code>
-     * @return The bytes for postId.
+     * <code>repeated string postId = 1;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the postId at the given index.
      */
-    @java.lang.Override
     public com.google.protobuf.ByteString
-        getPostIdBytes() {
-      java.lang.Object ref = postId_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        postId_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+        getPostIdBytes(int index) {
+      return postId_.getByteString(index);
     }
 
     private byte memoizedIsInitialized = -1;
@@ -4510,8 +5557,8 @@ public final class ContentProtoBuf {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(postId_)) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, postId_);
+      for (int i = 0; i < postId_.size(); i++) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, postId_.getRaw(i));
       }
       unknownFields.writeTo(output);
     }
@@ -4522,8 +5569,13 @@ public final class ContentProtoBuf {
       if (size != -1) return size;
 
       size = 0;
-      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(postId_)) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, postId_);
+      {
+        int dataSize = 0;
+        for (int i = 0; i < postId_.size(); i++) {
+          dataSize += computeStringSizeNoTag(postId_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getPostIdList().size();
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -4535,13 +5587,13 @@ public final class ContentProtoBuf {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs)) {
+      if (!(obj instanceof fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByIdsArgs)) {
         return super.equals(obj);
       }
-      fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs other = (fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs) obj;
+      fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByIdsArgs other = (fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByIdsArgs) obj;
 
-      if (!getPostId()
-          .equals(other.getPostId())) return false;
+      if (!getPostIdList()
+          .equals(other.getPostIdList())) return false;
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -4553,76 +5605,78 @@ public final class ContentProtoBuf {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + POSTID_FIELD_NUMBER;
-      hash = (53 * hash) + getPostId().hashCode();
+      if (getPostIdCount() > 0) {
+        hash = (37 * hash) + POSTID_FIELD_NUMBER;
+        hash = (53 * hash) + getPostIdList().hashCode();
+      }
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByIdsArgs parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByIdsArgs parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByIdsArgs parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByIdsArgs parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs parseFrom(byte[] data)
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByIdsArgs parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByIdsArgs parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs parseFrom(java.io.InputStream input)
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByIdsArgs parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByIdsArgs parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs parseDelimitedFrom(java.io.InputStream input)
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByIdsArgs parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs parseDelimitedFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByIdsArgs parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByIdsArgs parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByIdsArgs parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -4635,7 +5689,7 @@ public final class ContentProtoBuf {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs prototype) {
+    public static Builder newBuilder(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByIdsArgs prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -4651,26 +5705,26 @@ public final class ContentProtoBuf {
       return builder;
     }
     /**
-     * Protobuf type {@code GetPostArgs}
+     * Protobuf type {@code GetPostsByIdsArgs}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:GetPostArgs)
-        fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgsOrBuilder {
+        // @@protoc_insertion_point(builder_implements:GetPostsByIdsArgs)
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByIdsArgsOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GetPostArgs_descriptor;
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GetPostsByIdsArgs_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GetPostArgs_fieldAccessorTable
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GetPostsByIdsArgs_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs.class, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs.Builder.class);
+                fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByIdsArgs.class, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByIdsArgs.Builder.class);
       }
 
-      // Construct using fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs.newBuilder()
+      // Construct using fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByIdsArgs.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -4688,25 +5742,25 @@ public final class ContentProtoBuf {
       @java.lang.Override
       public Builder clear() {
         super.clear();
-        postId_ = "";
-
+        postId_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000001);
         return this;
       }
 
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GetPostArgs_descriptor;
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GetPostsByIdsArgs_descriptor;
       }
 
       @java.lang.Override
-      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs getDefaultInstanceForType() {
-        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs.getDefaultInstance();
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByIdsArgs getDefaultInstanceForType() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByIdsArgs.getDefaultInstance();
       }
 
       @java.lang.Override
-      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs build() {
-        fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs result = buildPartial();
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByIdsArgs build() {
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByIdsArgs result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -4714,8 +5768,13 @@ public final class ContentProtoBuf {
       }
 
       @java.lang.Override
-      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs buildPartial() {
-        fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs result = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs(this);
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByIdsArgs buildPartial() {
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByIdsArgs result = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByIdsArgs(this);
+        int from_bitField0_ = bitField0_;
+        if (((bitField0_ & 0x00000001) != 0)) {
+          postId_ = postId_.getUnmodifiableView();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
         result.postId_ = postId_;
         onBuilt();
         return result;
@@ -4755,18 +5814,24 @@ public final class ContentProtoBuf {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs) {
-          return mergeFrom((fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs)other);
+        if (other instanceof fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByIdsArgs) {
+          return mergeFrom((fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByIdsArgs)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs other) {
-        if (other == fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs.getDefaultInstance()) return this;
-        if (!other.getPostId().isEmpty()) {
-          postId_ = other.postId_;
+      public Builder mergeFrom(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByIdsArgs other) {
+        if (other == fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByIdsArgs.getDefaultInstance()) return this;
+        if (!other.postId_.isEmpty()) {
+          if (postId_.isEmpty()) {
+            postId_ = other.postId_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensurePostIdIsMutable();
+            postId_.addAll(other.postId_);
+          }
           onChanged();
         }
         this.mergeUnknownFields(other.unknownFields);
@@ -4784,11 +5849,11 @@ public final class ContentProtoBuf {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs parsedMessage = null;
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByIdsArgs parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs) e.getUnfinishedMessage();
+          parsedMessage = (fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByIdsArgs) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -4797,79 +5862,114 @@ public final class ContentProtoBuf {
         }
         return this;
       }
+      private int bitField0_;
 
-      private java.lang.Object postId_ = "";
+      private com.google.protobuf.LazyStringList postId_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensurePostIdIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          postId_ = new com.google.protobuf.LazyStringArrayList(postId_);
+          bitField0_ |= 0x00000001;
+         }
+      }
       /**
-       * <code>string postId = 1;</code>
-       * @return The postId.
+       * <code>repeated string postId = 1;</code>
+       * @return A list containing the postId.
        */
-      public java.lang.String getPostId() {
-        java.lang.Object ref = postId_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          postId_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
+      public com.google.protobuf.ProtocolStringList
+          getPostIdList() {
+        return postId_.getUnmodifiableView();
       }
       /**
-       * <code>string postId = 1;</code>
-       * @return The bytes for postId.
+       * <code>repeated string postId = 1;</code>
+       * @return The count of postId.
+       */
+      public int getPostIdCount() {
+        return postId_.size();
+      }
+      /**
+       * <code>repeated string postId = 1;</code>
+       * @param index The index of the element to return.
+       * @return The postId at the given index.
+       */
+      public java.lang.String getPostId(int index) {
+        return postId_.get(index);
+      }
+      /**
+       * <code>repeated string postId = 1;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the postId at the given index.
        */
       public com.google.protobuf.ByteString
-          getPostIdBytes() {
-        java.lang.Object ref = postId_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          postId_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
+          getPostIdBytes(int index) {
+        return postId_.getByteString(index);
       }
       /**
-       * <code>string postId = 1;</code>
+       * <code>repeated string postId = 1;</code>
+       * @param index The index to set the value at.
        * @param value The postId to set.
        * @return This builder for chaining.
        */
       public Builder setPostId(
+          int index, java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensurePostIdIsMutable();
+        postId_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string postId = 1;</code>
+       * @param value The postId to add.
+       * @return This builder for chaining.
+       */
+      public Builder addPostId(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  
-        postId_ = value;
+  ensurePostIdIsMutable();
+        postId_.add(value);
         onChanged();
         return this;
       }
       /**
-       * <code>string postId = 1;</code>
+       * <code>repeated string postId = 1;</code>
+       * @param values The postId to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllPostId(
+          java.lang.Iterable<java.lang.String> values) {
+        ensurePostIdIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, postId_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string postId = 1;</code>
        * @return This builder for chaining.
        */
       public Builder clearPostId() {
-        
-        postId_ = getDefaultInstance().getPostId();
+        postId_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000001);
         onChanged();
         return this;
       }
       /**
-       * <code>string postId = 1;</code>
-       * @param value The bytes for postId to set.
+       * <code>repeated string postId = 1;</code>
+       * @param value The bytes of the postId to add.
        * @return This builder for chaining.
        */
-      public Builder setPostIdBytes(
+      public Builder addPostIdBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
   checkByteStringIsUtf8(value);
-        
-        postId_ = value;
+        ensurePostIdIsMutable();
+        postId_.add(value);
         onChanged();
         return this;
       }
@@ -4886,41 +5986,41 @@ public final class ContentProtoBuf {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:GetPostArgs)
+      // @@protoc_insertion_point(builder_scope:GetPostsByIdsArgs)
     }
 
-    // @@protoc_insertion_point(class_scope:GetPostArgs)
-    private static final fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:GetPostsByIdsArgs)
+    private static final fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByIdsArgs DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs();
+      DEFAULT_INSTANCE = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByIdsArgs();
     }
 
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs getDefaultInstance() {
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByIdsArgs getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<GetPostArgs>
-        PARSER = new com.google.protobuf.AbstractParser<GetPostArgs>() {
+    private static final com.google.protobuf.Parser<GetPostsByIdsArgs>
+        PARSER = new com.google.protobuf.AbstractParser<GetPostsByIdsArgs>() {
       @java.lang.Override
-      public GetPostArgs parsePartialFrom(
+      public GetPostsByIdsArgs parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new GetPostArgs(input, extensionRegistry);
+        return new GetPostsByIdsArgs(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<GetPostArgs> parser() {
+    public static com.google.protobuf.Parser<GetPostsByIdsArgs> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<GetPostArgs> getParserForType() {
+    public com.google.protobuf.Parser<GetPostsByIdsArgs> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs getDefaultInstanceForType() {
+    public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByIdsArgs getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
@@ -9160,6 +10260,11 @@ public final class ContentProtoBuf {
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_GetPostArgs_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_GetPostsByIdsArgs_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_GetPostsByIdsArgs_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_GetPostAnswersArgs_descriptor;
   private static final 
@@ -9210,37 +10315,42 @@ public final class ContentProtoBuf {
       "ntUrlB\t\n\007_upVoteB\013\n\t_downVote\"M\n\016CreateP" +
       "ostArgs\022\027\n\004post\030\001 \001(\0132\t.GrpcPost\022\025\n\010pass" +
       "word\030\002 \001(\tH\000\210\001\001B\013\n\t_password\"\"\n\020CreatePo" +
-      "stResult\022\016\n\006postId\030\001 \001(\t\"Z\n\014GetPostsArgs" +
-      "\022\026\n\ttimestamp\030\001 \001(\003H\000\210\001\001\022\026\n\tsortOrder\030\002 " +
-      "\001(\tH\001\210\001\001B\014\n\n_timestampB\014\n\n_sortOrder\" \n\016" +
-      "GetPostsResult\022\016\n\006postId\030\001 \003(\t\"\035\n\013GetPos" +
-      "tArgs\022\016\n\006postId\030\001 \001(\t\"F\n\022GetPostAnswersA" +
-      "rgs\022\016\n\006postId\030\001 \001(\t\022\024\n\007timeout\030\002 \001(\003H\000\210\001" +
-      "\001B\n\n\010_timeout\"]\n\016UpdatePostArgs\022\016\n\006postI" +
-      "d\030\001 \001(\t\022\025\n\010password\030\002 \001(\tH\000\210\001\001\022\027\n\004post\030\003" +
-      " \001(\0132\t.GrpcPostB\013\n\t_password\"D\n\016DeletePo" +
-      "stArgs\022\016\n\006postId\030\001 \001(\t\022\025\n\010password\030\002 \001(\t" +
-      "H\000\210\001\001B\013\n\t_password\"T\n\016ChangeVoteArgs\022\016\n\006" +
-      "postId\030\001 \001(\t\022\016\n\006userId\030\002 \001(\t\022\025\n\010password" +
-      "\030\003 \001(\tH\000\210\001\001B\013\n\t_password\"\016\n\014EmptyMessage" +
-      "\" \n\017VoteCountResult\022\r\n\005count\030\001 \001(\0052\331\004\n\007C" +
-      "ontent\0222\n\ncreatePost\022\017.CreatePostArgs\032\021." +
-      "CreatePostResult\"\000\022,\n\010getPosts\022\r.GetPost" +
-      "sArgs\032\017.GetPostsResult\"\000\022$\n\007getPost\022\014.Ge" +
-      "tPostArgs\032\t.GrpcPost\"\000\0228\n\016getPostAnswers" +
-      "\022\023.GetPostAnswersArgs\032\017.GetPostsResult\"\000" +
-      "\022*\n\nupdatePost\022\017.UpdatePostArgs\032\t.GrpcPo" +
-      "st\"\000\022.\n\ndeletePost\022\017.DeletePostArgs\032\r.Em" +
-      "ptyMessage\"\000\022.\n\nupVotePost\022\017.ChangeVoteA" +
-      "rgs\032\r.EmptyMessage\"\000\0224\n\020removeUpVotePost" +
-      "\022\017.ChangeVoteArgs\032\r.EmptyMessage\"\000\0220\n\014do" +
-      "wnVotePost\022\017.ChangeVoteArgs\032\r.EmptyMessa" +
-      "ge\"\000\0226\n\022removeDownVotePost\022\017.ChangeVoteA" +
-      "rgs\032\r.EmptyMessage\"\000\022.\n\ngetUpVotes\022\014.Get" +
-      "PostArgs\032\020.VoteCountResult\"\000\0220\n\014getDownV" +
-      "otes\022\014.GetPostArgs\032\020.VoteCountResult\"\000B5" +
-      "\n\"fctreddit.impl.grpc.generated_javaB\017Co" +
-      "ntentProtoBufb\006proto3"
+      "stResult\022\016\n\006postId\030\001 \001(\t\"\230\001\n\014GetPostsArg" +
+      "s\022\026\n\ttimestamp\030\001 \001(\003H\000\210\001\001\022\026\n\tsortOrder\030\002" +
+      " \001(\tH\001\210\001\001\022\023\n\006cursor\030\003 \001(\tH\002\210\001\001\022\022\n\005limit\030" +
+      "\004 \001(\005H\003\210\001\001B\014\n\n_timestampB\014\n\n_sortOrderB\t" +
+      "\n\007_cursorB\010\n\006_limit\"H\n\016GetPostsResult\022\016\n" +
+      "\006postId\030\001 \003(\t\022\027\n\nnextCursor\030\002 \001(\tH\000\210\001\001B\r" +
+      "\n\013_nextCursor\"\035\n\013GetPostArgs\022\016\n\006postId\030\001" +
+      " \001(\t\"#\n\021GetPostsByIdsArgs\022\016\n\006postId\030\001 \003(" +
+      "\t\"F\n\022GetPostAnswersArgs\022\016\n\006postId\030\001 \001(\t\022" +
+      "\024\n\007timeout\030\002 \001(\003H\000\210\001\001B\n\n\010_timeout\"]\n\016Upd" +
+      "atePostArgs\022\016\n\006postId\030\001 \001(\t\022\025\n\010password\030" +
+      "\002 \001(\tH\000\210\001\001\022\027\n\004post\030\003 \001(\0132\t.GrpcPostB\013\n\t_" +
+      "password\"D\n\016DeletePostArgs\022\016\n\006postId\030\001 \001" +
+      "(\t\022\025\n\010password\030\002 \001(\tH\000\210\001\001B\013\n\t_password\"T" +
+      "\n\016ChangeVoteArgs\022\016\n\006postId\030\001 \001(\t\022\016\n\006user" +
+      "Id\030\002 \001(\t\022\025\n\010password\030\003 \001(\tH\000\210\001\001B\013\n\t_pass" +
+      "word\"\016\n\014EmptyMessage\" \n\017VoteCountResult\022" +
+      "\r\n\005count\030\001 \001(\0052\215\005\n\007Content\0222\n\ncreatePost" +
+      "\022\017.CreatePostArgs\032\021.CreatePostResult\"\000\022," +
+      "\n\010getPosts\022\r.GetPostsArgs\032\017.GetPostsResu" +
+      "lt\"\000\022$\n\007getPost\022\014.GetPostArgs\032\t.GrpcPost" +
+      "\"\000\0222\n\rgetPostsByIds\022\022.GetPostsByIdsArgs\032" +
+      "\t.GrpcPost\"\0000\001\0228\n\016getPostAnswers\022\023.GetPo" +
+      "stAnswersArgs\032\017.GetPostsResult\"\000\022*\n\nupda" +
+      "tePost\022\017.UpdatePostArgs\032\t.GrpcPost\"\000\022.\n\n" +
+      "deletePost\022\017.DeletePostArgs\032\r.EmptyMessa" +
+      "ge\"\000\022.\n\nupVotePost\022\017.ChangeVoteArgs\032\r.Em" +
+      "ptyMessage\"\000\0224\n\020removeUpVotePost\022\017.Chang" +
+      "eVoteArgs\032\r.EmptyMessage\"\000\0220\n\014downVotePo" +
+      "st\022\017.ChangeVoteArgs\032\r.EmptyMessage\"\000\0226\n\022" +
+      "removeDownVotePost\022\017.ChangeVoteArgs\032\r.Em" +
+      "ptyMessage\"\000\022.\n\ngetUpVotes\022\014.GetPostArgs" +
+      "\032\020.VoteCountResult\"\000\0220\n\014getDownVotes\022\014.G" +
+      "etPostArgs\032\020.VoteCountResult\"\000B5\n\"fctred" +
+      "dit.impl.grpc.generated_javaB\017ContentPro" +
+      "toBufb\006proto3"
     };
     descriptor = com.google.protobuf.Descriptors.FileDescriptor
       .internalBuildGeneratedFileFrom(descriptorData,
@@ -9269,51 +10379,57 @@ public final class ContentProtoBuf {
     internal_static_GetPostsArgs_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_GetPostsArgs_descriptor,
-        new java.lang.String[] { "Timestamp", "SortOrder", "Timestamp", "SortOrder", });
+        new java.lang.String[] { "Timestamp", "SortOrder", "Cursor", "Limit", "Timestamp", "SortOrder", "Cursor", "Limit", });
     internal_static_GetPostsResult_descriptor =
       getDescriptor().getMessageTypes().get(4);
     internal_static_GetPostsResult_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_GetPostsResult_descriptor,
-        new java.lang.String[] { "PostId", });
+        new java.lang.String[] { "PostId", "NextCursor", "NextCursor", });
     internal_static_GetPostArgs_descriptor =
       getDescriptor().getMessageTypes().get(5);
     internal_static_GetPostArgs_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_GetPostArgs_descriptor,
         new java.lang.String[] { "PostId", });
-    internal_static_GetPostAnswersArgs_descriptor =
+    internal_static_GetPostsByIdsArgs_descriptor =
       getDescriptor().getMessageTypes().get(6);
+    internal_static_GetPostsByIdsArgs_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_GetPostsByIdsArgs_descriptor,
+        new java.lang.String[] { "PostId", });
+    internal_static_GetPostAnswersArgs_descriptor =
+      getDescriptor().getMessageTypes().get(7);
     internal_static_GetPostAnswersArgs_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_GetPostAnswersArgs_descriptor,
         new java.lang.String[] { "PostId", "Timeout", "Timeout", });
     internal_static_UpdatePostArgs_descriptor =
-      getDescriptor().getMessageTypes().get(7);
+      getDescriptor().getMessageTypes().get(8);
     internal_static_UpdatePostArgs_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_UpdatePostArgs_descriptor,
         new java.lang.String[] { "PostId", "Password", "Post", "Password", });
     internal_static_DeletePostArgs_descriptor =
-      getDescriptor().getMessageTypes().get(8);
+      getDescriptor().getMessageTypes().get(9);
     internal_static_DeletePostArgs_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_DeletePostArgs_descriptor,
         new java.lang.String[] { "PostId", "Password", "Password", });
     internal_static_ChangeVoteArgs_descriptor =
-      getDescriptor().getMessageTypes().get(9);
+      getDescriptor().getMessageTypes().get(10);
     internal_static_ChangeVoteArgs_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_ChangeVoteArgs_descriptor,
         new java.lang.String[] { "PostId", "UserId", "Password", "Password", });
     internal_static_EmptyMessage_descriptor =
-      getDescriptor().getMessageTypes().get(10);
+      getDescriptor().getMessageTypes().get(11);
     internal_static_EmptyMessage_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_EmptyMessage_descriptor,
         new java.lang.String[] { });
     internal_static_VoteCountResult_descriptor =
-      getDescriptor().getMessageTypes().get(11);
+      getDescriptor().getMessageTypes().get(12);
     internal_static_VoteCountResult_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_VoteCountResult_descriptor,
@@ -46,6 +46,37 @@ public final class UsersGrpc {
     return getCreateUserMethod;
   }
 
+  private static volatile io.grpc.MethodDescriptor<fctreddit.impl.grpc.generated_java.UsersProtoBuf.CreateUserArgs,
+      fctreddit.impl.grpc.generated_java.UsersProtoBuf.CreateUsersResult> getCreateUsersMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "createUsers",
+      requestType = fctreddit.impl.grpc.generated_java.UsersProtoBuf.CreateUserArgs.class,
+      responseType = fctreddit.impl.grpc.generated_java.UsersProtoBuf.CreateUsersResult.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.CLIENT_STREAMING)
+  public static io.grpc.MethodDescriptor<fctreddit.impl.grpc.generated_java.UsersProtoBuf.CreateUserArgs,
+      fctreddit.impl.grpc.generated_java.UsersProtoBuf.CreateUsersResult> getCreateUsersMethod() {
+    io.grpc.MethodDescriptor<fctreddit.impl.grpc.generated_java.UsersProtoBuf.CreateUserArgs, fctreddit.impl.grpc.generated_java.UsersProtoBuf.CreateUsersResult> getCreateUsersMethod;
+    if ((getCreateUsersMethod = UsersGrpc.getCreateUsersMethod) == null) {
+      synchronized (UsersGrpc.class) {
+        if ((getCreateUsersMethod = UsersGrpc.getCreateUsersMethod) == null) {
+          UsersGrpc.getCreateUsersMethod = getCreateUsersMethod =
+              io.grpc.MethodDescriptor.<fctreddit.impl.grpc.generated_java.UsersProtoBuf.CreateUserArgs, fctreddit.impl.grpc.generated_java.UsersProtoBuf.CreateUsersResult>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.CLIENT_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "createUsers"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  fctreddit.impl.grpc.generated_java.UsersProtoBuf.CreateUserArgs.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  fctreddit.impl.grpc.generated_java.UsersProtoBuf.CreateUsersResult.getDefaultInstance()))
+              .setSchemaDescriptor(new UsersMethodDescriptorSupplier("createUsers"))
+              .build();
+        }
+      }
+    }
+    return getCreateUsersMethod;
+  }
+
   private static volatile io.grpc.MethodDescriptor<fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs,
       fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult> getGetUserMethod;
 
@@ -77,6 +108,68 @@ public final class UsersGrpc {
     return getGetUserMethod;
   }
 
+  private static volatile io.grpc.MethodDescriptor<fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginArgs,
+      fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginResult> getLoginMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "login",
+      requestType = fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginArgs.class,
+      responseType = fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginResult.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginArgs,
+      fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginResult> getLoginMethod() {
+    io.grpc.MethodDescriptor<fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginArgs, fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginResult> getLoginMethod;
+    if ((getLoginMethod = UsersGrpc.getLoginMethod) == null) {
+      synchronized (UsersGrpc.class) {
+        if ((getLoginMethod = UsersGrpc.getLoginMethod) == null) {
+          UsersGrpc.getLoginMethod = getLoginMethod =
+              io.grpc.MethodDescriptor.<fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginArgs, fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginResult>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "login"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginArgs.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginResult.getDefaultInstance()))
+              .setSchemaDescriptor(new UsersMethodDescriptorSupplier("login"))
+              .build();
+        }
+      }
+    }
+    return getLoginMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUsersByIdsArgs,
+      fctreddit.impl.grpc.generated_java.UsersProtoBuf.GrpcUser> getGetUsersByIdsMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "getUsersByIds",
+      requestType = fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUsersByIdsArgs.class,
+      responseType = fctreddit.impl.grpc.generated_java.UsersProtoBuf.GrpcUser.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+  public static io.grpc.MethodDescriptor<fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUsersByIdsArgs,
+      fctreddit.impl.grpc.generated_java.UsersProtoBuf.GrpcUser> getGetUsersByIdsMethod() {
+    io.grpc.MethodDescriptor<fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUsersByIdsArgs, fctreddit.impl.grpc.generated_java.UsersProtoBuf.GrpcUser> getGetUsersByIdsMethod;
+    if ((getGetUsersByIdsMethod = UsersGrpc.getGetUsersByIdsMethod) == null) {
+      synchronized (UsersGrpc.class) {
+        if ((getGetUsersByIdsMethod = UsersGrpc.getGetUsersByIdsMethod) == null) {
+          UsersGrpc.getGetUsersByIdsMethod = getGetUsersByIdsMethod =
+              io.grpc.MethodDescriptor.<fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUsersByIdsArgs, fctreddit.impl.grpc.generated_java.UsersProtoBuf.GrpcUser>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "getUsersByIds"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUsersByIdsArgs.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  fctreddit.impl.grpc.generated_java.UsersProtoBuf.GrpcUser.getDefaultInstance()))
+              .setSchemaDescriptor(new UsersMethodDescriptorSupplier("getUsersByIds"))
+              .build();
+        }
+      }
+    }
+    return getGetUsersByIdsMethod;
+  }
+
   private static volatile io.grpc.MethodDescriptor<fctreddit.impl.grpc.generated_java.UsersProtoBuf.UpdateUserArgs,
       fctreddit.impl.grpc.generated_java.UsersProtoBuf.UpdateUserResult> getUpdateUserMethod;
 
@@ -225,6 +318,13 @@ public final class UsersGrpc {
       io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getCreateUserMethod(), responseObserver);
     }
 
+    /**
+     */
+    default io.grpc.stub.StreamObserver<fctreddit.impl.grpc.generated_java.UsersProtoBuf.CreateUserArgs> createUsers(
+        io.grpc.stub.StreamObserver<fctreddit.impl.grpc.generated_java.UsersProtoBuf.CreateUsersResult> responseObserver) {
+      return io.grpc.stub.ServerCalls.asyncUnimplementedStreamingCall(getCreateUsersMethod(), responseObserver);
+    }
+
     /**
      */
     default void getUser(fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs request,
@@ -232,6 +332,20 @@ public final class UsersGrpc {
       io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetUserMethod(), responseObserver);
     }
 
+    /**
+     */
+    default void login(fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginArgs request,
+        io.grpc.stub.StreamObserver<fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginResult> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getLoginMethod(), responseObserver);
+    }
+
+    /**
+     */
+    default void getUsersByIds(fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUsersByIdsArgs request,
+        io.grpc.stub.StreamObserver<fctreddit.impl.grpc.generated_java.UsersProtoBuf.GrpcUser> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetUsersByIdsMethod(), responseObserver);
+    }
+
     /**
      */
     default void updateUser(fctreddit.impl.grpc.generated_java.UsersProtoBuf.UpdateUserArgs request,
@@ -289,6 +403,14 @@ public final class UsersGrpc {
           getChannel().newCall(getCreateUserMethod(), getCallOptions()), request, responseObserver);
     }
 
+    /**
+     */
+    public io.grpc.stub.StreamObserver<fctreddit.impl.grpc.generated_java.UsersProtoBuf.CreateUserArgs> createUsers(
+        io.grpc.stub.StreamObserver<fctreddit.impl.grpc.generated_java.UsersProtoBuf.CreateUsersResult> responseObserver) {
+      return io.grpc.stub.ClientCalls.asyncClientStreamingCall(
+          getChannel().newCall(getCreateUsersMethod(), getCallOptions()), responseObserver);
+    }
+
     /**
      */
     public void getUser(fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs request,
@@ -297,6 +419,22 @@ public final class UsersGrpc {
           getChannel().newCall(getGetUserMethod(), getCallOptions()), request, responseObserver);
     }
 
+    /**
+     */
+    public void login(fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginArgs request,
+        io.grpc.stub.StreamObserver<fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginResult> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getLoginMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void getUsersByIds(fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUsersByIdsArgs request,
+        io.grpc.stub.StreamObserver<fctreddit.impl.grpc.generated_java.UsersProtoBuf.GrpcUser> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncServerStreamingCall(
+          getChannel().newCall(getGetUsersByIdsMethod(), getCallOptions()), request, responseObserver);
+    }
+
     /**
      */
     public void updateUser(fctreddit.impl.grpc.generated_java.UsersProtoBuf.UpdateUserArgs request,
@@ -352,6 +490,21 @@ public final class UsersGrpc {
           getChannel(), getGetUserMethod(), getCallOptions(), request);
     }
 
+    /**
+     */
+    public fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginResult login(fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginArgs request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getLoginMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public java.util.Iterator<fctreddit.impl.grpc.generated_java.UsersProtoBuf.GrpcUser> getUsersByIds(
+        fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUsersByIdsArgs request) {
+      return io.grpc.stub.ClientCalls.blockingServerStreamingCall(
+          getChannel(), getGetUsersByIdsMethod(), getCallOptions(), request);
+    }
+
     /**
      */
     public fctreddit.impl.grpc.generated_java.UsersProtoBuf.UpdateUserResult updateUser(fctreddit.impl.grpc.generated_java.UsersProtoBuf.UpdateUserArgs request) {
@@ -407,6 +560,14 @@ public final class UsersGrpc {
           getChannel().newCall(getGetUserMethod(), getCallOptions()), request);
     }
 
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginResult> login(
+        fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginArgs request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getLoginMethod(), getCallOptions()), request);
+    }
+
     /**
      */
     public com.google.common.util.concurrent.ListenableFuture<fctreddit.impl.grpc.generated_java.UsersProtoBuf.UpdateUserResult> updateUser(
@@ -426,9 +587,12 @@ public final class UsersGrpc {
 
   private static final int METHODID_CREATE_USER = 0;
   private static final int METHODID_GET_USER = 1;
-  private static final int METHODID_UPDATE_USER = 2;
-  private static final int METHODID_DELETE_USER = 3;
-  private static final int METHODID_SEARCH_USERS = 4;
+  private static final int METHODID_LOGIN = 2;
+  private static final int METHODID_GET_USERS_BY_IDS = 3;
+  private static final int METHODID_UPDATE_USER = 4;
+  private static final int METHODID_DELETE_USER = 5;
+  private static final int METHODID_SEARCH_USERS = 6;
+  private static final int METHODID_CREATE_USERS = 7;
 
   private static final class MethodHandlers<Req, Resp> implements
       io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
@@ -455,6 +619,14 @@ public final class UsersGrpc {
           serviceImpl.getUser((fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs) request,
               (io.grpc.stub.StreamObserver<fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult>) responseObserver);
           break;
+        case METHODID_LOGIN:
+          serviceImpl.login((fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginArgs) request,
+              (io.grpc.stub.StreamObserver<fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginResult>) responseObserver);
+          break;
+        case METHODID_GET_USERS_BY_IDS:
+          serviceImpl.getUsersByIds((fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUsersByIdsArgs) request,
+              (io.grpc.stub.StreamObserver<fctreddit.impl.grpc.generated_java.UsersProtoBuf.GrpcUser>) responseObserver);
+          break;
         case METHODID_UPDATE_USER:
           serviceImpl.updateUser((fctreddit.impl.grpc.generated_java.UsersProtoBuf.UpdateUserArgs) request,
               (io.grpc.stub.StreamObserver<fctreddit.impl.grpc.generated_java.UsersProtoBuf.UpdateUserResult>) responseObserver);
@@ -477,6 +649,9 @@ public final class UsersGrpc {
     public io.grpc.stub.StreamObserver<Req> invoke(
         io.grpc.stub.StreamObserver<Resp> responseObserver) {
       switch (methodId) {
+        case METHODID_CREATE_USERS:
+          return (io.grpc.stub.StreamObserver<Req>) serviceImpl.createUsers(
+              (io.grpc.stub.StreamObserver<fctreddit.impl.grpc.generated_java.UsersProtoBuf.CreateUsersResult>) responseObserver);
         default:
           throw new AssertionError();
       }
@@ -492,6 +667,13 @@ public final class UsersGrpc {
               fctreddit.impl.grpc.generated_java.UsersProtoBuf.CreateUserArgs,
               fctreddit.impl.grpc.generated_java.UsersProtoBuf.CreateUserResult>(
                 service, METHODID_CREATE_USER)))
+        .addMethod(
+          getCreateUsersMethod(),
+          io.grpc.stub.ServerCalls.asyncClientStreamingCall(
+            new MethodHandlers<
+              fctreddit.impl.grpc.generated_java.UsersProtoBuf.CreateUserArgs,
+              fctreddit.impl.grpc.generated_java.UsersProtoBuf.CreateUsersResult>(
+                service, METHODID_CREATE_USERS)))
         .addMethod(
           getGetUserMethod(),
           io.grpc.stub.ServerCalls.asyncUnaryCall(
@@ -499,6 +681,20 @@ public final class UsersGrpc {
               fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs,
               fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult>(
                 service, METHODID_GET_USER)))
+        .addMethod(
+          getLoginMethod(),
+          io.grpc.stub.ServerCalls.asyncUnaryCall(
+            new MethodHandlers<
+              fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginArgs,
+              fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginResult>(
+                service, METHODID_LOGIN)))
+        .addMethod(
+          getGetUsersByIdsMethod(),
+          io.grpc.stub.ServerCalls.asyncServerStreamingCall(
+            new MethodHandlers<
+              fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUsersByIdsArgs,
+              fctreddit.impl.grpc.generated_java.UsersProtoBuf.GrpcUser>(
+                service, METHODID_GET_USERS_BY_IDS)))
         .addMethod(
           getUpdateUserMethod(),
           io.grpc.stub.ServerCalls.asyncUnaryCall(
@@ -569,7 +765,10 @@ public final class UsersGrpc {
           serviceDescriptor = result = io.grpc.ServiceDescriptor.newBuilder(SERVICE_NAME)
               .setSchemaDescriptor(new UsersFileDescriptorSupplier())
               .addMethod(getCreateUserMethod())
+              .addMethod(getCreateUsersMethod())
               .addMethod(getGetUserMethod())
+              .addMethod(getLoginMethod())
+              .addMethod(getGetUsersByIdsMethod())
               .addMethod(getUpdateUserMethod())
               .addMethod(getDeleteUserMethod())
               .addMethod(getSearchUsersMethod())
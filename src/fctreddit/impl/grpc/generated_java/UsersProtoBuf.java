@@ -2528,61 +2528,72 @@ public final class UsersProtoBuf {
 
   }
 
-  public interface GetUserArgsOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:GetUserArgs)
+  public interface CreateUsersResultOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:CreateUsersResult)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>string userId = 1;</code>
-     * @return The userId.
-     */
-    java.lang.String getUserId();
-    /**
-     * <code>string userId = 1;</code>
-     * @return The bytes for userId.
+     * <pre>
+     * OK, CONFLICT or BAD_REQUEST, for each user in the order received
+     * </pre>
+     *
+     * <code>repeated string status = 1;</code>
+     * @return A list containing the status.
      */
-    com.google.protobuf.ByteString
-        getUserIdBytes();
-
+    java.util.List<java.lang.String>
+        getStatusList();
     /**
-     * <code>optional string password = 2;</code>
-     * @return Whether the password field is set.
+     * <pre>
+     * OK, CONFLICT or BAD_REQUEST, for each user in the order received
+     * </pre>
+     *
+     * <code>repeated string status = 1;</code>
+     * @return The count of status.
      */
-    boolean hasPassword();
+    int getStatusCount();
     /**
-     * <code>optional string password = 2;</code>
-     * @return The password.
+     * <pre>
+     * OK, CONFLICT or BAD_REQUEST, for each user in the order received
+     * </pre>
+     *
+     * <code>repeated string status = 1;</code>
+     * @param index The index of the element to return.
+     * @return The status at the given index.
      */
-    java.lang.String getPassword();
+    java.lang.String getStatus(int index);
     /**
-     * <code>optional string password = 2;</code>
-     * @return The bytes for password.
+     * <pre>
+     * OK, CONFLICT or BAD_REQUEST, for each user in the order received
+     * </pre>
+     *
+     * <code>repeated string status = 1;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the status at the given index.
      */
     com.google.protobuf.ByteString
-        getPasswordBytes();
+        getStatusBytes(int index);
   }
   /**
-   * Protobuf type {@code GetUserArgs}
+   * Protobuf type {@code CreateUsersResult}
    */
-  public static final class GetUserArgs extends
+  public static final class CreateUsersResult extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:GetUserArgs)
-      GetUserArgsOrBuilder {
+      // @@protoc_insertion_point(message_implements:CreateUsersResult)
+      CreateUsersResultOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use GetUserArgs.newBuilder() to construct.
-    private GetUserArgs(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use CreateUsersResult.newBuilder() to construct.
+    private CreateUsersResult(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private GetUserArgs() {
-      userId_ = "";
-      password_ = "";
+    private CreateUsersResult() {
+      status_ = com.google.protobuf.LazyStringArrayList.EMPTY;
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new GetUserArgs();
+      return new CreateUsersResult();
     }
 
     @java.lang.Override
@@ -2590,7 +2601,7 @@ public final class UsersProtoBuf {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private GetUserArgs(
+    private CreateUsersResult(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -2611,14 +2622,11 @@ public final class UsersProtoBuf {
               break;
             case 10: {
               java.lang.String s = input.readStringRequireUtf8();
-
-              userId_ = s;
-              break;
-            }
-            case 18: {
-              java.lang.String s = input.readStringRequireUtf8();
-              bitField0_ |= 0x00000001;
-              password_ = s;
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                status_ = new com.google.protobuf.LazyStringArrayList();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              status_.add(s);
               break;
             }
             default: {
@@ -2638,106 +2646,75 @@ public final class UsersProtoBuf {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e).setUnfinishedMessage(this);
       } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          status_ = status_.getUnmodifiableView();
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return fctreddit.impl.grpc.generated_java.UsersProtoBuf.internal_static_GetUserArgs_descriptor;
+      return fctreddit.impl.grpc.generated_java.UsersProtoBuf.internal_static_CreateUsersResult_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return fctreddit.impl.grpc.generated_java.UsersProtoBuf.internal_static_GetUserArgs_fieldAccessorTable
+      return fctreddit.impl.grpc.generated_java.UsersProtoBuf.internal_static_CreateUsersResult_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs.class, fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs.Builder.class);
+              fctreddit.impl.grpc.generated_java.UsersProtoBuf.CreateUsersResult.class, fctreddit.impl.grpc.generated_java.UsersProtoBuf.CreateUsersResult.Builder.class);
     }
 
-    private int bitField0_;
-    public static final int USERID_FIELD_NUMBER = 1;
-    private volatile java.lang.Object userId_;
-    /**
-     * <code>string userId = 1;</code>
-     * @return The userId.
-     */
-    @java.lang.Override
-    public java.lang.String getUserId() {
-      java.lang.Object ref = userId_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        userId_ = s;
-        return s;
-      }
-    }
+    public static final int STATUS_FIELD_NUMBER = 1;
+    private com.google.protobuf.LazyStringList status_;
     /**
-     * <code>string userId = 1;</code>
-     * @return The bytes for userId.
+     * <pre>
+     * OK, CONFLICT or BAD_REQUEST, for each user in the order received
+     * </pre>
+     *
+     * <code>repeated string status = 1;</code>
+     * @return A list containing the status.
      */
-    @java.lang.Override
-    public com.google.protobuf.ByteString
-        getUserIdBytes() {
-      java.lang.Object ref = userId_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        userId_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+    public com.google.protobuf.ProtocolStringList
+        getStatusList() {
+      return status_;
     }
-
-    public static final int PASSWORD_FIELD_NUMBER = 2;
-    private volatile java.lang.Object password_;
     /**
-     * <code>optional string password = 2;</code>
-     * @return Whether the password field is set.
+     * <pre>
+     * OK, CONFLICT or BAD_REQUEST, for each user in the order received
+     * </pre>
+     *
+     * <code>repeated string status = 1;</code>
+     * @return The count of status.
      */
-    @java.lang.Override
-    public boolean hasPassword() {
-      return ((bitField0_ & 0x00000001) != 0);
+    public int getStatusCount() {
+      return status_.size();
     }
     /**
-     * <code>optional string password = 2;</code>
-     * @return The password.
+     * <pre>
+     * OK, CONFLICT or BAD_REQUEST, for each user in the order received
+     * </pre>
+     *
+     * <code>repeated string status = 1;</code>
+     * @param index The index of the element to return.
+     * @return The status at the given index.
      */
-    @java.lang.Override
-    public java.lang.String getPassword() {
-      java.lang.Object ref = password_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        password_ = s;
-        return s;
-      }
+    public java.lang.String getStatus(int index) {
+      return status_.get(index);
     }
     /**
-     * <code>optional string password = 2;</code>
-     * @return The bytes for password.
+     * <pre>
+     * OK, CONFLICT or BAD_REQUEST, for each user in the order received
+     * </pre>
+     *
+     * <code>repeated string status = 1;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the status at the given index.
      */
-    @java.lang.Override
     public com.google.protobuf.ByteString
-        getPasswordBytes() {
-      java.lang.Object ref = password_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        password_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+        getStatusBytes(int index) {
+      return status_.getByteString(index);
     }
 
     private byte memoizedIsInitialized = -1;
@@ -2754,11 +2731,8 @@ public final class UsersProtoBuf {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(userId_)) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, userId_);
-      }
-      if (((bitField0_ & 0x00000001) != 0)) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, password_);
+      for (int i = 0; i < status_.size(); i++) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, status_.getRaw(i));
       }
       unknownFields.writeTo(output);
     }
@@ -2769,11 +2743,13 @@ public final class UsersProtoBuf {
       if (size != -1) return size;
 
       size = 0;
-      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(userId_)) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, userId_);
-      }
-      if (((bitField0_ & 0x00000001) != 0)) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, password_);
+      {
+        int dataSize = 0;
+        for (int i = 0; i < status_.size(); i++) {
+          dataSize += computeStringSizeNoTag(status_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getStatusList().size();
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -2785,18 +2761,13 @@ public final class UsersProtoBuf {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs)) {
+      if (!(obj instanceof fctreddit.impl.grpc.generated_java.UsersProtoBuf.CreateUsersResult)) {
         return super.equals(obj);
       }
-      fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs other = (fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs) obj;
+      fctreddit.impl.grpc.generated_java.UsersProtoBuf.CreateUsersResult other = (fctreddit.impl.grpc.generated_java.UsersProtoBuf.CreateUsersResult) obj;
 
-      if (!getUserId()
-          .equals(other.getUserId())) return false;
-      if (hasPassword() != other.hasPassword()) return false;
-      if (hasPassword()) {
-        if (!getPassword()
-            .equals(other.getPassword())) return false;
-      }
+      if (!getStatusList()
+          .equals(other.getStatusList())) return false;
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -2808,80 +2779,78 @@ public final class UsersProtoBuf {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + USERID_FIELD_NUMBER;
-      hash = (53 * hash) + getUserId().hashCode();
-      if (hasPassword()) {
-        hash = (37 * hash) + PASSWORD_FIELD_NUMBER;
-        hash = (53 * hash) + getPassword().hashCode();
+      if (getStatusCount() > 0) {
+        hash = (37 * hash) + STATUS_FIELD_NUMBER;
+        hash = (53 * hash) + getStatusList().hashCode();
       }
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs parseFrom(
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.CreateUsersResult parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs parseFrom(
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.CreateUsersResult parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs parseFrom(
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.CreateUsersResult parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs parseFrom(
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.CreateUsersResult parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs parseFrom(byte[] data)
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.CreateUsersResult parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs parseFrom(
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.CreateUsersResult parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs parseFrom(java.io.InputStream input)
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.CreateUsersResult parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs parseFrom(
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.CreateUsersResult parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs parseDelimitedFrom(java.io.InputStream input)
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.CreateUsersResult parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs parseDelimitedFrom(
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.CreateUsersResult parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs parseFrom(
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.CreateUsersResult parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs parseFrom(
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.CreateUsersResult parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -2894,7 +2863,7 @@ public final class UsersProtoBuf {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs prototype) {
+    public static Builder newBuilder(fctreddit.impl.grpc.generated_java.UsersProtoBuf.CreateUsersResult prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -2910,26 +2879,26 @@ public final class UsersProtoBuf {
       return builder;
     }
     /**
-     * Protobuf type {@code GetUserArgs}
+     * Protobuf type {@code CreateUsersResult}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:GetUserArgs)
-        fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgsOrBuilder {
+        // @@protoc_insertion_point(builder_implements:CreateUsersResult)
+        fctreddit.impl.grpc.generated_java.UsersProtoBuf.CreateUsersResultOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return fctreddit.impl.grpc.generated_java.UsersProtoBuf.internal_static_GetUserArgs_descriptor;
+        return fctreddit.impl.grpc.generated_java.UsersProtoBuf.internal_static_CreateUsersResult_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return fctreddit.impl.grpc.generated_java.UsersProtoBuf.internal_static_GetUserArgs_fieldAccessorTable
+        return fctreddit.impl.grpc.generated_java.UsersProtoBuf.internal_static_CreateUsersResult_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs.class, fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs.Builder.class);
+                fctreddit.impl.grpc.generated_java.UsersProtoBuf.CreateUsersResult.class, fctreddit.impl.grpc.generated_java.UsersProtoBuf.CreateUsersResult.Builder.class);
       }
 
-      // Construct using fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs.newBuilder()
+      // Construct using fctreddit.impl.grpc.generated_java.UsersProtoBuf.CreateUsersResult.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -2947,9 +2916,7 @@ public final class UsersProtoBuf {
       @java.lang.Override
       public Builder clear() {
         super.clear();
-        userId_ = "";
-
-        password_ = "";
+        status_ = com.google.protobuf.LazyStringArrayList.EMPTY;
         bitField0_ = (bitField0_ & ~0x00000001);
         return this;
       }
@@ -2957,17 +2924,17 @@ public final class UsersProtoBuf {
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return fctreddit.impl.grpc.generated_java.UsersProtoBuf.internal_static_GetUserArgs_descriptor;
+        return fctreddit.impl.grpc.generated_java.UsersProtoBuf.internal_static_CreateUsersResult_descriptor;
       }
 
       @java.lang.Override
-      public fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs getDefaultInstanceForType() {
-        return fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs.getDefaultInstance();
+      public fctreddit.impl.grpc.generated_java.UsersProtoBuf.CreateUsersResult getDefaultInstanceForType() {
+        return fctreddit.impl.grpc.generated_java.UsersProtoBuf.CreateUsersResult.getDefaultInstance();
       }
 
       @java.lang.Override
-      public fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs build() {
-        fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs result = buildPartial();
+      public fctreddit.impl.grpc.generated_java.UsersProtoBuf.CreateUsersResult build() {
+        fctreddit.impl.grpc.generated_java.UsersProtoBuf.CreateUsersResult result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -2975,16 +2942,14 @@ public final class UsersProtoBuf {
       }
 
       @java.lang.Override
-      public fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs buildPartial() {
-        fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs result = new fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs(this);
+      public fctreddit.impl.grpc.generated_java.UsersProtoBuf.CreateUsersResult buildPartial() {
+        fctreddit.impl.grpc.generated_java.UsersProtoBuf.CreateUsersResult result = new fctreddit.impl.grpc.generated_java.UsersProtoBuf.CreateUsersResult(this);
         int from_bitField0_ = bitField0_;
-        int to_bitField0_ = 0;
-        result.userId_ = userId_;
-        if (((from_bitField0_ & 0x00000001) != 0)) {
-          to_bitField0_ |= 0x00000001;
+        if (((bitField0_ & 0x00000001) != 0)) {
+          status_ = status_.getUnmodifiableView();
+          bitField0_ = (bitField0_ & ~0x00000001);
         }
-        result.password_ = password_;
-        result.bitField0_ = to_bitField0_;
+        result.status_ = status_;
         onBuilt();
         return result;
       }
@@ -3023,23 +2988,24 @@ public final class UsersProtoBuf {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs) {
-          return mergeFrom((fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs)other);
+        if (other instanceof fctreddit.impl.grpc.generated_java.UsersProtoBuf.CreateUsersResult) {
+          return mergeFrom((fctreddit.impl.grpc.generated_java.UsersProtoBuf.CreateUsersResult)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs other) {
-        if (other == fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs.getDefaultInstance()) return this;
-        if (!other.getUserId().isEmpty()) {
-          userId_ = other.userId_;
-          onChanged();
-        }
-        if (other.hasPassword()) {
-          bitField0_ |= 0x00000001;
-          password_ = other.password_;
+      public Builder mergeFrom(fctreddit.impl.grpc.generated_java.UsersProtoBuf.CreateUsersResult other) {
+        if (other == fctreddit.impl.grpc.generated_java.UsersProtoBuf.CreateUsersResult.getDefaultInstance()) return this;
+        if (!other.status_.isEmpty()) {
+          if (status_.isEmpty()) {
+            status_ = other.status_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureStatusIsMutable();
+            status_.addAll(other.status_);
+          }
           onChanged();
         }
         this.mergeUnknownFields(other.unknownFields);
@@ -3057,11 +3023,11 @@ public final class UsersProtoBuf {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs parsedMessage = null;
+        fctreddit.impl.grpc.generated_java.UsersProtoBuf.CreateUsersResult parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs) e.getUnfinishedMessage();
+          parsedMessage = (fctreddit.impl.grpc.generated_java.UsersProtoBuf.CreateUsersResult) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -3072,161 +3038,2851 @@ public final class UsersProtoBuf {
       }
       private int bitField0_;
 
-      private java.lang.Object userId_ = "";
+      private com.google.protobuf.LazyStringList status_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensureStatusIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          status_ = new com.google.protobuf.LazyStringArrayList(status_);
+          bitField0_ |= 0x00000001;
+         }
+      }
       /**
-       * <code>string userId = 1;</code>
-       * @return The userId.
+       * <pre>
+       * OK, CONFLICT or BAD_REQUEST, for each user in the order received
+       * </pre>
+       *
+       * <code>repeated string status = 1;</code>
+       * @return A list containing the status.
        */
-      public java.lang.String getUserId() {
-        java.lang.Object ref = userId_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          userId_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
+      public com.google.protobuf.ProtocolStringList
+          getStatusList() {
+        return status_.getUnmodifiableView();
       }
       /**
-       * <code>string userId = 1;</code>
-       * @return The bytes for userId.
+       * <pre>
+       * OK, CONFLICT or BAD_REQUEST, for each user in the order received
+       * </pre>
+       *
+       * <code>repeated string status = 1;</code>
+       * @return The count of status.
+       */
+      public int getStatusCount() {
+        return status_.size();
+      }
+      /**
+       * <pre>
+       * OK, CONFLICT or BAD_REQUEST, for each user in the order received
+       * </pre>
+       *
+       * <code>repeated string status = 1;</code>
+       * @param index The index of the element to return.
+       * @return The status at the given index.
+       */
+      public java.lang.String getStatus(int index) {
+        return status_.get(index);
+      }
+      /**
+       * <pre>
+       * OK, CONFLICT or BAD_REQUEST, for each user in the order received
+       * </pre>
+       *
+       * <code>repeated string status = 1;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the status at the given index.
        */
       public com.google.protobuf.ByteString
-          getUserIdBytes() {
-        java.lang.Object ref = userId_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          userId_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
+          getStatusBytes(int index) {
+        return status_.getByteString(index);
       }
       /**
-       * <code>string userId = 1;</code>
-       * @param value The userId to set.
+       * <pre>
+       * OK, CONFLICT or BAD_REQUEST, for each user in the order received
+       * </pre>
+       *
+       * <code>repeated string status = 1;</code>
+       * @param index The index to set the value at.
+       * @param value The status to set.
        * @return This builder for chaining.
        */
-      public Builder setUserId(
+      public Builder setStatus(
+          int index, java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureStatusIsMutable();
+        status_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * OK, CONFLICT or BAD_REQUEST, for each user in the order received
+       * </pre>
+       *
+       * <code>repeated string status = 1;</code>
+       * @param value The status to add.
+       * @return This builder for chaining.
+       */
+      public Builder addStatus(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  
-        userId_ = value;
+  ensureStatusIsMutable();
+        status_.add(value);
         onChanged();
         return this;
       }
       /**
-       * <code>string userId = 1;</code>
+       * <pre>
+       * OK, CONFLICT or BAD_REQUEST, for each user in the order received
+       * </pre>
+       *
+       * <code>repeated string status = 1;</code>
+       * @param values The status to add.
        * @return This builder for chaining.
        */
-      public Builder clearUserId() {
-        
-        userId_ = getDefaultInstance().getUserId();
+      public Builder addAllStatus(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureStatusIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, status_);
         onChanged();
         return this;
       }
       /**
-       * <code>string userId = 1;</code>
-       * @param value The bytes for userId to set.
+       * <pre>
+       * OK, CONFLICT or BAD_REQUEST, for each user in the order received
+       * </pre>
+       *
+       * <code>repeated string status = 1;</code>
        * @return This builder for chaining.
        */
-      public Builder setUserIdBytes(
+      public Builder clearStatus() {
+        status_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * OK, CONFLICT or BAD_REQUEST, for each user in the order received
+       * </pre>
+       *
+       * <code>repeated string status = 1;</code>
+       * @param value The bytes of the status to add.
+       * @return This builder for chaining.
+       */
+      public Builder addStatusBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
   checkByteStringIsUtf8(value);
-        
+        ensureStatusIsMutable();
+        status_.add(value);
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:CreateUsersResult)
+    }
+
+    // @@protoc_insertion_point(class_scope:CreateUsersResult)
+    private static final fctreddit.impl.grpc.generated_java.UsersProtoBuf.CreateUsersResult DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new fctreddit.impl.grpc.generated_java.UsersProtoBuf.CreateUsersResult();
+    }
+
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.CreateUsersResult getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<CreateUsersResult>
+        PARSER = new com.google.protobuf.AbstractParser<CreateUsersResult>() {
+      @java.lang.Override
+      public CreateUsersResult parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new CreateUsersResult(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<CreateUsersResult> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CreateUsersResult> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public fctreddit.impl.grpc.generated_java.UsersProtoBuf.CreateUsersResult getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface GetUserArgsOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:GetUserArgs)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string userId = 1;</code>
+     * @return The userId.
+     */
+    java.lang.String getUserId();
+    /**
+     * <code>string userId = 1;</code>
+     * @return The bytes for userId.
+     */
+    com.google.protobuf.ByteString
+        getUserIdBytes();
+
+    /**
+     * <code>optional string password = 2;</code>
+     * @return Whether the password field is set.
+     */
+    boolean hasPassword();
+    /**
+     * <code>optional string password = 2;</code>
+     * @return The password.
+     */
+    java.lang.String getPassword();
+    /**
+     * <code>optional string password = 2;</code>
+     * @return The bytes for password.
+     */
+    com.google.protobuf.ByteString
+        getPasswordBytes();
+  }
+  /**
+   * Protobuf type {@code GetUserArgs}
+   */
+  public static final class GetUserArgs extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:GetUserArgs)
+      GetUserArgsOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use GetUserArgs.newBuilder() to construct.
+    private GetUserArgs(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private GetUserArgs() {
+      userId_ = "";
+      password_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new GetUserArgs();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private GetUserArgs(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              userId_ = s;
+              break;
+            }
+            case 18: {
+              java.lang.String s = input.readStringRequireUtf8();
+              bitField0_ |= 0x00000001;
+              password_ = s;
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (com.google.protobuf.UninitializedMessageException e) {
+        throw e.asInvalidProtocolBufferException().setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return fctreddit.impl.grpc.generated_java.UsersProtoBuf.internal_static_GetUserArgs_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return fctreddit.impl.grpc.generated_java.UsersProtoBuf.internal_static_GetUserArgs_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs.class, fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int USERID_FIELD_NUMBER = 1;
+    private volatile java.lang.Object userId_;
+    /**
+     * <code>string userId = 1;</code>
+     * @return The userId.
+     */
+    @java.lang.Override
+    public java.lang.String getUserId() {
+      java.lang.Object ref = userId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        userId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string userId = 1;</code>
+     * @return The bytes for userId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getUserIdBytes() {
+      java.lang.Object ref = userId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        userId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int PASSWORD_FIELD_NUMBER = 2;
+    private volatile java.lang.Object password_;
+    /**
+     * <code>optional string password = 2;</code>
+     * @return Whether the password field is set.
+     */
+    @java.lang.Override
+    public boolean hasPassword() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional string password = 2;</code>
+     * @return The password.
+     */
+    @java.lang.Override
+    public java.lang.String getPassword() {
+      java.lang.Object ref = password_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        password_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string password = 2;</code>
+     * @return The bytes for password.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getPasswordBytes() {
+      java.lang.Object ref = password_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        password_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(userId_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, userId_);
+      }
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, password_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(userId_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, userId_);
+      }
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, password_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs)) {
+        return super.equals(obj);
+      }
+      fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs other = (fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs) obj;
+
+      if (!getUserId()
+          .equals(other.getUserId())) return false;
+      if (hasPassword() != other.hasPassword()) return false;
+      if (hasPassword()) {
+        if (!getPassword()
+            .equals(other.getPassword())) return false;
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + USERID_FIELD_NUMBER;
+      hash = (53 * hash) + getUserId().hashCode();
+      if (hasPassword()) {
+        hash = (37 * hash) + PASSWORD_FIELD_NUMBER;
+        hash = (53 * hash) + getPassword().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code GetUserArgs}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:GetUserArgs)
+        fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgsOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return fctreddit.impl.grpc.generated_java.UsersProtoBuf.internal_static_GetUserArgs_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return fctreddit.impl.grpc.generated_java.UsersProtoBuf.internal_static_GetUserArgs_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs.class, fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs.Builder.class);
+      }
+
+      // Construct using fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        userId_ = "";
+
+        password_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return fctreddit.impl.grpc.generated_java.UsersProtoBuf.internal_static_GetUserArgs_descriptor;
+      }
+
+      @java.lang.Override
+      public fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs getDefaultInstanceForType() {
+        return fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs build() {
+        fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs buildPartial() {
+        fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs result = new fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        result.userId_ = userId_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.password_ = password_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs) {
+          return mergeFrom((fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs other) {
+        if (other == fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs.getDefaultInstance()) return this;
+        if (!other.getUserId().isEmpty()) {
+          userId_ = other.userId_;
+          onChanged();
+        }
+        if (other.hasPassword()) {
+          bitField0_ |= 0x00000001;
+          password_ = other.password_;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object userId_ = "";
+      /**
+       * <code>string userId = 1;</code>
+       * @return The userId.
+       */
+      public java.lang.String getUserId() {
+        java.lang.Object ref = userId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          userId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string userId = 1;</code>
+       * @return The bytes for userId.
+       */
+      public com.google.protobuf.ByteString
+          getUserIdBytes() {
+        java.lang.Object ref = userId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          userId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string userId = 1;</code>
+       * @param value The userId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setUserId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        userId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string userId = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearUserId() {
+        
+        userId_ = getDefaultInstance().getUserId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string userId = 1;</code>
+       * @param value The bytes for userId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setUserIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        userId_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object password_ = "";
+      /**
+       * <code>optional string password = 2;</code>
+       * @return Whether the password field is set.
+       */
+      public boolean hasPassword() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional string password = 2;</code>
+       * @return The password.
+       */
+      public java.lang.String getPassword() {
+        java.lang.Object ref = password_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          password_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string password = 2;</code>
+       * @return The bytes for password.
+       */
+      public com.google.protobuf.ByteString
+          getPasswordBytes() {
+        java.lang.Object ref = password_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          password_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string password = 2;</code>
+       * @param value The password to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPassword(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        password_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string password = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPassword() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        password_ = getDefaultInstance().getPassword();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string password = 2;</code>
+       * @param value The bytes for password to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPasswordBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        bitField0_ |= 0x00000001;
+        password_ = value;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:GetUserArgs)
+    }
+
+    // @@protoc_insertion_point(class_scope:GetUserArgs)
+    private static final fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs();
+    }
+
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<GetUserArgs>
+        PARSER = new com.google.protobuf.AbstractParser<GetUserArgs>() {
+      @java.lang.Override
+      public GetUserArgs parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new GetUserArgs(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<GetUserArgs> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<GetUserArgs> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface GetUserResultOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:GetUserResult)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.GrpcUser user = 1;</code>
+     * @return Whether the user field is set.
+     */
+    boolean hasUser();
+    /**
+     * <code>.GrpcUser user = 1;</code>
+     * @return The user.
+     */
+    fctreddit.impl.grpc.generated_java.UsersProtoBuf.GrpcUser getUser();
+    /**
+     * <code>.GrpcUser user = 1;</code>
+     */
+    fctreddit.impl.grpc.generated_java.UsersProtoBuf.GrpcUserOrBuilder getUserOrBuilder();
+  }
+  /**
+   * Protobuf type {@code GetUserResult}
+   */
+  public static final class GetUserResult extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:GetUserResult)
+      GetUserResultOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use GetUserResult.newBuilder() to construct.
+    private GetUserResult(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private GetUserResult() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new GetUserResult();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private GetUserResult(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              fctreddit.impl.grpc.generated_java.UsersProtoBuf.GrpcUser.Builder subBuilder = null;
+              if (user_ != null) {
+                subBuilder = user_.toBuilder();
+              }
+              user_ = input.readMessage(fctreddit.impl.grpc.generated_java.UsersProtoBuf.GrpcUser.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(user_);
+                user_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (com.google.protobuf.UninitializedMessageException e) {
+        throw e.asInvalidProtocolBufferException().setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return fctreddit.impl.grpc.generated_java.UsersProtoBuf.internal_static_GetUserResult_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return fctreddit.impl.grpc.generated_java.UsersProtoBuf.internal_static_GetUserResult_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult.class, fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult.Builder.class);
+    }
+
+    public static final int USER_FIELD_NUMBER = 1;
+    private fctreddit.impl.grpc.generated_java.UsersProtoBuf.GrpcUser user_;
+    /**
+     * <code>.GrpcUser user = 1;</code>
+     * @return Whether the user field is set.
+     */
+    @java.lang.Override
+    public boolean hasUser() {
+      return user_ != null;
+    }
+    /**
+     * <code>.GrpcUser user = 1;</code>
+     * @return The user.
+     */
+    @java.lang.Override
+    public fctreddit.impl.grpc.generated_java.UsersProtoBuf.GrpcUser getUser() {
+      return user_ == null ? fctreddit.impl.grpc.generated_java.UsersProtoBuf.GrpcUser.getDefaultInstance() : user_;
+    }
+    /**
+     * <code>.GrpcUser user = 1;</code>
+     */
+    @java.lang.Override
+    public fctreddit.impl.grpc.generated_java.UsersProtoBuf.GrpcUserOrBuilder getUserOrBuilder() {
+      return getUser();
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (user_ != null) {
+        output.writeMessage(1, getUser());
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (user_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getUser());
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult)) {
+        return super.equals(obj);
+      }
+      fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult other = (fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult) obj;
+
+      if (hasUser() != other.hasUser()) return false;
+      if (hasUser()) {
+        if (!getUser()
+            .equals(other.getUser())) return false;
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasUser()) {
+        hash = (37 * hash) + USER_FIELD_NUMBER;
+        hash = (53 * hash) + getUser().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code GetUserResult}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:GetUserResult)
+        fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResultOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return fctreddit.impl.grpc.generated_java.UsersProtoBuf.internal_static_GetUserResult_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return fctreddit.impl.grpc.generated_java.UsersProtoBuf.internal_static_GetUserResult_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult.class, fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult.Builder.class);
+      }
+
+      // Construct using fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        if (userBuilder_ == null) {
+          user_ = null;
+        } else {
+          user_ = null;
+          userBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return fctreddit.impl.grpc.generated_java.UsersProtoBuf.internal_static_GetUserResult_descriptor;
+      }
+
+      @java.lang.Override
+      public fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult getDefaultInstanceForType() {
+        return fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult build() {
+        fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult buildPartial() {
+        fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult result = new fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult(this);
+        if (userBuilder_ == null) {
+          result.user_ = user_;
+        } else {
+          result.user_ = userBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult) {
+          return mergeFrom((fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult other) {
+        if (other == fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult.getDefaultInstance()) return this;
+        if (other.hasUser()) {
+          mergeUser(other.getUser());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private fctreddit.impl.grpc.generated_java.UsersProtoBuf.GrpcUser user_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          fctreddit.impl.grpc.generated_java.UsersProtoBuf.GrpcUser, fctreddit.impl.grpc.generated_java.UsersProtoBuf.GrpcUser.Builder, fctreddit.impl.grpc.generated_java.UsersProtoBuf.GrpcUserOrBuilder> userBuilder_;
+      /**
+       * <code>.GrpcUser user = 1;</code>
+       * @return Whether the user field is set.
+       */
+      public boolean hasUser() {
+        return userBuilder_ != null || user_ != null;
+      }
+      /**
+       * <code>.GrpcUser user = 1;</code>
+       * @return The user.
+       */
+      public fctreddit.impl.grpc.generated_java.UsersProtoBuf.GrpcUser getUser() {
+        if (userBuilder_ == null) {
+          return user_ == null ? fctreddit.impl.grpc.generated_java.UsersProtoBuf.GrpcUser.getDefaultInstance() : user_;
+        } else {
+          return userBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.GrpcUser user = 1;</code>
+       */
+      public Builder setUser(fctreddit.impl.grpc.generated_java.UsersProtoBuf.GrpcUser value) {
+        if (userBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          user_ = value;
+          onChanged();
+        } else {
+          userBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.GrpcUser user = 1;</code>
+       */
+      public Builder setUser(
+          fctreddit.impl.grpc.generated_java.UsersProtoBuf.GrpcUser.Builder builderForValue) {
+        if (userBuilder_ == null) {
+          user_ = builderForValue.build();
+          onChanged();
+        } else {
+          userBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.GrpcUser user = 1;</code>
+       */
+      public Builder mergeUser(fctreddit.impl.grpc.generated_java.UsersProtoBuf.GrpcUser value) {
+        if (userBuilder_ == null) {
+          if (user_ != null) {
+            user_ =
+              fctreddit.impl.grpc.generated_java.UsersProtoBuf.GrpcUser.newBuilder(user_).mergeFrom(value).buildPartial();
+          } else {
+            user_ = value;
+          }
+          onChanged();
+        } else {
+          userBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.GrpcUser user = 1;</code>
+       */
+      public Builder clearUser() {
+        if (userBuilder_ == null) {
+          user_ = null;
+          onChanged();
+        } else {
+          user_ = null;
+          userBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.GrpcUser user = 1;</code>
+       */
+      public fctreddit.impl.grpc.generated_java.UsersProtoBuf.GrpcUser.Builder getUserBuilder() {
+        
+        onChanged();
+        return getUserFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.GrpcUser user = 1;</code>
+       */
+      public fctreddit.impl.grpc.generated_java.UsersProtoBuf.GrpcUserOrBuilder getUserOrBuilder() {
+        if (userBuilder_ != null) {
+          return userBuilder_.getMessageOrBuilder();
+        } else {
+          return user_ == null ?
+              fctreddit.impl.grpc.generated_java.UsersProtoBuf.GrpcUser.getDefaultInstance() : user_;
+        }
+      }
+      /**
+       * <code>.GrpcUser user = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          fctreddit.impl.grpc.generated_java.UsersProtoBuf.GrpcUser, fctreddit.impl.grpc.generated_java.UsersProtoBuf.GrpcUser.Builder, fctreddit.impl.grpc.generated_java.UsersProtoBuf.GrpcUserOrBuilder> 
+          getUserFieldBuilder() {
+        if (userBuilder_ == null) {
+          userBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              fctreddit.impl.grpc.generated_java.UsersProtoBuf.GrpcUser, fctreddit.impl.grpc.generated_java.UsersProtoBuf.GrpcUser.Builder, fctreddit.impl.grpc.generated_java.UsersProtoBuf.GrpcUserOrBuilder>(
+                  getUser(),
+                  getParentForChildren(),
+                  isClean());
+          user_ = null;
+        }
+        return userBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:GetUserResult)
+    }
+
+    // @@protoc_insertion_point(class_scope:GetUserResult)
+    private static final fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult();
+    }
+
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<GetUserResult>
+        PARSER = new com.google.protobuf.AbstractParser<GetUserResult>() {
+      @java.lang.Override
+      public GetUserResult parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new GetUserResult(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<GetUserResult> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<GetUserResult> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface LoginArgsOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:LoginArgs)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string userId = 1;</code>
+     * @return The userId.
+     */
+    java.lang.String getUserId();
+    /**
+     * <code>string userId = 1;</code>
+     * @return The bytes for userId.
+     */
+    com.google.protobuf.ByteString
+        getUserIdBytes();
+
+    /**
+     * <code>optional string password = 2;</code>
+     * @return Whether the password field is set.
+     */
+    boolean hasPassword();
+    /**
+     * <code>optional string password = 2;</code>
+     * @return The password.
+     */
+    java.lang.String getPassword();
+    /**
+     * <code>optional string password = 2;</code>
+     * @return The bytes for password.
+     */
+    com.google.protobuf.ByteString
+        getPasswordBytes();
+  }
+  /**
+   * Protobuf type {@code LoginArgs}
+   */
+  public static final class LoginArgs extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:LoginArgs)
+      LoginArgsOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use LoginArgs.newBuilder() to construct.
+    private LoginArgs(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private LoginArgs() {
+      userId_ = "";
+      password_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new LoginArgs();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private LoginArgs(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              userId_ = s;
+              break;
+            }
+            case 18: {
+              java.lang.String s = input.readStringRequireUtf8();
+              bitField0_ |= 0x00000001;
+              password_ = s;
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (com.google.protobuf.UninitializedMessageException e) {
+        throw e.asInvalidProtocolBufferException().setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return fctreddit.impl.grpc.generated_java.UsersProtoBuf.internal_static_LoginArgs_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return fctreddit.impl.grpc.generated_java.UsersProtoBuf.internal_static_LoginArgs_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginArgs.class, fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginArgs.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int USERID_FIELD_NUMBER = 1;
+    private volatile java.lang.Object userId_;
+    /**
+     * <code>string userId = 1;</code>
+     * @return The userId.
+     */
+    @java.lang.Override
+    public java.lang.String getUserId() {
+      java.lang.Object ref = userId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        userId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string userId = 1;</code>
+     * @return The bytes for userId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getUserIdBytes() {
+      java.lang.Object ref = userId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        userId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int PASSWORD_FIELD_NUMBER = 2;
+    private volatile java.lang.Object password_;
+    /**
+     * <code>optional string password = 2;</code>
+     * @return Whether the password field is set.
+     */
+    @java.lang.Override
+    public boolean hasPassword() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional string password = 2;</code>
+     * @return The password.
+     */
+    @java.lang.Override
+    public java.lang.String getPassword() {
+      java.lang.Object ref = password_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        password_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string password = 2;</code>
+     * @return The bytes for password.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getPasswordBytes() {
+      java.lang.Object ref = password_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        password_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(userId_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, userId_);
+      }
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, password_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(userId_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, userId_);
+      }
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, password_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginArgs)) {
+        return super.equals(obj);
+      }
+      fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginArgs other = (fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginArgs) obj;
+
+      if (!getUserId()
+          .equals(other.getUserId())) return false;
+      if (hasPassword() != other.hasPassword()) return false;
+      if (hasPassword()) {
+        if (!getPassword()
+            .equals(other.getPassword())) return false;
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + USERID_FIELD_NUMBER;
+      hash = (53 * hash) + getUserId().hashCode();
+      if (hasPassword()) {
+        hash = (37 * hash) + PASSWORD_FIELD_NUMBER;
+        hash = (53 * hash) + getPassword().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginArgs parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginArgs parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginArgs parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginArgs parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginArgs parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginArgs parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginArgs parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginArgs parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginArgs parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginArgs parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginArgs parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginArgs parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginArgs prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code LoginArgs}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:LoginArgs)
+        fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginArgsOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return fctreddit.impl.grpc.generated_java.UsersProtoBuf.internal_static_LoginArgs_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return fctreddit.impl.grpc.generated_java.UsersProtoBuf.internal_static_LoginArgs_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginArgs.class, fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginArgs.Builder.class);
+      }
+
+      // Construct using fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginArgs.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        userId_ = "";
+
+        password_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return fctreddit.impl.grpc.generated_java.UsersProtoBuf.internal_static_LoginArgs_descriptor;
+      }
+
+      @java.lang.Override
+      public fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginArgs getDefaultInstanceForType() {
+        return fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginArgs.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginArgs build() {
+        fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginArgs result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginArgs buildPartial() {
+        fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginArgs result = new fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginArgs(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        result.userId_ = userId_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.password_ = password_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginArgs) {
+          return mergeFrom((fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginArgs)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginArgs other) {
+        if (other == fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginArgs.getDefaultInstance()) return this;
+        if (!other.getUserId().isEmpty()) {
+          userId_ = other.userId_;
+          onChanged();
+        }
+        if (other.hasPassword()) {
+          bitField0_ |= 0x00000001;
+          password_ = other.password_;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginArgs parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginArgs) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object userId_ = "";
+      /**
+       * <code>string userId = 1;</code>
+       * @return The userId.
+       */
+      public java.lang.String getUserId() {
+        java.lang.Object ref = userId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          userId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string userId = 1;</code>
+       * @return The bytes for userId.
+       */
+      public com.google.protobuf.ByteString
+          getUserIdBytes() {
+        java.lang.Object ref = userId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          userId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string userId = 1;</code>
+       * @param value The userId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setUserId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        userId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string userId = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearUserId() {
+        
+        userId_ = getDefaultInstance().getUserId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string userId = 1;</code>
+       * @param value The bytes for userId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setUserIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
         userId_ = value;
         onChanged();
         return this;
       }
 
-      private java.lang.Object password_ = "";
-      /**
-       * <code>optional string password = 2;</code>
-       * @return Whether the password field is set.
-       */
-      public boolean hasPassword() {
-        return ((bitField0_ & 0x00000001) != 0);
-      }
+      private java.lang.Object password_ = "";
+      /**
+       * <code>optional string password = 2;</code>
+       * @return Whether the password field is set.
+       */
+      public boolean hasPassword() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional string password = 2;</code>
+       * @return The password.
+       */
+      public java.lang.String getPassword() {
+        java.lang.Object ref = password_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          password_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string password = 2;</code>
+       * @return The bytes for password.
+       */
+      public com.google.protobuf.ByteString
+          getPasswordBytes() {
+        java.lang.Object ref = password_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          password_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string password = 2;</code>
+       * @param value The password to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPassword(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        password_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string password = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPassword() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        password_ = getDefaultInstance().getPassword();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string password = 2;</code>
+       * @param value The bytes for password to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPasswordBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        bitField0_ |= 0x00000001;
+        password_ = value;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:LoginArgs)
+    }
+
+    // @@protoc_insertion_point(class_scope:LoginArgs)
+    private static final fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginArgs DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginArgs();
+    }
+
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginArgs getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<LoginArgs>
+        PARSER = new com.google.protobuf.AbstractParser<LoginArgs>() {
+      @java.lang.Override
+      public LoginArgs parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new LoginArgs(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<LoginArgs> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<LoginArgs> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginArgs getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface LoginResultOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:LoginResult)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string token = 1;</code>
+     * @return The token.
+     */
+    java.lang.String getToken();
+    /**
+     * <code>string token = 1;</code>
+     * @return The bytes for token.
+     */
+    com.google.protobuf.ByteString
+        getTokenBytes();
+  }
+  /**
+   * Protobuf type {@code LoginResult}
+   */
+  public static final class LoginResult extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:LoginResult)
+      LoginResultOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use LoginResult.newBuilder() to construct.
+    private LoginResult(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private LoginResult() {
+      token_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new LoginResult();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private LoginResult(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              token_ = s;
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (com.google.protobuf.UninitializedMessageException e) {
+        throw e.asInvalidProtocolBufferException().setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return fctreddit.impl.grpc.generated_java.UsersProtoBuf.internal_static_LoginResult_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return fctreddit.impl.grpc.generated_java.UsersProtoBuf.internal_static_LoginResult_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginResult.class, fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginResult.Builder.class);
+    }
+
+    public static final int TOKEN_FIELD_NUMBER = 1;
+    private volatile java.lang.Object token_;
+    /**
+     * <code>string token = 1;</code>
+     * @return The token.
+     */
+    @java.lang.Override
+    public java.lang.String getToken() {
+      java.lang.Object ref = token_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        token_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string token = 1;</code>
+     * @return The bytes for token.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getTokenBytes() {
+      java.lang.Object ref = token_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        token_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(token_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, token_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(token_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, token_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginResult)) {
+        return super.equals(obj);
+      }
+      fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginResult other = (fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginResult) obj;
+
+      if (!getToken()
+          .equals(other.getToken())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + TOKEN_FIELD_NUMBER;
+      hash = (53 * hash) + getToken().hashCode();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginResult parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginResult parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginResult parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginResult parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginResult parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginResult parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginResult parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginResult parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginResult parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginResult parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginResult parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginResult parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginResult prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code LoginResult}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:LoginResult)
+        fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginResultOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return fctreddit.impl.grpc.generated_java.UsersProtoBuf.internal_static_LoginResult_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return fctreddit.impl.grpc.generated_java.UsersProtoBuf.internal_static_LoginResult_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginResult.class, fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginResult.Builder.class);
+      }
+
+      // Construct using fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginResult.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        token_ = "";
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return fctreddit.impl.grpc.generated_java.UsersProtoBuf.internal_static_LoginResult_descriptor;
+      }
+
+      @java.lang.Override
+      public fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginResult getDefaultInstanceForType() {
+        return fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginResult.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginResult build() {
+        fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginResult result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginResult buildPartial() {
+        fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginResult result = new fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginResult(this);
+        result.token_ = token_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginResult) {
+          return mergeFrom((fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginResult)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginResult other) {
+        if (other == fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginResult.getDefaultInstance()) return this;
+        if (!other.getToken().isEmpty()) {
+          token_ = other.token_;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginResult parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginResult) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private java.lang.Object token_ = "";
       /**
-       * <code>optional string password = 2;</code>
-       * @return The password.
+       * <code>string token = 1;</code>
+       * @return The token.
        */
-      public java.lang.String getPassword() {
-        java.lang.Object ref = password_;
+      public java.lang.String getToken() {
+        java.lang.Object ref = token_;
         if (!(ref instanceof java.lang.String)) {
           com.google.protobuf.ByteString bs =
               (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
-          password_ = s;
+          token_ = s;
           return s;
         } else {
           return (java.lang.String) ref;
         }
       }
       /**
-       * <code>optional string password = 2;</code>
-       * @return The bytes for password.
+       * <code>string token = 1;</code>
+       * @return The bytes for token.
        */
       public com.google.protobuf.ByteString
-          getPasswordBytes() {
-        java.lang.Object ref = password_;
+          getTokenBytes() {
+        java.lang.Object ref = token_;
         if (ref instanceof String) {
           com.google.protobuf.ByteString b = 
               com.google.protobuf.ByteString.copyFromUtf8(
                   (java.lang.String) ref);
-          password_ = b;
+          token_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
       /**
-       * <code>optional string password = 2;</code>
-       * @param value The password to set.
+       * <code>string token = 1;</code>
+       * @param value The token to set.
        * @return This builder for chaining.
        */
-      public Builder setPassword(
+      public Builder setToken(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00000001;
-        password_ = value;
+  
+        token_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>optional string password = 2;</code>
+       * <code>string token = 1;</code>
        * @return This builder for chaining.
        */
-      public Builder clearPassword() {
-        bitField0_ = (bitField0_ & ~0x00000001);
-        password_ = getDefaultInstance().getPassword();
+      public Builder clearToken() {
+        
+        token_ = getDefaultInstance().getToken();
         onChanged();
         return this;
       }
       /**
-       * <code>optional string password = 2;</code>
-       * @param value The bytes for password to set.
+       * <code>string token = 1;</code>
+       * @param value The bytes for token to set.
        * @return This builder for chaining.
        */
-      public Builder setPasswordBytes(
+      public Builder setTokenBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
   checkByteStringIsUtf8(value);
-        bitField0_ |= 0x00000001;
-        password_ = value;
+        
+        token_ = value;
         onChanged();
         return this;
       }
@@ -3243,85 +5899,96 @@ public final class UsersProtoBuf {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:GetUserArgs)
+      // @@protoc_insertion_point(builder_scope:LoginResult)
     }
 
-    // @@protoc_insertion_point(class_scope:GetUserArgs)
-    private static final fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:LoginResult)
+    private static final fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginResult DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs();
+      DEFAULT_INSTANCE = new fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginResult();
     }
 
-    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs getDefaultInstance() {
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginResult getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<GetUserArgs>
-        PARSER = new com.google.protobuf.AbstractParser<GetUserArgs>() {
+    private static final com.google.protobuf.Parser<LoginResult>
+        PARSER = new com.google.protobuf.AbstractParser<LoginResult>() {
       @java.lang.Override
-      public GetUserArgs parsePartialFrom(
+      public LoginResult parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new GetUserArgs(input, extensionRegistry);
+        return new LoginResult(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<GetUserArgs> parser() {
+    public static com.google.protobuf.Parser<LoginResult> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<GetUserArgs> getParserForType() {
+    public com.google.protobuf.Parser<LoginResult> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs getDefaultInstanceForType() {
+    public fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginResult getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface GetUserResultOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:GetUserResult)
+  public interface GetUsersByIdsArgsOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:GetUsersByIdsArgs)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>.GrpcUser user = 1;</code>
-     * @return Whether the user field is set.
+     * <code>repeated string userId = 1;</code>
+     * @return A list containing the userId.
      */
-    boolean hasUser();
+    java.util.List<java.lang.String>
+        getUserIdList();
     /**
-     * <code>.GrpcUser user = 1;</code>
-     * @return The user.
+     * <code>repeated string userId = 1;</code>
+     * @return The count of userId.
      */
-    fctreddit.impl.grpc.generated_java.UsersProtoBuf.GrpcUser getUser();
+    int getUserIdCount();
     /**
-     * <code>.GrpcUser user = 1;</code>
+     * <code>repeated string userId = 1;</code>
+     * @param index The index of the element to return.
+     * @return The userId at the given index.
      */
-    fctreddit.impl.grpc.generated_java.UsersProtoBuf.GrpcUserOrBuilder getUserOrBuilder();
+    java.lang.String getUserId(int index);
+    /**
+     * <code>repeated string userId = 1;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the userId at the given index.
+     */
+    com.google.protobuf.ByteString
+        getUserIdBytes(int index);
   }
   /**
-   * Protobuf type {@code GetUserResult}
+   * Protobuf type {@code GetUsersByIdsArgs}
    */
-  public static final class GetUserResult extends
+  public static final class GetUsersByIdsArgs extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:GetUserResult)
-      GetUserResultOrBuilder {
+      // @@protoc_insertion_point(message_implements:GetUsersByIdsArgs)
+      GetUsersByIdsArgsOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use GetUserResult.newBuilder() to construct.
-    private GetUserResult(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use GetUsersByIdsArgs.newBuilder() to construct.
+    private GetUsersByIdsArgs(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private GetUserResult() {
+    private GetUsersByIdsArgs() {
+      userId_ = com.google.protobuf.LazyStringArrayList.EMPTY;
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new GetUserResult();
+      return new GetUsersByIdsArgs();
     }
 
     @java.lang.Override
@@ -3329,7 +5996,7 @@ public final class UsersProtoBuf {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private GetUserResult(
+    private GetUsersByIdsArgs(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -3337,6 +6004,7 @@ public final class UsersProtoBuf {
       if (extensionRegistry == null) {
         throw new java.lang.NullPointerException();
       }
+      int mutable_bitField0_ = 0;
       com.google.protobuf.UnknownFieldSet.Builder unknownFields =
           com.google.protobuf.UnknownFieldSet.newBuilder();
       try {
@@ -3348,16 +6016,12 @@ public final class UsersProtoBuf {
               done = true;
               break;
             case 10: {
-              fctreddit.impl.grpc.generated_java.UsersProtoBuf.GrpcUser.Builder subBuilder = null;
-              if (user_ != null) {
-                subBuilder = user_.toBuilder();
-              }
-              user_ = input.readMessage(fctreddit.impl.grpc.generated_java.UsersProtoBuf.GrpcUser.parser(), extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom(user_);
-                user_ = subBuilder.buildPartial();
+              java.lang.String s = input.readStringRequireUtf8();
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                userId_ = new com.google.protobuf.LazyStringArrayList();
+                mutable_bitField0_ |= 0x00000001;
               }
-
+              userId_.add(s);
               break;
             }
             default: {
@@ -3377,47 +6041,59 @@ public final class UsersProtoBuf {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e).setUnfinishedMessage(this);
       } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          userId_ = userId_.getUnmodifiableView();
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return fctreddit.impl.grpc.generated_java.UsersProtoBuf.internal_static_GetUserResult_descriptor;
+      return fctreddit.impl.grpc.generated_java.UsersProtoBuf.internal_static_GetUsersByIdsArgs_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return fctreddit.impl.grpc.generated_java.UsersProtoBuf.internal_static_GetUserResult_fieldAccessorTable
+      return fctreddit.impl.grpc.generated_java.UsersProtoBuf.internal_static_GetUsersByIdsArgs_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult.class, fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult.Builder.class);
+              fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUsersByIdsArgs.class, fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUsersByIdsArgs.Builder.class);
     }
 
-    public static final int USER_FIELD_NUMBER = 1;
-    private fctreddit.impl.grpc.generated_java.UsersProtoBuf.GrpcUser user_;
+    public static final int USERID_FIELD_NUMBER = 1;
+    private com.google.protobuf.LazyStringList userId_;
     /**
-     * <code>.GrpcUser user = 1;</code>
-     * @return Whether the user field is set.
+     * <code>repeated string userId = 1;</code>
+     * @return A list containing the userId.
      */
-    @java.lang.Override
-    public boolean hasUser() {
-      return user_ != null;
+    public com.google.protobuf.ProtocolStringList
+        getUserIdList() {
+      return userId_;
     }
     /**
-     * <code>.GrpcUser user = 1;</code>
-     * @return The user.
+     * <code>repeated string userId = 1;</code>
+     * @return The count of userId.
      */
-    @java.lang.Override
-    public fctreddit.impl.grpc.generated_java.UsersProtoBuf.GrpcUser getUser() {
-      return user_ == null ? fctreddit.impl.grpc.generated_java.UsersProtoBuf.GrpcUser.getDefaultInstance() : user_;
+    public int getUserIdCount() {
+      return userId_.size();
     }
     /**
-     * <code>.GrpcUser user = 1;</code>
+     * <code>repeated string userId = 1;</code>
+     * @param index The index of the element to return.
+     * @return The userId at the given index.
      */
-    @java.lang.Override
-    public fctreddit.impl.grpc.generated_java.UsersProtoBuf.GrpcUserOrBuilder getUserOrBuilder() {
-      return getUser();
+    public java.lang.String getUserId(int index) {
+      return userId_.get(index);
+    }
+    /**
+     * <code>repeated string userId = 1;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the userId at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getUserIdBytes(int index) {
+      return userId_.getByteString(index);
     }
 
     private byte memoizedIsInitialized = -1;
@@ -3434,8 +6110,8 @@ public final class UsersProtoBuf {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (user_ != null) {
-        output.writeMessage(1, getUser());
+      for (int i = 0; i < userId_.size(); i++) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, userId_.getRaw(i));
       }
       unknownFields.writeTo(output);
     }
@@ -3446,9 +6122,13 @@ public final class UsersProtoBuf {
       if (size != -1) return size;
 
       size = 0;
-      if (user_ != null) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(1, getUser());
+      {
+        int dataSize = 0;
+        for (int i = 0; i < userId_.size(); i++) {
+          dataSize += computeStringSizeNoTag(userId_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getUserIdList().size();
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -3460,16 +6140,13 @@ public final class UsersProtoBuf {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult)) {
+      if (!(obj instanceof fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUsersByIdsArgs)) {
         return super.equals(obj);
       }
-      fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult other = (fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult) obj;
+      fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUsersByIdsArgs other = (fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUsersByIdsArgs) obj;
 
-      if (hasUser() != other.hasUser()) return false;
-      if (hasUser()) {
-        if (!getUser()
-            .equals(other.getUser())) return false;
-      }
+      if (!getUserIdList()
+          .equals(other.getUserIdList())) return false;
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -3481,78 +6158,78 @@ public final class UsersProtoBuf {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      if (hasUser()) {
-        hash = (37 * hash) + USER_FIELD_NUMBER;
-        hash = (53 * hash) + getUser().hashCode();
+      if (getUserIdCount() > 0) {
+        hash = (37 * hash) + USERID_FIELD_NUMBER;
+        hash = (53 * hash) + getUserIdList().hashCode();
       }
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult parseFrom(
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUsersByIdsArgs parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult parseFrom(
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUsersByIdsArgs parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult parseFrom(
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUsersByIdsArgs parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult parseFrom(
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUsersByIdsArgs parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult parseFrom(byte[] data)
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUsersByIdsArgs parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult parseFrom(
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUsersByIdsArgs parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult parseFrom(java.io.InputStream input)
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUsersByIdsArgs parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult parseFrom(
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUsersByIdsArgs parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult parseDelimitedFrom(java.io.InputStream input)
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUsersByIdsArgs parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult parseDelimitedFrom(
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUsersByIdsArgs parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult parseFrom(
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUsersByIdsArgs parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult parseFrom(
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUsersByIdsArgs parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -3565,7 +6242,7 @@ public final class UsersProtoBuf {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult prototype) {
+    public static Builder newBuilder(fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUsersByIdsArgs prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -3581,26 +6258,26 @@ public final class UsersProtoBuf {
       return builder;
     }
     /**
-     * Protobuf type {@code GetUserResult}
+     * Protobuf type {@code GetUsersByIdsArgs}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:GetUserResult)
-        fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResultOrBuilder {
+        // @@protoc_insertion_point(builder_implements:GetUsersByIdsArgs)
+        fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUsersByIdsArgsOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return fctreddit.impl.grpc.generated_java.UsersProtoBuf.internal_static_GetUserResult_descriptor;
+        return fctreddit.impl.grpc.generated_java.UsersProtoBuf.internal_static_GetUsersByIdsArgs_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return fctreddit.impl.grpc.generated_java.UsersProtoBuf.internal_static_GetUserResult_fieldAccessorTable
+        return fctreddit.impl.grpc.generated_java.UsersProtoBuf.internal_static_GetUsersByIdsArgs_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult.class, fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult.Builder.class);
+                fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUsersByIdsArgs.class, fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUsersByIdsArgs.Builder.class);
       }
 
-      // Construct using fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult.newBuilder()
+      // Construct using fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUsersByIdsArgs.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -3618,29 +6295,25 @@ public final class UsersProtoBuf {
       @java.lang.Override
       public Builder clear() {
         super.clear();
-        if (userBuilder_ == null) {
-          user_ = null;
-        } else {
-          user_ = null;
-          userBuilder_ = null;
-        }
+        userId_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000001);
         return this;
       }
 
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return fctreddit.impl.grpc.generated_java.UsersProtoBuf.internal_static_GetUserResult_descriptor;
+        return fctreddit.impl.grpc.generated_java.UsersProtoBuf.internal_static_GetUsersByIdsArgs_descriptor;
       }
 
       @java.lang.Override
-      public fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult getDefaultInstanceForType() {
-        return fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult.getDefaultInstance();
+      public fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUsersByIdsArgs getDefaultInstanceForType() {
+        return fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUsersByIdsArgs.getDefaultInstance();
       }
 
       @java.lang.Override
-      public fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult build() {
-        fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult result = buildPartial();
+      public fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUsersByIdsArgs build() {
+        fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUsersByIdsArgs result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -3648,13 +6321,14 @@ public final class UsersProtoBuf {
       }
 
       @java.lang.Override
-      public fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult buildPartial() {
-        fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult result = new fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult(this);
-        if (userBuilder_ == null) {
-          result.user_ = user_;
-        } else {
-          result.user_ = userBuilder_.build();
+      public fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUsersByIdsArgs buildPartial() {
+        fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUsersByIdsArgs result = new fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUsersByIdsArgs(this);
+        int from_bitField0_ = bitField0_;
+        if (((bitField0_ & 0x00000001) != 0)) {
+          userId_ = userId_.getUnmodifiableView();
+          bitField0_ = (bitField0_ & ~0x00000001);
         }
+        result.userId_ = userId_;
         onBuilt();
         return result;
       }
@@ -3693,18 +6367,25 @@ public final class UsersProtoBuf {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult) {
-          return mergeFrom((fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult)other);
+        if (other instanceof fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUsersByIdsArgs) {
+          return mergeFrom((fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUsersByIdsArgs)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult other) {
-        if (other == fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult.getDefaultInstance()) return this;
-        if (other.hasUser()) {
-          mergeUser(other.getUser());
+      public Builder mergeFrom(fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUsersByIdsArgs other) {
+        if (other == fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUsersByIdsArgs.getDefaultInstance()) return this;
+        if (!other.userId_.isEmpty()) {
+          if (userId_.isEmpty()) {
+            userId_ = other.userId_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureUserIdIsMutable();
+            userId_.addAll(other.userId_);
+          }
+          onChanged();
         }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
@@ -3721,11 +6402,11 @@ public final class UsersProtoBuf {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult parsedMessage = null;
+        fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUsersByIdsArgs parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult) e.getUnfinishedMessage();
+          parsedMessage = (fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUsersByIdsArgs) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -3734,124 +6415,116 @@ public final class UsersProtoBuf {
         }
         return this;
       }
+      private int bitField0_;
 
-      private fctreddit.impl.grpc.generated_java.UsersProtoBuf.GrpcUser user_;
-      private com.google.protobuf.SingleFieldBuilderV3<
-          fctreddit.impl.grpc.generated_java.UsersProtoBuf.GrpcUser, fctreddit.impl.grpc.generated_java.UsersProtoBuf.GrpcUser.Builder, fctreddit.impl.grpc.generated_java.UsersProtoBuf.GrpcUserOrBuilder> userBuilder_;
+      private com.google.protobuf.LazyStringList userId_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensureUserIdIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          userId_ = new com.google.protobuf.LazyStringArrayList(userId_);
+          bitField0_ |= 0x00000001;
+         }
+      }
       /**
-       * <code>.GrpcUser user = 1;</code>
-       * @return Whether the user field is set.
+       * <code>repeated string userId = 1;</code>
+       * @return A list containing the userId.
        */
-      public boolean hasUser() {
-        return userBuilder_ != null || user_ != null;
+      public com.google.protobuf.ProtocolStringList
+          getUserIdList() {
+        return userId_.getUnmodifiableView();
       }
       /**
-       * <code>.GrpcUser user = 1;</code>
-       * @return The user.
+       * <code>repeated string userId = 1;</code>
+       * @return The count of userId.
        */
-      public fctreddit.impl.grpc.generated_java.UsersProtoBuf.GrpcUser getUser() {
-        if (userBuilder_ == null) {
-          return user_ == null ? fctreddit.impl.grpc.generated_java.UsersProtoBuf.GrpcUser.getDefaultInstance() : user_;
-        } else {
-          return userBuilder_.getMessage();
-        }
+      public int getUserIdCount() {
+        return userId_.size();
       }
       /**
-       * <code>.GrpcUser user = 1;</code>
+       * <code>repeated string userId = 1;</code>
+       * @param index The index of the element to return.
+       * @return The userId at the given index.
        */
-      public Builder setUser(fctreddit.impl.grpc.generated_java.UsersProtoBuf.GrpcUser value) {
-        if (userBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          user_ = value;
-          onChanged();
-        } else {
-          userBuilder_.setMessage(value);
-        }
-
-        return this;
+      public java.lang.String getUserId(int index) {
+        return userId_.get(index);
       }
       /**
-       * <code>.GrpcUser user = 1;</code>
+       * <code>repeated string userId = 1;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the userId at the given index.
        */
-      public Builder setUser(
-          fctreddit.impl.grpc.generated_java.UsersProtoBuf.GrpcUser.Builder builderForValue) {
-        if (userBuilder_ == null) {
-          user_ = builderForValue.build();
-          onChanged();
-        } else {
-          userBuilder_.setMessage(builderForValue.build());
-        }
-
-        return this;
+      public com.google.protobuf.ByteString
+          getUserIdBytes(int index) {
+        return userId_.getByteString(index);
       }
       /**
-       * <code>.GrpcUser user = 1;</code>
+       * <code>repeated string userId = 1;</code>
+       * @param index The index to set the value at.
+       * @param value The userId to set.
+       * @return This builder for chaining.
        */
-      public Builder mergeUser(fctreddit.impl.grpc.generated_java.UsersProtoBuf.GrpcUser value) {
-        if (userBuilder_ == null) {
-          if (user_ != null) {
-            user_ =
-              fctreddit.impl.grpc.generated_java.UsersProtoBuf.GrpcUser.newBuilder(user_).mergeFrom(value).buildPartial();
-          } else {
-            user_ = value;
-          }
-          onChanged();
-        } else {
-          userBuilder_.mergeFrom(value);
-        }
-
+      public Builder setUserId(
+          int index, java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureUserIdIsMutable();
+        userId_.set(index, value);
+        onChanged();
         return this;
       }
       /**
-       * <code>.GrpcUser user = 1;</code>
+       * <code>repeated string userId = 1;</code>
+       * @param value The userId to add.
+       * @return This builder for chaining.
        */
-      public Builder clearUser() {
-        if (userBuilder_ == null) {
-          user_ = null;
-          onChanged();
-        } else {
-          user_ = null;
-          userBuilder_ = null;
-        }
-
+      public Builder addUserId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureUserIdIsMutable();
+        userId_.add(value);
+        onChanged();
         return this;
       }
       /**
-       * <code>.GrpcUser user = 1;</code>
+       * <code>repeated string userId = 1;</code>
+       * @param values The userId to add.
+       * @return This builder for chaining.
        */
-      public fctreddit.impl.grpc.generated_java.UsersProtoBuf.GrpcUser.Builder getUserBuilder() {
-        
+      public Builder addAllUserId(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureUserIdIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, userId_);
         onChanged();
-        return getUserFieldBuilder().getBuilder();
+        return this;
       }
       /**
-       * <code>.GrpcUser user = 1;</code>
+       * <code>repeated string userId = 1;</code>
+       * @return This builder for chaining.
        */
-      public fctreddit.impl.grpc.generated_java.UsersProtoBuf.GrpcUserOrBuilder getUserOrBuilder() {
-        if (userBuilder_ != null) {
-          return userBuilder_.getMessageOrBuilder();
-        } else {
-          return user_ == null ?
-              fctreddit.impl.grpc.generated_java.UsersProtoBuf.GrpcUser.getDefaultInstance() : user_;
-        }
+      public Builder clearUserId() {
+        userId_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
       }
       /**
-       * <code>.GrpcUser user = 1;</code>
+       * <code>repeated string userId = 1;</code>
+       * @param value The bytes of the userId to add.
+       * @return This builder for chaining.
        */
-      private com.google.protobuf.SingleFieldBuilderV3<
-          fctreddit.impl.grpc.generated_java.UsersProtoBuf.GrpcUser, fctreddit.impl.grpc.generated_java.UsersProtoBuf.GrpcUser.Builder, fctreddit.impl.grpc.generated_java.UsersProtoBuf.GrpcUserOrBuilder> 
-          getUserFieldBuilder() {
-        if (userBuilder_ == null) {
-          userBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
-              fctreddit.impl.grpc.generated_java.UsersProtoBuf.GrpcUser, fctreddit.impl.grpc.generated_java.UsersProtoBuf.GrpcUser.Builder, fctreddit.impl.grpc.generated_java.UsersProtoBuf.GrpcUserOrBuilder>(
-                  getUser(),
-                  getParentForChildren(),
-                  isClean());
-          user_ = null;
-        }
-        return userBuilder_;
+      public Builder addUserIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        ensureUserIdIsMutable();
+        userId_.add(value);
+        onChanged();
+        return this;
       }
       @java.lang.Override
       public final Builder setUnknownFields(
@@ -3866,41 +6539,41 @@ public final class UsersProtoBuf {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:GetUserResult)
+      // @@protoc_insertion_point(builder_scope:GetUsersByIdsArgs)
     }
 
-    // @@protoc_insertion_point(class_scope:GetUserResult)
-    private static final fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:GetUsersByIdsArgs)
+    private static final fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUsersByIdsArgs DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult();
+      DEFAULT_INSTANCE = new fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUsersByIdsArgs();
     }
 
-    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult getDefaultInstance() {
+    public static fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUsersByIdsArgs getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<GetUserResult>
-        PARSER = new com.google.protobuf.AbstractParser<GetUserResult>() {
+    private static final com.google.protobuf.Parser<GetUsersByIdsArgs>
+        PARSER = new com.google.protobuf.AbstractParser<GetUsersByIdsArgs>() {
       @java.lang.Override
-      public GetUserResult parsePartialFrom(
+      public GetUsersByIdsArgs parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new GetUserResult(input, extensionRegistry);
+        return new GetUsersByIdsArgs(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<GetUserResult> parser() {
+    public static com.google.protobuf.Parser<GetUsersByIdsArgs> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<GetUserResult> getParserForType() {
+    public com.google.protobuf.Parser<GetUsersByIdsArgs> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult getDefaultInstanceForType() {
+    public fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUsersByIdsArgs getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
@@ -6815,6 +9488,34 @@ public final class UsersProtoBuf {
      */
     com.google.protobuf.ByteString
         getPatternBytes();
+
+    /**
+     * <code>optional string cursor = 2;</code>
+     * @return Whether the cursor field is set.
+     */
+    boolean hasCursor();
+    /**
+     * <code>optional string cursor = 2;</code>
+     * @return The cursor.
+     */
+    java.lang.String getCursor();
+    /**
+     * <code>optional string cursor = 2;</code>
+     * @return The bytes for cursor.
+     */
+    com.google.protobuf.ByteString
+        getCursorBytes();
+
+    /**
+     * <code>optional int32 limit = 3;</code>
+     * @return Whether the limit field is set.
+     */
+    boolean hasLimit();
+    /**
+     * <code>optional int32 limit = 3;</code>
+     * @return The limit.
+     */
+    int getLimit();
   }
   /**
    * Protobuf type {@code SearchUserArgs}
@@ -6830,6 +9531,7 @@ public final class UsersProtoBuf {
     }
     private SearchUserArgs() {
       pattern_ = "";
+      cursor_ = "";
     }
 
     @java.lang.Override
@@ -6869,6 +9571,17 @@ public final class UsersProtoBuf {
               pattern_ = s;
               break;
             }
+            case 18: {
+              java.lang.String s = input.readStringRequireUtf8();
+              bitField0_ |= 0x00000002;
+              cursor_ = s;
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              limit_ = input.readInt32();
+              break;
+            }
             default: {
               if (!parseUnknownField(
                   input, unknownFields, extensionRegistry, tag)) {
@@ -6950,6 +9663,71 @@ public final class UsersProtoBuf {
       }
     }
 
+    public static final int CURSOR_FIELD_NUMBER = 2;
+    private volatile java.lang.Object cursor_;
+    /**
+     * <code>optional string cursor = 2;</code>
+     * @return Whether the cursor field is set.
+     */
+    @java.lang.Override
+    public boolean hasCursor() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional string cursor = 2;</code>
+     * @return The cursor.
+     */
+    @java.lang.Override
+    public java.lang.String getCursor() {
+      java.lang.Object ref = cursor_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        cursor_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string cursor = 2;</code>
+     * @return The bytes for cursor.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getCursorBytes() {
+      java.lang.Object ref = cursor_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        cursor_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int LIMIT_FIELD_NUMBER = 3;
+    private int limit_;
+    /**
+     * <code>optional int32 limit = 3;</code>
+     * @return Whether the limit field is set.
+     */
+    @java.lang.Override
+    public boolean hasLimit() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>optional int32 limit = 3;</code>
+     * @return The limit.
+     */
+    @java.lang.Override
+    public int getLimit() {
+      return limit_;
+    }
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -6967,6 +9745,12 @@ public final class UsersProtoBuf {
       if (((bitField0_ & 0x00000001) != 0)) {
         com.google.protobuf.GeneratedMessageV3.writeString(output, 1, pattern_);
       }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, cursor_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        output.writeInt32(3, limit_);
+      }
       unknownFields.writeTo(output);
     }
 
@@ -6979,6 +9763,13 @@ public final class UsersProtoBuf {
       if (((bitField0_ & 0x00000001) != 0)) {
         size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, pattern_);
       }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, cursor_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(3, limit_);
+      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -6999,6 +9790,16 @@ public final class UsersProtoBuf {
         if (!getPattern()
             .equals(other.getPattern())) return false;
       }
+      if (hasCursor() != other.hasCursor()) return false;
+      if (hasCursor()) {
+        if (!getCursor()
+            .equals(other.getCursor())) return false;
+      }
+      if (hasLimit() != other.hasLimit()) return false;
+      if (hasLimit()) {
+        if (getLimit()
+            != other.getLimit()) return false;
+      }
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -7014,6 +9815,14 @@ public final class UsersProtoBuf {
         hash = (37 * hash) + PATTERN_FIELD_NUMBER;
         hash = (53 * hash) + getPattern().hashCode();
       }
+      if (hasCursor()) {
+        hash = (37 * hash) + CURSOR_FIELD_NUMBER;
+        hash = (53 * hash) + getCursor().hashCode();
+      }
+      if (hasLimit()) {
+        hash = (37 * hash) + LIMIT_FIELD_NUMBER;
+        hash = (53 * hash) + getLimit();
+      }
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -7149,6 +9958,10 @@ public final class UsersProtoBuf {
         super.clear();
         pattern_ = "";
         bitField0_ = (bitField0_ & ~0x00000001);
+        cursor_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
+        limit_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000004);
         return this;
       }
 
@@ -7181,6 +9994,14 @@ public final class UsersProtoBuf {
           to_bitField0_ |= 0x00000001;
         }
         result.pattern_ = pattern_;
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.cursor_ = cursor_;
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.limit_ = limit_;
+          to_bitField0_ |= 0x00000004;
+        }
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -7235,6 +10056,14 @@ public final class UsersProtoBuf {
           pattern_ = other.pattern_;
           onChanged();
         }
+        if (other.hasCursor()) {
+          bitField0_ |= 0x00000002;
+          cursor_ = other.cursor_;
+          onChanged();
+        }
+        if (other.hasLimit()) {
+          setLimit(other.getLimit());
+        }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
@@ -7347,6 +10176,128 @@ public final class UsersProtoBuf {
         onChanged();
         return this;
       }
+
+      private java.lang.Object cursor_ = "";
+      /**
+       * <code>optional string cursor = 2;</code>
+       * @return Whether the cursor field is set.
+       */
+      public boolean hasCursor() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional string cursor = 2;</code>
+       * @return The cursor.
+       */
+      public java.lang.String getCursor() {
+        java.lang.Object ref = cursor_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          cursor_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string cursor = 2;</code>
+       * @return The bytes for cursor.
+       */
+      public com.google.protobuf.ByteString
+          getCursorBytes() {
+        java.lang.Object ref = cursor_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          cursor_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string cursor = 2;</code>
+       * @param value The cursor to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCursor(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        cursor_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string cursor = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCursor() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        cursor_ = getDefaultInstance().getCursor();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string cursor = 2;</code>
+       * @param value The bytes for cursor to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCursorBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        bitField0_ |= 0x00000002;
+        cursor_ = value;
+        onChanged();
+        return this;
+      }
+
+      private int limit_ ;
+      /**
+       * <code>optional int32 limit = 3;</code>
+       * @return Whether the limit field is set.
+       */
+      @java.lang.Override
+      public boolean hasLimit() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>optional int32 limit = 3;</code>
+       * @return The limit.
+       */
+      @java.lang.Override
+      public int getLimit() {
+        return limit_;
+      }
+      /**
+       * <code>optional int32 limit = 3;</code>
+       * @param value The limit to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLimit(int value) {
+        bitField0_ |= 0x00000004;
+        limit_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 limit = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLimit() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        limit_ = 0;
+        onChanged();
+        return this;
+      }
       @java.lang.Override
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -7415,6 +10366,11 @@ public final class UsersProtoBuf {
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_CreateUserResult_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CreateUsersResult_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_CreateUsersResult_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_GetUserArgs_descriptor;
   private static final 
@@ -7425,6 +10381,21 @@ public final class UsersProtoBuf {
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_GetUserResult_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_LoginArgs_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_LoginArgs_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_LoginResult_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_LoginResult_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_GetUsersByIdsArgs_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_GetUsersByIdsArgs_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_UpdateUserArgs_descriptor;
   private static final 
@@ -7466,24 +10437,34 @@ public final class UsersProtoBuf {
       "B\t\n\007_userIdB\010\n\006_emailB\013\n\t_fullNameB\013\n\t_p" +
       "asswordB\014\n\n_avatarUrl\")\n\016CreateUserArgs\022" +
       "\027\n\004user\030\001 \001(\0132\t.GrpcUser\"\"\n\020CreateUserRe" +
-      "sult\022\016\n\006userId\030\001 \001(\t\"A\n\013GetUserArgs\022\016\n\006u" +
-      "serId\030\001 \001(\t\022\025\n\010password\030\002 \001(\tH\000\210\001\001B\013\n\t_p" +
-      "assword\"(\n\rGetUserResult\022\027\n\004user\030\001 \001(\0132\t" +
-      ".GrpcUser\"K\n\016UpdateUserArgs\022\016\n\006userId\030\001 " +
-      "\001(\t\022\020\n\010password\030\002 \001(\t\022\027\n\004user\030\003 \001(\0132\t.Gr" +
-      "pcUser\"+\n\020UpdateUserResult\022\027\n\004user\030\001 \001(\013" +
-      "2\t.GrpcUser\"2\n\016DeleteUserArgs\022\016\n\006userId\030" +
-      "\001 \001(\t\022\020\n\010password\030\002 \001(\t\"+\n\020DeleteUserRes" +
-      "ult\022\027\n\004user\030\001 \001(\0132\t.GrpcUser\"2\n\016SearchUs" +
-      "erArgs\022\024\n\007pattern\030\001 \001(\tH\000\210\001\001B\n\n\010_pattern" +
-      "2\375\001\n\005Users\0222\n\ncreateUser\022\017.CreateUserArg" +
-      "s\032\021.CreateUserResult\"\000\022)\n\007getUser\022\014.GetU" +
-      "serArgs\032\016.GetUserResult\"\000\0222\n\nupdateUser\022" +
-      "\017.UpdateUserArgs\032\021.UpdateUserResult\"\000\0222\n" +
-      "\ndeleteUser\022\017.DeleteUserArgs\032\021.DeleteUse" +
-      "rResult\"\000\022-\n\013searchUsers\022\017.SearchUserArg" +
-      "s\032\t.GrpcUser\"\0000\001B3\n\"fctreddit.impl.grpc." +
-      "generated_javaB\rUsersProtoBufb\006proto3"
+      "sult\022\016\n\006userId\030\001 \001(\t\"#\n\021CreateUsersResul" +
+      "t\022\016\n\006status\030\001 \003(\t\"A\n\013GetUserArgs\022\016\n\006user" +
+      "Id\030\001 \001(\t\022\025\n\010password\030\002 \001(\tH\000\210\001\001B\013\n\t_pass" +
+      "word\"(\n\rGetUserResult\022\027\n\004user\030\001 \001(\0132\t.Gr" +
+      "pcUser\"?\n\tLoginArgs\022\016\n\006userId\030\001 \001(\t\022\025\n\010p" +
+      "assword\030\002 \001(\tH\000\210\001\001B\013\n\t_password\"\034\n\013Login" +
+      "Result\022\r\n\005token\030\001 \001(\t\"#\n\021GetUsersByIdsAr" +
+      "gs\022\016\n\006userId\030\001 \003(\t\"K\n\016UpdateUserArgs\022\016\n\006" +
+      "userId\030\001 \001(\t\022\020\n\010password\030\002 \001(\t\022\027\n\004user\030\003" +
+      " \001(\0132\t.GrpcUser\"+\n\020UpdateUserResult\022\027\n\004u" +
+      "ser\030\001 \001(\0132\t.GrpcUser\"2\n\016DeleteUserArgs\022\016" +
+      "\n\006userId\030\001 \001(\t\022\020\n\010password\030\002 \001(\t\"+\n\020Dele" +
+      "teUserResult\022\027\n\004user\030\001 \001(\0132\t.GrpcUser\"p\n" +
+      "\016SearchUserArgs\022\024\n\007pattern\030\001 \001(\tH\000\210\001\001\022\023\n" +
+      "\006cursor\030\002 \001(\tH\001\210\001\001\022\022\n\005limit\030\003 \001(\005H\002\210\001\001B\n" +
+      "\n\010_patternB\t\n\007_cursorB\010\n\006_limit2\216\003\n\005User" +
+      "s\0222\n\ncreateUser\022\017.CreateUserArgs\032\021.Creat" +
+      "eUserResult\"\000\0226\n\013createUsers\022\017.CreateUse" +
+      "rArgs\032\022.CreateUsersResult\"\000(\001\022)\n\007getUser" +
+      "\022\014.GetUserArgs\032\016.GetUserResult\"\000\022#\n\005logi" +
+      "n\022\n.LoginArgs\032\014.LoginResult\"\000\0222\n\rgetUser" +
+      "sByIds\022\022.GetUsersByIdsArgs\032\t.GrpcUser\"\0000" +
+      "\001\0222\n\nupdateUser\022\017.UpdateUserArgs\032\021.Updat" +
+      "eUserResult\"\000\0222\n\ndeleteUser\022\017.DeleteUser" +
+      "Args\032\021.DeleteUserResult\"\000\022-\n\013searchUsers" +
+      "\022\017.SearchUserArgs\032\t.GrpcUser\"\0000\001B3\n\"fctr" +
+      "eddit.impl.grpc.generated_javaB\rUsersPro" +
+      "toBufb\006proto3"
     };
     descriptor = com.google.protobuf.Descriptors.FileDescriptor
       .internalBuildGeneratedFileFrom(descriptorData,
@@ -7507,48 +10488,72 @@ public final class UsersProtoBuf {
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_CreateUserResult_descriptor,
         new java.lang.String[] { "UserId", });
-    internal_static_GetUserArgs_descriptor =
+    internal_static_CreateUsersResult_descriptor =
       getDescriptor().getMessageTypes().get(3);
+    internal_static_CreateUsersResult_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_CreateUsersResult_descriptor,
+        new java.lang.String[] { "Status", });
+    internal_static_GetUserArgs_descriptor =
+      getDescriptor().getMessageTypes().get(4);
     internal_static_GetUserArgs_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_GetUserArgs_descriptor,
         new java.lang.String[] { "UserId", "Password", "Password", });
     internal_static_GetUserResult_descriptor =
-      getDescriptor().getMessageTypes().get(4);
+      getDescriptor().getMessageTypes().get(5);
     internal_static_GetUserResult_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_GetUserResult_descriptor,
         new java.lang.String[] { "User", });
+    internal_static_LoginArgs_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_LoginArgs_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_LoginArgs_descriptor,
+        new java.lang.String[] { "UserId", "Password", "Password", });
+    internal_static_LoginResult_descriptor =
+      getDescriptor().getMessageTypes().get(7);
+    internal_static_LoginResult_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_LoginResult_descriptor,
+        new java.lang.String[] { "Token", });
+    internal_static_GetUsersByIdsArgs_descriptor =
+      getDescriptor().getMessageTypes().get(8);
+    internal_static_GetUsersByIdsArgs_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_GetUsersByIdsArgs_descriptor,
+        new java.lang.String[] { "UserId", });
     internal_static_UpdateUserArgs_descriptor =
-      getDescriptor().getMessageTypes().get(5);
+      getDescriptor().getMessageTypes().get(9);
     internal_static_UpdateUserArgs_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_UpdateUserArgs_descriptor,
         new java.lang.String[] { "UserId", "Password", "User", });
     internal_static_UpdateUserResult_descriptor =
-      getDescriptor().getMessageTypes().get(6);
+      getDescriptor().getMessageTypes().get(10);
     internal_static_UpdateUserResult_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_UpdateUserResult_descriptor,
         new java.lang.String[] { "User", });
     internal_static_DeleteUserArgs_descriptor =
-      getDescriptor().getMessageTypes().get(7);
+      getDescriptor().getMessageTypes().get(11);
     internal_static_DeleteUserArgs_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_DeleteUserArgs_descriptor,
         new java.lang.String[] { "UserId", "Password", });
     internal_static_DeleteUserResult_descriptor =
-      getDescriptor().getMessageTypes().get(8);
+      getDescriptor().getMessageTypes().get(12);
     internal_static_DeleteUserResult_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_DeleteUserResult_descriptor,
         new java.lang.String[] { "User", });
     internal_static_SearchUserArgs_descriptor =
-      getDescriptor().getMessageTypes().get(9);
+      getDescriptor().getMessageTypes().get(13);
     internal_static_SearchUserArgs_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_SearchUserArgs_descriptor,
-        new java.lang.String[] { "Pattern", "Pattern", });
+        new java.lang.String[] { "Pattern", "Cursor", "Limit", "Pattern", "Cursor", "Limit", });
   }
 
   // @@protoc_insertion_point(outer_class_scope)
@@ -0,0 +1,30 @@
+package fctreddit.server.grpc;
+
+import fctreddit.server.java.Startup;
+import io.grpc.ForwardingServerCall;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+
+/**
+ * Logs how long after the JVM started this server completed its first call. Once it has,
+ * calls are no longer wrapped.
+ */
+public class FirstResponseInterceptor implements ServerInterceptor {
+
+	@Override
+	public <Q, R> ServerCall.Listener<Q> interceptCall(ServerCall<Q, R> call, Metadata headers, ServerCallHandler<Q, R> next) {
+		if (Startup.hasResponded())
+			return next.startCall(call, headers);
+
+		return next.startCall(new ForwardingServerCall.SimpleForwardingServerCall<Q, R>(call) {
+			@Override
+			public void close(Status status, Metadata trailers) {
+				super.close(status, trailers);
+				Startup.responded();
+			}
+		}, headers);
+	}
+}
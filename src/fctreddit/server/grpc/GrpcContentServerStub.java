@@ -0,0 +1,207 @@
+package fctreddit.server.grpc;
+
+import static fctreddit.server.grpc.DataModelAdaptor.GrpcPost_to_Post;
+import static fctreddit.server.grpc.DataModelAdaptor.Post_to_GrpcPost;
+
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+import fctreddit.api.java.AsyncContent;
+import fctreddit.api.java.Result;
+import fctreddit.impl.grpc.generated_java.ContentGrpc;
+import fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs;
+import fctreddit.impl.grpc.generated_java.ContentProtoBuf.CreatePostArgs;
+import fctreddit.impl.grpc.generated_java.ContentProtoBuf.CreatePostResult;
+import fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs;
+import fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage;
+import fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs;
+import fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs;
+import fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsArgs;
+import fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByIdsArgs;
+import fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsResult;
+import fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost;
+import fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs;
+import fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult;
+import fctreddit.server.java.Contents;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+
+public class GrpcContentServerStub extends GrpcStub implements ContentGrpc.AsyncService, io.grpc.BindableService {
+
+	/**
+	 * The engine is resolved on each call, as the REST resources do, so the server can be
+	 * started while it is still being built
+	 */
+	private static AsyncContent impl() {
+		return Contents.getInstance();
+	}
+
+	@Override
+	public final ServerServiceDefinition bindService() {
+		return ContentGrpc.bindService(this);
+	}
+
+	/**
+	 * The reply is sent once the password of the author is checked, so the call holds no
+	 * thread while Users is asked. Writes that check a password are all answered this way.
+	 */
+	@Override
+	public void createPost(CreatePostArgs request, StreamObserver<CreatePostResult> responseObserver) {
+		var pending = impl().createPostAsync(GrpcPost_to_Post(request.getPost()), request.hasPassword() ? request.getPassword() : null);
+		reply(pending, responseObserver, postId -> CreatePostResult.newBuilder().setPostId(postId).build());
+	}
+
+	/**
+	 * Replies with a single page when a limit is given, or with every post otherwise.
+	 */
+	@Override
+	public void getPosts(GetPostsArgs request, StreamObserver<GetPostsResult> responseObserver) {
+		long timestamp = request.hasTimestamp() ? request.getTimestamp() : 0;
+		String sortOrder = request.hasSortOrder() ? request.getSortOrder() : null;
+
+		if (!request.hasLimit()) {
+			replyWithPostIds(impl().getPosts(timestamp, sortOrder), responseObserver);
+			return;
+		}
+
+		var res = impl().getPosts(timestamp, sortOrder, request.hasCursor() ? request.getCursor() : null, request.getLimit());
+		if (!res.isOK())
+			responseObserver.onError(errorCodeToStatus(res.error()));
+		else {
+			var b = GetPostsResult.newBuilder().addAllPostId(res.value().getPostIds());
+			if (res.value().getNextCursor() != null)
+				b.setNextCursor(res.value().getNextCursor());
+			responseObserver.onNext(b.build());
+			responseObserver.onCompleted();
+		}
+	}
+
+	@Override
+	public void getPost(GetPostArgs request, StreamObserver<GrpcPost> responseObserver) {
+		var res = impl().getPost(request.getPostId());
+		if (!res.isOK())
+			responseObserver.onError(errorCodeToStatus(res.error()));
+		else {
+			responseObserver.onNext(Post_to_GrpcPost(res.value()));
+			responseObserver.onCompleted();
+		}
+	}
+
+	/**
+	 * All the posts are copied by the engine before the first one is streamed back.
+	 */
+	@Override
+	public void getPostsByIds(GetPostsByIdsArgs request, StreamObserver<GrpcPost> responseObserver) {
+		var res = impl().getPostsByIds(request.getPostIdList());
+		if (!res.isOK())
+			responseObserver.onError(errorCodeToStatus(res.error()));
+		else {
+			for (var post : res.value())
+				responseObserver.onNext(Post_to_GrpcPost(post));
+			responseObserver.onCompleted();
+		}
+	}
+
+	/**
+	 * The reply is deferred until the engine completes the request, so a waiting
+	 * client holds no thread. Cancelling the call releases the parked waiter.
+	 */
+	@Override
+	public void getPostAnswers(GetPostAnswersArgs request, StreamObserver<GetPostsResult> responseObserver) {
+		var pending = impl().getPostAnswersAsync(request.getPostId(), request.hasTimeout() ? request.getTimeout() : 0);
+
+		if (responseObserver instanceof ServerCallStreamObserver<GetPostsResult> call)
+			call.setOnCancelHandler(() -> pending.cancel(false));
+
+		pending.whenComplete((res, x) -> {
+			if (x != null)
+				responseObserver.onError(x);
+			else
+				replyWithPostIds(res, responseObserver);
+		});
+	}
+
+	@Override
+	public void updatePost(UpdatePostArgs request, StreamObserver<GrpcPost> responseObserver) {
+		var pending = impl().updatePostAsync(request.getPostId(), request.hasPassword() ? request.getPassword() : null,
+				GrpcPost_to_Post(request.getPost()));
+		reply(pending, responseObserver, DataModelAdaptor::Post_to_GrpcPost);
+	}
+
+	@Override
+	public void deletePost(DeletePostArgs request, StreamObserver<EmptyMessage> responseObserver) {
+		replyEmpty(impl().deletePostAsync(request.getPostId(), request.hasPassword() ? request.getPassword() : null),
+				responseObserver);
+	}
+
+	@Override
+	public void upVotePost(ChangeVoteArgs request, StreamObserver<EmptyMessage> responseObserver) {
+		replyEmpty(impl().upVotePostAsync(request.getPostId(), request.getUserId(), request.hasPassword() ? request.getPassword() : null),
+				responseObserver);
+	}
+
+	@Override
+	public void removeUpVotePost(ChangeVoteArgs request, StreamObserver<EmptyMessage> responseObserver) {
+		replyEmpty(impl().removeUpVotePostAsync(request.getPostId(), request.getUserId(), request.hasPassword() ? request.getPassword() : null),
+				responseObserver);
+	}
+
+	@Override
+	public void downVotePost(ChangeVoteArgs request, StreamObserver<EmptyMessage> responseObserver) {
+		replyEmpty(impl().downVotePostAsync(request.getPostId(), request.getUserId(), request.hasPassword() ? request.getPassword() : null),
+				responseObserver);
+	}
+
+	@Override
+	public void removeDownVotePost(ChangeVoteArgs request, StreamObserver<EmptyMessage> responseObserver) {
+		replyEmpty(impl().removeDownVotePostAsync(request.getPostId(), request.getUserId(), request.hasPassword() ? request.getPassword() : null),
+				responseObserver);
+	}
+
+	@Override
+	public void getUpVotes(GetPostArgs request, StreamObserver<VoteCountResult> responseObserver) {
+		replyWithCount(impl().getupVotes(request.getPostId()), responseObserver);
+	}
+
+	@Override
+	public void getDownVotes(GetPostArgs request, StreamObserver<VoteCountResult> responseObserver) {
+		replyWithCount(impl().getDownVotes(request.getPostId()), responseObserver);
+	}
+
+	private static void replyWithPostIds(Result<List<String>> res, StreamObserver<GetPostsResult> responseObserver) {
+		if (!res.isOK())
+			responseObserver.onError(errorCodeToStatus(res.error()));
+		else {
+			responseObserver.onNext(GetPostsResult.newBuilder().addAllPostId(res.value()).build());
+			responseObserver.onCompleted();
+		}
+	}
+
+	private static void replyWithCount(Result<Integer> res, StreamObserver<VoteCountResult> responseObserver) {
+		if (!res.isOK())
+			responseObserver.onError(errorCodeToStatus(res.error()));
+		else {
+			responseObserver.onNext(VoteCountResult.newBuilder().setCount(res.value()).build());
+			responseObserver.onCompleted();
+		}
+	}
+
+	private static void replyEmpty(CompletionStage<Result<Void>> pending, StreamObserver<EmptyMessage> responseObserver) {
+		reply(pending, responseObserver, v -> EmptyMessage.newBuilder().build());
+	}
+
+	private static <T, R> void reply(CompletionStage<Result<T>> pending, StreamObserver<R> responseObserver, Function<T, R> toGrpc) {
+		pending.whenComplete((res, x) -> {
+			if (x != null)
+				responseObserver.onError(x);
+			else if (!res.isOK())
+				responseObserver.onError(errorCodeToStatus(res.error()));
+			else {
+				responseObserver.onNext(toGrpc.apply(res.value()));
+				responseObserver.onCompleted();
+			}
+		});
+	}
+}
@@ -0,0 +1,23 @@
+package fctreddit.server.grpc;
+
+import fctreddit.api.java.Result.ErrorCode;
+import io.grpc.Status;
+import io.grpc.StatusException;
+
+public class GrpcStub {
+
+	/**
+	 * Translates a Result error code to the matching gRPC status exception
+	 */
+	protected static StatusException errorCodeToStatus(ErrorCode error) {
+		var status = switch (error) {
+			case NOT_FOUND -> Status.NOT_FOUND;
+			case CONFLICT -> Status.ALREADY_EXISTS;
+			case FORBIDDEN -> Status.PERMISSION_DENIED;
+			case NOT_IMPLEMENTED -> Status.UNIMPLEMENTED;
+			case BAD_REQUEST, TIMEOUT -> Status.INVALID_ARGUMENT;
+			default -> Status.INTERNAL;
+		};
+		return status.asException();
+	}
+}
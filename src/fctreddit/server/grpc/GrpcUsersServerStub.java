@@ -0,0 +1,219 @@
+package fctreddit.server.grpc;
+
+import static fctreddit.server.grpc.DataModelAdaptor.GrpcUser_to_User;
+import static fctreddit.server.grpc.DataModelAdaptor.User_to_GrpcUser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import fctreddit.api.User;
+import fctreddit.api.java.Result.ErrorCode;
+import fctreddit.impl.grpc.generated_java.UsersGrpc;
+import fctreddit.impl.grpc.generated_java.UsersProtoBuf.CreateUserArgs;
+import fctreddit.impl.grpc.generated_java.UsersProtoBuf.CreateUserResult;
+import fctreddit.impl.grpc.generated_java.UsersProtoBuf.CreateUsersResult;
+import fctreddit.impl.grpc.generated_java.UsersProtoBuf.DeleteUserArgs;
+import fctreddit.impl.grpc.generated_java.UsersProtoBuf.DeleteUserResult;
+import fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserArgs;
+import fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUserResult;
+import fctreddit.impl.grpc.generated_java.UsersProtoBuf.GetUsersByIdsArgs;
+import fctreddit.impl.grpc.generated_java.UsersProtoBuf.GrpcUser;
+import fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginArgs;
+import fctreddit.impl.grpc.generated_java.UsersProtoBuf.LoginResult;
+import fctreddit.impl.grpc.generated_java.UsersProtoBuf.SearchUserArgs;
+import fctreddit.impl.grpc.generated_java.UsersProtoBuf.UpdateUserArgs;
+import fctreddit.impl.grpc.generated_java.UsersProtoBuf.UpdateUserResult;
+import fctreddit.server.java.StreamingUsers;
+import fctreddit.server.java.UsersStorage;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+
+public class GrpcUsersServerStub extends GrpcStub implements UsersGrpc.AsyncService, io.grpc.BindableService {
+
+	private static final int IMPORT_BATCH_SIZE = 1000;
+
+	/**
+	 * The engine is resolved on each call, as the REST resources do, so the server can be
+	 * started while it is still being built
+	 */
+	private static StreamingUsers impl() {
+		return UsersStorage.getInstance();
+	}
+
+	@Override
+	public final ServerServiceDefinition bindService() {
+		return UsersGrpc.bindService(this);
+	}
+
+	@Override
+	public void createUser(CreateUserArgs request, StreamObserver<CreateUserResult> responseObserver) {
+		var res = impl().createUser(GrpcUser_to_User(request.getUser()));
+		if (!res.isOK())
+			responseObserver.onError(errorCodeToStatus(res.error()));
+		else {
+			responseObserver.onNext(CreateUserResult.newBuilder().setUserId(res.value()).build());
+			responseObserver.onCompleted();
+		}
+	}
+
+	/**
+	 * Users are created in batches as they arrive, so the stream is never held in memory
+	 * as a whole. Messages are requested one at a time, so a client sending faster than the
+	 * engine stores waits on flow control. A failure of the engine ends the call and nothing
+	 * more is requested or kept, but users already created remain.
+	 */
+	@Override
+	public StreamObserver<CreateUserArgs> createUsers(StreamObserver<CreateUsersResult> responseObserver) {
+		var call = (ServerCallStreamObserver<CreateUsersResult>) responseObserver;
+		call.disableAutoRequest();
+		call.request(1);
+
+		return new StreamObserver<>() {
+			final List<User> batch = new ArrayList<>();
+			final CreateUsersResult.Builder result = CreateUsersResult.newBuilder();
+			boolean failed;
+
+			@Override
+			public void onNext(CreateUserArgs request) {
+				if (failed)
+					return;
+
+				batch.add(GrpcUser_to_User(request.getUser()));
+				if (batch.size() >= IMPORT_BATCH_SIZE)
+					store();
+				if (!failed)
+					call.request(1);
+			}
+
+			@Override
+			public void onError(Throwable t) {
+				batch.clear();
+			}
+
+			@Override
+			public void onCompleted() {
+				store();
+				if (!failed) {
+					responseObserver.onNext(result.build());
+					responseObserver.onCompleted();
+				}
+			}
+
+			private void store() {
+				if (failed || batch.isEmpty())
+					return;
+
+				var res = impl().createUsers(batch);
+				batch.clear();
+				if (!res.isOK()) {
+					failed = true;
+					// Closing the call cancels the rest of the client stream
+					responseObserver.onError(errorCodeToStatus(res.error()));
+				} else
+					res.value().forEach(outcome -> result.addStatus(outcome.name()));
+			}
+		};
+	}
+
+	@Override
+	public void getUser(GetUserArgs request, StreamObserver<GetUserResult> responseObserver) {
+		var res = impl().getUser(request.getUserId(), request.hasPassword() ? request.getPassword() : null);
+		if (!res.isOK())
+			responseObserver.onError(errorCodeToStatus(res.error()));
+		else {
+			responseObserver.onNext(GetUserResult.newBuilder().setUser(User_to_GrpcUser(res.value())).build());
+			responseObserver.onCompleted();
+		}
+	}
+
+	@Override
+	public void login(LoginArgs request, StreamObserver<LoginResult> responseObserver) {
+		var res = impl().login(request.getUserId(), request.hasPassword() ? request.getPassword() : null);
+		if (!res.isOK())
+			responseObserver.onError(errorCodeToStatus(res.error()));
+		else {
+			responseObserver.onNext(LoginResult.newBuilder().setToken(res.value()).build());
+			responseObserver.onCompleted();
+		}
+	}
+
+	@Override
+	public void getUsersByIds(GetUsersByIdsArgs request, StreamObserver<GrpcUser> responseObserver) {
+		var res = impl().getUsersByIds(request.getUserIdList());
+		if (!res.isOK())
+			responseObserver.onError(errorCodeToStatus(res.error()));
+		else {
+			for (var user : res.value())
+				responseObserver.onNext(User_to_GrpcUser(user));
+			responseObserver.onCompleted();
+		}
+	}
+
+	@Override
+	public void updateUser(UpdateUserArgs request, StreamObserver<UpdateUserResult> responseObserver) {
+		var res = impl().updateUser(request.getUserId(), request.getPassword(), GrpcUser_to_User(request.getUser()));
+		if (!res.isOK())
+			responseObserver.onError(errorCodeToStatus(res.error()));
+		else {
+			responseObserver.onNext(UpdateUserResult.newBuilder().setUser(User_to_GrpcUser(res.value())).build());
+			responseObserver.onCompleted();
+		}
+	}
+
+	@Override
+	public void deleteUser(DeleteUserArgs request, StreamObserver<DeleteUserResult> responseObserver) {
+		var res = impl().deleteUser(request.getUserId(), request.getPassword());
+		if (!res.isOK())
+			responseObserver.onError(errorCodeToStatus(res.error()));
+		else {
+			responseObserver.onNext(DeleteUserResult.newBuilder().setUser(User_to_GrpcUser(res.value())).build());
+			responseObserver.onCompleted();
+		}
+	}
+
+	/**
+	 * Users are read from the engine only while the transport is ready to send them, so a
+	 * slow client holds back the database cursor instead of filling the outbound buffers.
+	 * Cancelling the call releases the cursor.
+	 */
+	@Override
+	public void searchUsers(SearchUserArgs request, StreamObserver<GrpcUser> responseObserver) {
+		var res = impl().streamUsers(request.hasPattern() ? request.getPattern() : "",
+				request.hasCursor() ? request.getCursor() : null, request.hasLimit() ? request.getLimit() : 0);
+		if (!res.isOK()) {
+			responseObserver.onError(errorCodeToStatus(res.error()));
+			return;
+		}
+
+		var users = res.value();
+		var it = users.iterator();
+		var done = new AtomicBoolean();
+		var call = (ServerCallStreamObserver<GrpcUser>) responseObserver;
+
+		call.setOnCancelHandler(() -> {
+			if (done.compareAndSet(false, true))
+				users.close();
+		});
+		call.setOnReadyHandler(() -> {
+			try {
+				while (call.isReady() && !done.get()) {
+					if (!it.hasNext()) {
+						if (done.compareAndSet(false, true)) {
+							users.close();
+							call.onCompleted();
+						}
+						return;
+					}
+					call.onNext(User_to_GrpcUser(it.next()));
+				}
+			} catch (RuntimeException e) {
+				if (done.compareAndSet(false, true)) {
+					users.close();
+					call.onError(errorCodeToStatus(ErrorCode.INTERNAL_ERROR));
+				}
+			}
+		});
+	}
+}
@@ -0,0 +1,61 @@
+package fctreddit.server.grpcServers;
+
+import fctreddit.api.rest.RestContent;
+import fctreddit.api.utils.Discovery;
+import fctreddit.server.grpc.FirstResponseInterceptor;
+import fctreddit.server.grpc.GrpcContentServerStub;
+import fctreddit.server.java.Contents;
+import fctreddit.server.java.Startup;
+import io.grpc.Grpc;
+import io.grpc.InsecureServerCredentials;
+import io.grpc.Server;
+
+import java.net.InetAddress;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Logger;
+
+public class ContentsGrpcServer {
+
+	private static Logger Log = Logger.getLogger(ContentsGrpcServer.class.getName());
+
+	static {
+		System.setProperty("java.net.preferIPv4Stack", "true");
+		System.setProperty("java.util.logging.SimpleFormatter.format", "%4$s: %5$s\n");
+	}
+
+	public static final int PORT = 9000;
+	private static final String GRPC_CTX = "/grpc";
+	private static final String SERVER_URI_FMT = "grpc://%s:%s%s";
+
+	public static void main(String[] args) {
+		try {
+
+		String ip = InetAddress.getLocalHost().getHostAddress();
+		String serverURI = String.format(SERVER_URI_FMT, ip, PORT, GRPC_CTX);
+
+		// The stub authenticates against Users, so discovery must be up before it is created,
+		// but this server is only announced once the engine is ready
+		Discovery discovery = Discovery.getInstance(Discovery.DISCOVERY_ADDR, RestContent.SERVICE_NAME, serverURI);
+		discovery.listen();
+
+		// The engine, and the database under it, is built while the gRPC server is set up
+		CompletableFuture<?> engine = CompletableFuture.runAsync(Contents::getInstance);
+
+		Server server = Grpc.newServerBuilderForPort(PORT, InsecureServerCredentials.create())
+				.addService(new GrpcContentServerStub())
+				.intercept(new FirstResponseInterceptor())
+				.build();
+
+		server.start();
+		engine.join();
+		Startup.ready(RestContent.SERVICE_NAME);
+		Log.info(String.format("%s gRPC Server ready @ %s\n", RestContent.SERVICE_NAME, serverURI));
+
+		discovery.announce();
+		server.awaitTermination();
+
+		} catch( Exception e) {
+			Log.severe(e.getMessage());
+		}
+	}
+}
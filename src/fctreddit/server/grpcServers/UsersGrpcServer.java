@@ -0,0 +1,59 @@
+package fctreddit.server.grpcServers;
+
+import fctreddit.api.rest.RestUsers;
+import fctreddit.api.utils.Discovery;
+import fctreddit.server.grpc.FirstResponseInterceptor;
+import fctreddit.server.grpc.GrpcUsersServerStub;
+import fctreddit.server.java.Startup;
+import fctreddit.server.java.UsersStorage;
+import io.grpc.Grpc;
+import io.grpc.InsecureServerCredentials;
+import io.grpc.Server;
+
+import java.net.InetAddress;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Logger;
+
+public class UsersGrpcServer {
+
+	private static Logger Log = Logger.getLogger(UsersGrpcServer.class.getName());
+
+	static {
+		System.setProperty("java.net.preferIPv4Stack", "true");
+		System.setProperty("java.util.logging.SimpleFormatter.format", "%4$s: %5$s\n");
+	}
+
+	public static final int PORT = 9000;
+	private static final String GRPC_CTX = "/grpc";
+	private static final String SERVER_URI_FMT = "grpc://%s:%s%s";
+
+	public static void main(String[] args) {
+		try {
+
+		// The engine, and the database under it, is built while the gRPC server is set up
+		CompletableFuture<?> engine = CompletableFuture.runAsync(UsersStorage::getInstance);
+
+		String ip = InetAddress.getLocalHost().getHostAddress();
+		String serverURI = String.format(SERVER_URI_FMT, ip, PORT, GRPC_CTX);
+
+		Server server = Grpc.newServerBuilderForPort(PORT, InsecureServerCredentials.create())
+				.addService(new GrpcUsersServerStub())
+				.intercept(new FirstResponseInterceptor())
+				.build();
+
+		server.start();
+		engine.join();
+		Startup.ready(RestUsers.SERVICE_NAME);
+		Log.info(String.format("%s gRPC Server ready @ %s\n", RestUsers.SERVICE_NAME, serverURI));
+
+		// Announced only once the engine is ready, so clients are not sent here earlier
+		Discovery discovery = Discovery.getInstance(Discovery.DISCOVERY_ADDR, RestUsers.SERVICE_NAME, serverURI);
+		discovery.start();
+
+		server.awaitTermination();
+
+		} catch( Exception e) {
+			Log.severe(e.getMessage());
+		}
+	}
+}
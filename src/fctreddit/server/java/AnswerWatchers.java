@@ -0,0 +1,55 @@
+package fctreddit.server.java;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the clients that are waiting for a new answer to a post.
+ *
+ * A waiter is just a parked future: no thread is held while it waits. It is completed
+ * either when the post is signalled (a new answer arrived or the post was deleted) or
+ * when its timeout expires, whatever happens first.
+ */
+final class AnswerWatchers {
+
+    private final Map<String, Set<CompletableFuture<Void>>> watchers = new ConcurrentHashMap<>();
+
+    /**
+     * Parks a waiter on the given post.
+     *
+     * @param postId the post being watched
+     * @param timeout maximum time to wait, in milliseconds
+     * @return a future that completes when the post is signalled or the timeout expires;
+     *         cancelling it releases the waiter
+     */
+    CompletableFuture<Void> await(String postId, long timeout) {
+        CompletableFuture<Void> waiter = new CompletableFuture<>();
+
+        watchers.compute(postId, (id, waiters) -> {
+            if (waiters == null)
+                waiters = ConcurrentHashMap.newKeySet();
+            waiters.add(waiter);
+            return waiters;
+        });
+
+        waiter.whenComplete((v, x) -> watchers.computeIfPresent(postId, (id, waiters) -> {
+            waiters.remove(waiter);
+            return waiters.isEmpty() ? null : waiters;
+        }));
+
+        return waiter.completeOnTimeout(null, timeout, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Wakes up every waiter of the given post.
+     */
+    void signal(String postId) {
+        Set<CompletableFuture<Void>> waiters = watchers.remove(postId);
+        if (waiters != null)
+            for (CompletableFuture<Void> waiter : waiters)
+                waiter.complete(null);
+    }
+}
@@ -0,0 +1,128 @@
+package fctreddit.server.java;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+import fctreddit.api.User;
+import fctreddit.api.java.AsyncUsers;
+import fctreddit.api.java.Result;
+import fctreddit.api.java.Result.ErrorCode;
+import fctreddit.api.rest.RestUsers;
+import fctreddit.api.utils.Discovery;
+import fctreddit.api.utils.Props;
+import fctreddit.clients.factories.UsersClientFactory;
+
+/**
+ * Checks user credentials against the Users service found through discovery.
+ *
+ * Outcomes are cached for a short while, keyed by user and a hash of the password, so
+ * that repeated requests by the same user are checked locally. Wrong passwords and unknown
+ * users are cached too. Concurrent checks of the same credentials share a single call to
+ * the Users service, and the clients to that service are reused across calls. A change of
+ * password or avatar may thus take up to AUTH_CACHE_TTL_MILLIS to be seen here.
+ *
+ * A session token issued by Users may be given in place of the password, and is then
+ * checked here alone, by its signature. It remains valid until it expires, even if the
+ * password of its user changes meanwhile.
+ *
+ * Checks are asynchronous: the cache holds the pending call to the Users service, and
+ * no thread waits for its reply, nor for Users to be discovered.
+ */
+final class Authenticator {
+    private static final Logger Log = Logger.getLogger(Authenticator.class.getName());
+
+    public static final String CACHE_TTL_MILLIS = "AUTH_CACHE_TTL_MILLIS";
+    public static final String CACHE_SIZE = "AUTH_CACHE_SIZE";
+
+    private record Credentials(String userId, HashCode passwordHash) {
+    }
+
+    private final Discovery discovery = Discovery.getInstance();
+
+    private final Map<URI, AsyncUsers> clients = new ConcurrentHashMap<>();
+
+    private final Cache<Credentials, CompletableFuture<Result<User>>> outcomes = CacheBuilder.newBuilder()
+            .maximumSize(Props.getInt(CACHE_SIZE, 10_000))
+            .expireAfterWrite(Props.getInt(CACHE_TTL_MILLIS, 3000), TimeUnit.MILLISECONDS)
+            .build();
+
+    /**
+     * @return a future completed with OK and the user if the password is correct, or only
+     *         its userId if a session token was given instead;
+     *         NOT_FOUND if the user does not exist;
+     *         FORBIDDEN if the password is not correct
+     */
+    CompletableFuture<Result<User>> authenticate(String userId, String password) {
+        if (SessionTokens.verify(password, userId))
+            return CompletableFuture.completedFuture(Result.ok(new User(userId, null, null, null, null)));
+
+        if (userId == null)
+            return lookup(userId, password);
+
+        var key = new Credentials(userId, Hashing.sha256().hashString(Objects.toString(password, ""), StandardCharsets.UTF_8));
+        CompletableFuture<Result<User>> outcome;
+        try {
+            outcome = outcomes.get(key, () -> lookup(userId, password));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            Log.severe("Unable to authenticate " + userId + ": " + e.getCause());
+            return CompletableFuture.completedFuture(Result.error(ErrorCode.INTERNAL_ERROR));
+        }
+
+        // Outcomes that may change on retry, such as a failure to reach Users, are dropped once known
+        if (!outcome.isDone() || !isCacheable(outcome.join()))
+            outcome.thenAccept(res -> {
+                if (!isCacheable(res))
+                    outcomes.asMap().remove(key, outcome);
+            });
+        return outcome;
+    }
+
+    /**
+     * @return a future completed with OK and the public profile of the user, which is not
+     *         cached here;
+     *         NOT_FOUND if the user does not exist
+     */
+    CompletableFuture<Result<User>> profileOf(String userId) {
+        return users().thenCompose(users -> users.getUsersByIdsAsync(List.of(userId)))
+                .thenApply(res -> !res.isOK() ? Result.<User>error(res.error())
+                        : res.value().isEmpty() ? Result.<User>error(ErrorCode.NOT_FOUND) : Result.ok(res.value().get(0)))
+                .exceptionally(x -> {
+                    Log.severe("Unable to fetch the profile of " + userId + ": " + x);
+                    return Result.error(ErrorCode.INTERNAL_ERROR);
+                });
+    }
+
+    /**
+     * @return a future completed with a client to the Users service, once discovery knows it
+     */
+    private CompletableFuture<AsyncUsers> users() {
+        return discovery.urisOf(RestUsers.SERVICE_NAME, 1)
+                .thenApply(uris -> clients.computeIfAbsent(uris[uris.length - 1], UsersClientFactory::get));
+    }
+
+    private static boolean isCacheable(Result<User> res) {
+        return res.isOK() || res.error() == ErrorCode.FORBIDDEN || res.error() == ErrorCode.NOT_FOUND;
+    }
+
+    private CompletableFuture<Result<User>> lookup(String userId, String password) {
+        return users().thenCompose(users -> users.getUserAsync(userId, password))
+                .exceptionally(x -> {
+                    Log.severe("Unable to authenticate " + userId + ": " + x);
+                    return Result.error(ErrorCode.INTERNAL_ERROR);
+                });
+    }
+}
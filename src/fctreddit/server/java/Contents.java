@@ -0,0 +1,33 @@
+package fctreddit.server.java;
+
+import java.util.logging.Logger;
+
+import fctreddit.api.java.AsyncContent;
+import fctreddit.api.utils.Props;
+
+/**
+ * Provides the Content engine of this server, shared by all its endpoints.
+ *
+ * The engine is chosen by the CONTENT_STORAGE setting: "hibernate" keeps posts and votes
+ * in the database, anything else keeps them in memory.
+ */
+public class Contents {
+    private static final Logger Log = Logger.getLogger(Contents.class.getName());
+
+    public static final String STORAGE = "CONTENT_STORAGE";
+    public static final String HIBERNATE_STORAGE = "hibernate";
+
+    private static AsyncContent instance;
+
+    private Contents() {
+    }
+
+    synchronized public static AsyncContent getInstance() {
+        if (instance == null) {
+            String storage = Props.get(STORAGE, "memory");
+            Log.info("Content storage: " + storage);
+            instance = HIBERNATE_STORAGE.equalsIgnoreCase(storage) ? new PersistentContent() : new JavaContent();
+        }
+        return instance;
+    }
+}
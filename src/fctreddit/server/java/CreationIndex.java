@@ -0,0 +1,133 @@
+package fctreddit.server.java;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import fctreddit.api.PostsPage;
+
+/**
+ * An append-only index of posts in creation order.
+ *
+ * Creation timestamps are kept in primitive arrays beside the post identifiers, in
+ * fixed-size chunks, and are assigned by the index itself so they never decrease. Finding
+ * the posts created since a given time is therefore a binary search followed by a copy
+ * of the tail. Removed posts leave a tombstone behind, so positions never shift and can
+ * be handed out as stable pagination cursors.
+ *
+ * Appends are serialized; reads take no lock and only see fully written entries.
+ */
+final class CreationIndex {
+
+    private static final int CHUNK_SHIFT = 10;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private static final class Chunk {
+        final long[] timestamps = new long[CHUNK_SIZE];
+        final AtomicReferenceArray<String> ids = new AtomicReferenceArray<>(CHUNK_SIZE);
+    }
+
+    private volatile Chunk[] chunks = new Chunk[0];
+
+    // Published after the entry is written, so readers never see a partial entry
+    private volatile int size;
+
+    // Guarded by this
+    private long lastTimestamp;
+
+    /**
+     * Appends a post, assigning its creation timestamp: the current time, unless that would
+     * go back in time with respect to the previous entry.
+     *
+     * @return the creation timestamp of the post
+     */
+    synchronized long append(String postId) {
+        long timestamp = Math.max(System.currentTimeMillis(), lastTimestamp);
+        int pos = size;
+
+        Chunk[] current = chunks;
+        if (pos >> CHUNK_SHIFT == current.length) {
+            current = Arrays.copyOf(current, current.length + 1);
+            current[current.length - 1] = new Chunk();
+            chunks = current;
+        }
+
+        Chunk chunk = current[pos >> CHUNK_SHIFT];
+        chunk.timestamps[pos & CHUNK_MASK] = timestamp;
+        chunk.ids.set(pos & CHUNK_MASK, postId);
+
+        lastTimestamp = timestamp;
+        size = pos + 1;
+        return timestamp;
+    }
+
+    /**
+     * Removes a post, given the creation timestamp that was assigned to it.
+     */
+    void remove(String postId, long creationTimestamp) {
+        int end = size;
+        Chunk[] current = chunks;
+        for (int pos = lowerBound(current, end, creationTimestamp); pos < end; pos++) {
+            Chunk chunk = current[pos >> CHUNK_SHIFT];
+            if (chunk.timestamps[pos & CHUNK_MASK] != creationTimestamp)
+                return;
+            String stored = chunk.ids.get(pos & CHUNK_MASK);
+            if (postId.equals(stored) && chunk.ids.compareAndSet(pos & CHUNK_MASK, stored, null))
+                return;
+        }
+    }
+
+    /**
+     * Lists, in creation order, the posts created at or after the given timestamp.
+     */
+    List<String> since(long timestamp) {
+        int end = size;
+        Chunk[] current = chunks;
+        int start = lowerBound(current, end, timestamp);
+
+        List<String> result = new ArrayList<>(end - start);
+        for (int pos = start; pos < end; pos++) {
+            String postId = current[pos >> CHUNK_SHIFT].ids.get(pos & CHUNK_MASK);
+            if (postId != null)
+                result.add(postId);
+        }
+        return result;
+    }
+
+    /**
+     * Lists, in creation order, up to limit posts created at or after the given timestamp,
+     * starting from the given position.
+     *
+     * @return the page, whose cursor is the position where the next page starts
+     */
+    PostsPage page(long timestamp, int from, int limit) {
+        int end = size;
+        Chunk[] current = chunks;
+        int pos = Math.max(from, lowerBound(current, end, timestamp));
+
+        List<String> result = new ArrayList<>(Math.min(limit, Math.max(0, end - pos)));
+        for (; pos < end && result.size() < limit; pos++) {
+            String postId = current[pos >> CHUNK_SHIFT].ids.get(pos & CHUNK_MASK);
+            if (postId != null)
+                result.add(postId);
+        }
+        return new PostsPage(result, pos < end ? Integer.toString(pos) : null);
+    }
+
+    /**
+     * Position of the first entry with a timestamp equal or above the given one.
+     */
+    private static int lowerBound(Chunk[] chunks, int size, long timestamp) {
+        int low = 0, high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (chunks[mid >> CHUNK_SHIFT].timestamps[mid & CHUNK_MASK] < timestamp)
+                low = mid + 1;
+            else
+                high = mid;
+        }
+        return low;
+    }
+}
@@ -0,0 +1,423 @@
+package fctreddit.server.java;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import fctreddit.api.Post;
+import fctreddit.api.PostsPage;
+import fctreddit.api.java.AsyncContent;
+import fctreddit.api.java.Result;
+import fctreddit.api.java.Result.ErrorCode;
+
+/**
+ * In-memory implementation of the Content service.
+ *
+ * Posts are kept in a concurrent map and every post carries its own lock, so
+ * operations over different posts never contend with each other. Votes are kept
+ * apart, in a lock-striped {@link VoteRegistry}, and replies are linked to their
+ * parent in a {@link ReplyIndex}. Clients waiting
+ * for new answers are parked in {@link AnswerWatchers} instead of holding a thread.
+ * Top-level posts are indexed by creation time in a {@link CreationIndex}, and kept
+ * in {@link PostRanking}s by upvotes and by replies, which are updated on every vote
+ * and reply so sorted listings never sort.
+ */
+public class JavaContent implements AsyncContent {
+
+    private static final Logger Log = Logger.getLogger(JavaContent.class.getName());
+
+    static final int MAX_PAGE_SIZE = 1000;
+
+    // Tags the cursors of each listing order, so a cursor is only accepted by the order that issued it
+    static final String CREATION_CURSOR = "t:";
+    static final String UP_VOTES_CURSOR = "v:";
+    static final String REPLIES_CURSOR = "r:";
+
+    private final Map<String, PostEntry> posts = new ConcurrentHashMap<>();
+    private final CreationIndex topLevel = new CreationIndex();
+    private final AnswerWatchers watchers = new AnswerWatchers();
+    private final PostRanking byUpVotes = new PostRanking();
+    private final PostRanking byReplies = new PostRanking();
+    private final VoteRegistry votes = new VoteRegistry();
+    private final ReplyIndex replies = new ReplyIndex();
+
+    private final Authenticator authenticator = new Authenticator();
+
+    public JavaContent() {
+    }
+
+    /**
+     * A stored post, whose editable fields are guarded by its lock.
+     */
+    private static final class PostEntry {
+        final Post post;
+        // The postId of the parent, parsed once from the parentUrl; null for top-level posts
+        final String parentId;
+
+        PostEntry(Post post, String parentId) {
+            this.post = post;
+            this.parentId = parentId;
+        }
+
+        synchronized Post snapshot(int upVotes, int downVotes) {
+            return new Post(post.getPostId(), post.getAuthorId(), post.getCreationTimestamp(), post.getContent(),
+                    post.getMediaUrl(), post.getParentUrl(), upVotes, downVotes);
+        }
+    }
+
+    @Override
+    public Result<String> createPost(Post post, String userPassword) {
+        return createPostAsync(post, userPassword).join();
+    }
+
+    @Override
+    public CompletableFuture<Result<String>> createPostAsync(Post post, String userPassword) {
+        Log.info("createPost : " + post);
+
+        if (post == null || post.getAuthorId() == null || post.getContent() == null || post.getContent().isBlank()) {
+            Log.info("Post, author or content null.");
+            return CompletableFuture.completedFuture(Result.error(ErrorCode.BAD_REQUEST));
+        }
+
+        return authenticated(post.getAuthorId(), userPassword, () -> store(post));
+    }
+
+    private Result<String> store(Post post) {
+        String parentId = post.getParentUrl() == null ? null : postIdFromUrl(post.getParentUrl());
+        if (parentId != null && !posts.containsKey(parentId)) {
+            Log.info("Parent post does not exist: " + post.getParentUrl());
+            return Result.error(ErrorCode.NOT_FOUND);
+        }
+
+        String postId = UUID.randomUUID().toString();
+
+        // Top-level posts get their timestamp from the creation index, which keeps them ordered
+        long creationTimestamp = parentId == null ? topLevel.append(postId) : System.currentTimeMillis();
+        Post stored = new Post(postId, post.getAuthorId(), creationTimestamp, post.getContent(),
+                post.getMediaUrl(), post.getParentUrl(), 0, 0);
+
+        // Registered before it is published, so no vote or reply can reach it unranked
+        votes.add(postId);
+        if (parentId == null) {
+            byUpVotes.add(postId, creationTimestamp);
+            byReplies.add(postId, creationTimestamp);
+        }
+        posts.put(postId, new PostEntry(stored, parentId));
+
+        if (parentId != null) {
+            replies.add(parentId, postId);
+
+            // The parent may have been deleted meanwhile, taking its known replies with it
+            if (!posts.containsKey(parentId)) {
+                removeWithReplies(postId);
+                return Result.error(ErrorCode.NOT_FOUND);
+            }
+            byReplies.adjust(parentId, 1);
+            watchers.signal(parentId);
+        }
+        return Result.ok(postId);
+    }
+
+    @Override
+    public Result<List<String>> getPosts(long timestamp, String sortOrder) {
+        Log.info("getPosts : timestamp = " + timestamp + "; sortOrder = " + sortOrder);
+
+        if (MOST_UP_VOTES.equals(sortOrder))
+            return Result.ok(byUpVotes.list(timestamp));
+        if (MOST_REPLIES.equals(sortOrder))
+            return Result.ok(byReplies.list(timestamp));
+
+        return Result.ok(topLevel.since(timestamp));
+    }
+
+    @Override
+    public Result<PostsPage> getPosts(long timestamp, String sortOrder, String cursor, int limit) {
+        Log.info("getPosts : timestamp = " + timestamp + "; sortOrder = " + sortOrder + "; cursor = " + cursor + "; limit = " + limit);
+
+        if (limit <= 0) {
+            Log.info("Limit not positive.");
+            return Result.error(ErrorCode.BAD_REQUEST);
+        }
+        limit = Math.min(limit, MAX_PAGE_SIZE);
+
+        String tag = MOST_UP_VOTES.equals(sortOrder) ? UP_VOTES_CURSOR
+                : MOST_REPLIES.equals(sortOrder) ? REPLIES_CURSOR : CREATION_CURSOR;
+
+        try {
+            String position = cursor == null ? null : decodeCursor(tag, cursor);
+
+            PostsPage page = switch (tag) {
+                case UP_VOTES_CURSOR -> byUpVotes.page(timestamp, position, limit);
+                case REPLIES_CURSOR -> byReplies.page(timestamp, position, limit);
+                default -> topLevel.page(timestamp, position == null ? 0 : Integer.parseInt(position), limit);
+            };
+
+            if (page.getNextCursor() != null)
+                page.setNextCursor(encodeCursor(tag, page.getNextCursor()));
+            return Result.ok(page);
+        } catch (IllegalArgumentException e) {
+            Log.info("Invalid cursor: " + cursor);
+            return Result.error(ErrorCode.BAD_REQUEST);
+        }
+    }
+
+    /**
+     * Wraps a position in a listing order, tagged with that order, into an opaque cursor.
+     */
+    static String encodeCursor(String tag, String position) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString((tag + position).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return the position wrapped in the cursor
+     * @throws IllegalArgumentException if the cursor is malformed or was issued by another order
+     */
+    static String decodeCursor(String tag, String cursor) {
+        String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        if (!decoded.startsWith(tag))
+            throw new IllegalArgumentException("Cursor of another listing order: " + decoded);
+        return decoded.substring(tag.length());
+    }
+
+    @Override
+    public Result<Post> getPost(String postId) {
+        Log.info("getPost : postId = " + postId);
+
+        PostEntry entry = postId == null ? null : posts.get(postId);
+        if (entry == null)
+            return Result.error(ErrorCode.NOT_FOUND);
+        return Result.ok(snapshotOf(entry));
+    }
+
+    /**
+     * Copies every requested post in a single pass, reading each post under its lock, so
+     * every post returned is internally consistent.
+     */
+    @Override
+    public Result<List<Post>> getPostsByIds(List<String> postIds) {
+        Log.info("getPostsByIds : postIds = " + postIds);
+
+        if (postIds == null || postIds.size() > MAX_PAGE_SIZE) {
+            Log.info("Missing or too many postIds.");
+            return Result.error(ErrorCode.BAD_REQUEST);
+        }
+
+        List<Post> result = new ArrayList<>(postIds.size());
+        for (String postId : postIds) {
+            PostEntry entry = postId == null ? null : posts.get(postId);
+            if (entry != null)
+                result.add(snapshotOf(entry));
+        }
+        return Result.ok(result);
+    }
+
+    @Override
+    public Result<List<String>> getPostAnswers(String postId, long maxTimeout) {
+        return getPostAnswersAsync(postId, maxTimeout).join();
+    }
+
+    @Override
+    public CompletableFuture<Result<List<String>>> getPostAnswersAsync(String postId, long maxTimeout) {
+        Log.info("getPostAnswers : postId = " + postId + "; timeout = " + maxTimeout);
+
+        if (postId == null || !posts.containsKey(postId))
+            return CompletableFuture.completedFuture(Result.error(ErrorCode.NOT_FOUND));
+
+        if (maxTimeout <= 0)
+            return CompletableFuture.completedFuture(answersOf(postId));
+
+        return watchers.await(postId, maxTimeout).thenApply(v -> answersOf(postId));
+    }
+
+    private Result<List<String>> answersOf(String postId) {
+        if (!posts.containsKey(postId))
+            return Result.error(ErrorCode.NOT_FOUND);
+
+        return Result.ok(replies.of(postId));
+    }
+
+    @Override
+    public Result<Post> updatePost(String postId, String userPassword, Post post) {
+        return updatePostAsync(postId, userPassword, post).join();
+    }
+
+    @Override
+    public CompletableFuture<Result<Post>> updatePostAsync(String postId, String userPassword, Post post) {
+        Log.info("updatePost : postId = " + postId);
+
+        if (postId == null || post == null) {
+            Log.info("PostId or post null.");
+            return CompletableFuture.completedFuture(Result.error(ErrorCode.BAD_REQUEST));
+        }
+
+        PostEntry entry = posts.get(postId);
+        if (entry == null)
+            return CompletableFuture.completedFuture(Result.error(ErrorCode.NOT_FOUND));
+
+        return authenticated(entry.post.getAuthorId(), userPassword, () -> {
+            synchronized (entry) {
+                if (post.getContent() != null)
+                    entry.post.setContent(post.getContent());
+                if (post.getMediaUrl() != null)
+                    entry.post.setMediaUrl(post.getMediaUrl());
+            }
+            return Result.ok(snapshotOf(entry));
+        });
+    }
+
+    @Override
+    public Result<Void> deletePost(String postId, String userPassword) {
+        return deletePostAsync(postId, userPassword).join();
+    }
+
+    @Override
+    public CompletableFuture<Result<Void>> deletePostAsync(String postId, String userPassword) {
+        Log.info("deletePost : postId = " + postId);
+
+        PostEntry entry = postId == null ? null : posts.get(postId);
+        if (entry == null)
+            return CompletableFuture.completedFuture(Result.error(ErrorCode.NOT_FOUND));
+
+        return authenticated(entry.post.getAuthorId(), userPassword, () -> {
+            removeWithReplies(postId);
+            return Result.ok();
+        });
+    }
+
+    @Override
+    public Result<Void> upVotePost(String postId, String userId, String userPassword) {
+        return upVotePostAsync(postId, userId, userPassword).join();
+    }
+
+    @Override
+    public CompletableFuture<Result<Void>> upVotePostAsync(String postId, String userId, String userPassword) {
+        return vote(postId, userId, userPassword, true, true);
+    }
+
+    @Override
+    public Result<Void> removeUpVotePost(String postId, String userId, String userPassword) {
+        return removeUpVotePostAsync(postId, userId, userPassword).join();
+    }
+
+    @Override
+    public CompletableFuture<Result<Void>> removeUpVotePostAsync(String postId, String userId, String userPassword) {
+        return vote(postId, userId, userPassword, true, false);
+    }
+
+    @Override
+    public Result<Void> downVotePost(String postId, String userId, String userPassword) {
+        return downVotePostAsync(postId, userId, userPassword).join();
+    }
+
+    @Override
+    public CompletableFuture<Result<Void>> downVotePostAsync(String postId, String userId, String userPassword) {
+        return vote(postId, userId, userPassword, false, true);
+    }
+
+    @Override
+    public Result<Void> removeDownVotePost(String postId, String userId, String userPassword) {
+        return removeDownVotePostAsync(postId, userId, userPassword).join();
+    }
+
+    @Override
+    public CompletableFuture<Result<Void>> removeDownVotePostAsync(String postId, String userId, String userPassword) {
+        return vote(postId, userId, userPassword, false, false);
+    }
+
+    @Override
+    public Result<Integer> getupVotes(String postId) {
+        int count = postId == null ? -1 : votes.upVotes(postId);
+        if (count < 0)
+            return Result.error(ErrorCode.NOT_FOUND);
+        return Result.ok(count);
+    }
+
+    @Override
+    public Result<Integer> getDownVotes(String postId) {
+        int count = postId == null ? -1 : votes.downVotes(postId);
+        if (count < 0)
+            return Result.error(ErrorCode.NOT_FOUND);
+        return Result.ok(count);
+    }
+
+    private CompletableFuture<Result<Void>> vote(String postId, String userId, String userPassword, boolean up, boolean add) {
+        Log.info("vote : postId = " + postId + "; userId = " + userId + "; up = " + up + "; add = " + add);
+
+        if (postId == null || userId == null) {
+            Log.info("PostId or userId null.");
+            return CompletableFuture.completedFuture(Result.error(ErrorCode.BAD_REQUEST));
+        }
+
+        return authenticated(userId, userPassword, () -> {
+            ErrorCode outcome = votes.vote(postId, userId, up, add);
+            if (outcome != ErrorCode.OK)
+                return Result.error(outcome);
+
+            if (up)
+                byUpVotes.adjust(postId, add ? 1 : -1);
+            return Result.ok();
+        });
+    }
+
+    /**
+     * Removes a post and its whole reply tree, visiting only the posts being removed.
+     */
+    private void removeWithReplies(String postId) {
+        // Only the call that removes the post unlinks it, so concurrent deletes count it once
+        PostEntry root = posts.remove(postId);
+        if (root == null)
+            return;
+
+        if (root.parentId == null) {
+            topLevel.remove(postId, root.post.getCreationTimestamp());
+            byUpVotes.remove(postId);
+            byReplies.remove(postId);
+        } else {
+            replies.remove(root.parentId, postId);
+            byReplies.adjust(root.parentId, -1);
+        }
+        votes.remove(postId);
+        watchers.signal(postId);
+
+        Deque<String> pending = new ArrayDeque<>(replies.removeAll(postId));
+        while (!pending.isEmpty()) {
+            String next = pending.pop();
+            if (posts.remove(next) == null)
+                continue;
+            votes.remove(next);
+            watchers.signal(next);
+            for (String reply : replies.removeAll(next))
+                pending.push(reply);
+        }
+    }
+
+    private Post snapshotOf(PostEntry entry) {
+        String postId = entry.post.getPostId();
+        return entry.snapshot(Math.max(0, votes.upVotes(postId)), Math.max(0, votes.downVotes(postId)));
+    }
+
+    /**
+     * Extracts the postId from the URL of a post (the last path segment).
+     */
+    static String postIdFromUrl(String postUrl) {
+        return postUrl.substring(postUrl.lastIndexOf('/') + 1);
+    }
+
+    /**
+     * Runs the action once the password of the user is checked, in the thread that completes
+     * the check, which is the calling one when its outcome was cached.
+     */
+    private <T> CompletableFuture<Result<T>> authenticated(String userId, String password, Supplier<Result<T>> action) {
+        return authenticator.authenticate(userId, password)
+                .thenApply(auth -> auth.isOK() ? action.get() : Result.error(auth.error()));
+    }
+}
@@ -2,28 +2,25 @@ package fctreddit.server.java;
 
 import java.io.File;
 import java.io.IOException;
-import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 import java.util.zip.CRC32;
 
-import fctreddit.api.rest.RestUsers;
-import fctreddit.api.utils.Discovery;
-
 import fctreddit.api.User;
-import fctreddit.api.java.Image;
+import fctreddit.api.java.AsyncImage;
 import fctreddit.api.java.Result;
 import fctreddit.api.java.Result.ErrorCode;
 import fctreddit.api.java.Users;
-import fctreddit.clients.factories.UsersClientFactory;
 
-public class JavaImages implements Image {
+public class JavaImages implements AsyncImage {
     private static final Logger Log = Logger.getLogger(JavaImages.class.getName());
     private static final String IMAGE_FOLDER = "/app/images";
 
-    Discovery discovery = Discovery.getInstance();
+    // Checks credentials locally, in the common case, instead of calling Users on every write
+    private final Authenticator authenticator = new Authenticator();
 
 
     public JavaImages(Users usersImpl) {
@@ -35,21 +32,28 @@ public class JavaImages implements Image {
 
     @Override
     public Result<String> createImage(String userId, byte[] imageContents, String password) {
+        return createImageAsync(userId, imageContents, password).join();
+    }
+
+    @Override
+    public CompletableFuture<Result<String>> createImageAsync(String userId, byte[] imageContents, String password) {
         Log.info("createImage: user = " + userId);
 
         // Validate parameters
         if (password == null || imageContents == null || imageContents.length == 0) {
             Log.warning("Null password or empty image data");
-            return Result.error(ErrorCode.BAD_REQUEST);
+            return CompletableFuture.completedFuture(Result.error(ErrorCode.BAD_REQUEST));
         }
 
-        URI[] uris = discovery.knownUrisOf(RestUsers.SERVICE_NAME, 1);
-        Result<User> userResult = UsersClientFactory.get(uris[uris.length-1]).getUser(userId, password);
-
-        if (!userResult.isOK()) {
-            return Result.error(userResult.error());
-        }
+        return authenticator.authenticate(userId, password).thenApply(userResult -> {
+            if (!userResult.isOK()) {
+                return Result.error(userResult.error());
+            }
+            return store(userId, imageContents);
+        });
+    }
 
+    private Result<String> store(String userId, byte[] imageContents) {
         // Generate unique ID for image
         String imageId = generateId(imageContents);
         Path imagePath = Path.of(IMAGE_FOLDER, userId, imageId + ".png");
@@ -98,22 +102,33 @@ public class JavaImages implements Image {
 
     @Override
     public Result<Void> deleteImage(String userId, String imageId, String password) {
+        return deleteImageAsync(userId, imageId, password).join();
+    }
+
+    @Override
+    public CompletableFuture<Result<Void>> deleteImageAsync(String userId, String imageId, String password) {
         Log.info("deleteImage: user = " + userId + ", image = " + imageId);
 
         // Validate parameters
         if (password == null) {
             Log.warning("Password is null");
-            return Result.error(ErrorCode.BAD_REQUEST);
+            return CompletableFuture.completedFuture(Result.error(ErrorCode.BAD_REQUEST));
         }
 
-        URI[] uris = discovery.knownUrisOf(RestUsers.SERVICE_NAME, 1);
-        Result<User> userResult = UsersClientFactory.get(uris[uris.length-1]).getUser(userId, password);
-
-        if (!userResult.isOK()) {
-            return Result.error(userResult.error());
-        }
+        return authenticator.authenticate(userId, password)
+                // A session token only vouches for the userId, so the avatar comes from the public profile
+                .thenCompose(userResult -> !userResult.isOK() || userResult.value().getFullName() != null
+                        ? CompletableFuture.completedFuture(userResult) : authenticator.profileOf(userId))
+                .thenApply(userResult -> {
+                    if (!userResult.isOK()) {
+                        return Result.error(userResult.error());
+                    }
+                    return delete(userResult.value(), imageId);
+                });
+    }
 
-        User user = userResult.value();
+    private Result<Void> delete(User user, String imageId) {
+        String userId = user.getUserId();
         String avatarUrl = user.getAvatarUrl();
 
         // Check if this is actually the user's avatar image
@@ -1,23 +1,109 @@
 package fctreddit.server.java;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import fctreddit.api.User;
 import fctreddit.api.java.Result;
 import fctreddit.api.java.Result.ErrorCode;
-import fctreddit.api.java.Users;
-import fctreddit.server.persistence.Hibernate;
-import org.hibernate.Transaction;
-
-public class JavaUsers implements Users {
+import fctreddit.api.utils.Props;
+
+/**
+ * Implementation of the Users service that keeps users in memory.
+ *
+ * Users are kept in a concurrent map sorted by userId, so reads never block, listings are
+ * ranges of the map, and writes are compare-and-set operations on the entry of a single
+ * user. Searches of a trigram or longer are answered by a {@link UserIdIndex}.
+ *
+ * When USERS_SNAPSHOT names a file, users are loaded from it on startup and written to it
+ * every USERS_SNAPSHOT_SECONDS, if they changed, and on shutdown. Changes made after the
+ * last snapshot are lost if the server crashes.
+ */
+public class JavaUsers implements StreamingUsers {
 
     private static final Logger Log = Logger.getLogger(JavaUsers.class.getName());
-    private final Hibernate hibernate;
+
+    public static final String SNAPSHOT = "USERS_SNAPSHOT";
+    public static final String SNAPSHOT_SECONDS = "USERS_SNAPSHOT_SECONDS";
+
+    static final int MAX_BATCH_SIZE = 1000;
+
+    /**
+     * The stored users are never changed, only replaced, and entries compare by identity,
+     * so a write only succeeds if the entry it checked is still the current one.
+     */
+    private static final class Entry {
+        final User user;
+
+        Entry(User user) {
+            this.user = user;
+        }
+    }
+
+    private final ConcurrentNavigableMap<String, Entry> users = new ConcurrentSkipListMap<>();
+    private final UserIdIndex index = new UserIdIndex();
+
+    private final Path snapshot;
+    private final AtomicLong changes = new AtomicLong();
+    private long savedChanges;
 
     public JavaUsers() {
-        this.hibernate = Hibernate.getInstance();
+        String file = Props.get(SNAPSHOT, "");
+        this.snapshot = file.isBlank() ? null : Path.of(file);
+        if (snapshot == null)
+            return;
+
+        load();
+
+        ScheduledExecutorService snapshotter = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "users-snapshot");
+            t.setDaemon(true);
+            return t;
+        });
+        int period = Props.getInt(SNAPSHOT_SECONDS, 30);
+        snapshotter.scheduleWithFixedDelay(this::save, period, period, TimeUnit.SECONDS);
+        Runtime.getRuntime().addShutdownHook(new Thread(this::save));
     }
+
+    private static User copyOf(User user) {
+        return new User(user.getUserId(), user.getFullName(), user.getEmail(), user.getPassword(), user.getAvatarUrl(), user.version());
+    }
+
+    // Users are listed without their password
+    private static User listed(User user) {
+        return new User(user.getUserId(), user.getFullName(), user.getEmail(), "", user.getAvatarUrl());
+    }
+
+    // The public part of a user, shown to anyone
+    static User profileOf(User user) {
+        return new User(user.getUserId(), user.getFullName(), null, null, user.getAvatarUrl());
+    }
+
+    private static String valueOr(String value, String current) {
+        return value != null ? value : current;
+    }
+
     private boolean isNullOrBlank(String str) {
         return str == null || str.trim().isEmpty();
     }
@@ -26,35 +112,40 @@ public class JavaUsers implements Users {
     public Result<String> createUser(User user) {
         Log.info("createUser : " + user);
 
+        var outcome = store(user);
+        if (outcome == ErrorCode.CONFLICT)
+            Log.info("User already exists: " + user.getUserId());
+
+        return outcome == ErrorCode.OK ? Result.ok(user.getUserId()) : Result.error(outcome);
+    }
+
+    @Override
+    public Result<List<ErrorCode>> createUsers(List<User> users) {
+        Log.info("createUsers : " + (users == null ? null : users.size()) + " users");
+
+        if (users == null)
+            return Result.error(ErrorCode.BAD_REQUEST);
+
+        return Result.ok(users.stream().map(this::store).collect(Collectors.toList()));
+    }
+
+    private ErrorCode store(User user) {
         if (user == null ||
                 isNullOrBlank(user.getUserId()) ||
                 isNullOrBlank(user.getPassword()) ||
                 isNullOrBlank(user.getEmail()) ||
                 isNullOrBlank(user.getFullName())) {
 
-            return Result.error(ErrorCode.BAD_REQUEST);
+            return ErrorCode.BAD_REQUEST;
         }
 
-        Transaction tx = null;
-        try (var session = hibernate.getSessionFactory().openSession()) {
-            tx = session.beginTransaction();
+        User stored = new User(user.getUserId(), user.getFullName(), user.getEmail(), user.getPassword(), user.getAvatarUrl());
+        if (users.putIfAbsent(stored.getUserId(), new Entry(stored)) != null)
+            return ErrorCode.CONFLICT;
 
-            User existing = session.get(User.class, user.getUserId());
-            if (existing != null) {
-                Log.info("User already exists: " + user.getUserId());
-                tx.rollback();
-                return Result.error(ErrorCode.CONFLICT);
-            }
-
-            session.persist(user);
-            tx.commit();
-
-            return Result.ok(user.getUserId());
-        } catch (Exception e) {
-            if (tx != null) tx.rollback();
-            Log.severe("Unable to store user: " + e.getMessage());
-            return Result.error(ErrorCode.INTERNAL_ERROR);
-        }
+        index.add(stored.getUserId());
+        changes.incrementAndGet();
+        return ErrorCode.OK;
     }
 
     @Override
@@ -66,26 +157,32 @@ public class JavaUsers implements Users {
             return Result.error(ErrorCode.BAD_REQUEST);
         }
 
-        try {
-            User user = hibernate.get(User.class, userId);
+        var res = check(users.get(userId), userId, password);
+        return res.isOK() ? Result.ok(copyOf(res.value().user)) : Result.error(res.error());
+    }
 
-            // Check if user exists
-            if (user == null) {
-                Log.info("User does not exist: " + userId);
-                return Result.error(ErrorCode.NOT_FOUND);
-            }
+    @Override
+    public Result<String> login(String userId, String password) {
+        Log.info("login : user = " + userId);
 
-            // Check if the password is correct
-            if (!user.getPassword().equals(password)) {
-                Log.info("Password is incorrect for user: " + userId);
-                return Result.error(ErrorCode.FORBIDDEN);
-            }
+        var res = getUser(userId, password);
+        return res.isOK() ? SessionTokens.issue(userId) : Result.error(res.error());
+    }
 
-            return Result.ok(user);
-        } catch (Exception e) {
-            Log.severe("Database error retrieving user: " + e.getMessage());
-            return Result.error(ErrorCode.INTERNAL_ERROR);
+    @Override
+    public Result<List<User>> getUsersByIds(List<String> userIds) {
+        Log.info("getUsersByIds : userIds = " + userIds);
+
+        if (userIds == null || userIds.size() > MAX_BATCH_SIZE) {
+            Log.info("Missing or too many userIds.");
+            return Result.error(ErrorCode.BAD_REQUEST);
         }
+
+        return Result.ok(userIds.stream()
+                .map(userId -> userId == null ? null : users.get(userId))
+                .filter(Objects::nonNull)
+                .map(entry -> profileOf(entry.user))
+                .collect(Collectors.toList()));
     }
 
     @Override
@@ -97,42 +194,24 @@ public class JavaUsers implements Users {
             return Result.error(ErrorCode.BAD_REQUEST);
         }
 
-        Transaction tx = null;
-        try (var session = hibernate.getSessionFactory().openSession()) {
-            tx = session.beginTransaction();
-
-            User userToUpdate = session.get(User.class, userId);
-
-            if (userToUpdate == null) {
-                Log.info("User does not exist: " + userId);
-                tx.rollback();
-                return Result.error(ErrorCode.NOT_FOUND);
-            }
-
-            if (!userToUpdate.getPassword().equals(password)) {
-                Log.info("Password is incorrect for user: " + userId);
-                tx.rollback();
-                return Result.error(ErrorCode.FORBIDDEN);
-            }
+        for (;;) {
+            var res = check(users.get(userId), userId, password);
+            if (!res.isOK())
+                return Result.error(res.error());
 
+            User current = res.value().user;
             // Update fields if provided
-            if (user.getFullName() != null)
-                userToUpdate.setFullName(user.getFullName());
-            if (user.getEmail() != null)
-                userToUpdate.setEmail(user.getEmail());
-            if (user.getPassword() != null)
-                userToUpdate.setPassword(user.getPassword());
-            if (user.getAvatarUrl() != null)
-                userToUpdate.setAvatarUrl(user.getAvatarUrl());
-
-            session.merge(userToUpdate);
-            tx.commit();
-
-            return Result.ok(userToUpdate);
-        } catch (Exception e) {
-            if (tx != null) tx.rollback();
-            Log.severe("Database error updating user: " + e.getMessage());
-            return Result.error(ErrorCode.INTERNAL_ERROR);
+            User updated = new User(userId,
+                    valueOr(user.getFullName(), current.getFullName()),
+                    valueOr(user.getEmail(), current.getEmail()),
+                    valueOr(user.getPassword(), current.getPassword()),
+                    valueOr(user.getAvatarUrl(), current.getAvatarUrl()),
+                    current.version() + 1);
+
+            if (users.replace(userId, res.value(), new Entry(updated))) {
+                changes.incrementAndGet();
+                return Result.ok(copyOf(updated));
+            }
         }
     }
 
@@ -145,62 +224,143 @@ public class JavaUsers implements Users {
             return Result.error(ErrorCode.BAD_REQUEST);
         }
 
-        Transaction tx = null;
-        try (var session = hibernate.getSessionFactory().openSession()) {
-            tx = session.beginTransaction();
+        for (;;) {
+            var res = check(users.get(userId), userId, password);
+            if (!res.isOK())
+                return Result.error(res.error());
+
+            if (users.remove(userId, res.value())) {
+                index.remove(userId);
+                // A create of the same userId may have been indexed before the removal above
+                if (users.containsKey(userId))
+                    index.add(userId);
+                changes.incrementAndGet();
+                return Result.ok(copyOf(res.value().user));
+            }
+        }
+    }
 
-            User user = session.get(User.class, userId);
+    private static Result<Entry> check(Entry entry, String userId, String password) {
+        if (entry == null) {
+            Log.info("User does not exist: " + userId);
+            return Result.error(ErrorCode.NOT_FOUND);
+        }
+        if (!entry.user.getPassword().equals(password)) {
+            Log.info("Password is incorrect for user: " + userId);
+            return Result.error(ErrorCode.FORBIDDEN);
+        }
+        return Result.ok(entry);
+    }
 
-            if (user == null) {
-                Log.info("User does not exist: " + userId);
-                tx.rollback();
-                return Result.error(ErrorCode.NOT_FOUND);
-            }
+    @Override
+    public Result<List<User>> searchUsers(String pattern) {
+        Log.info("searchUsers : pattern = " + pattern);
 
-            if (!user.getPassword().equals(password)) {
-                Log.info("Password is incorrect for user: " + userId);
-                tx.rollback();
-                return Result.error(ErrorCode.FORBIDDEN);
-            }
+        return searchUsers(pattern, null, 0);
+    }
 
-            session.remove(user);
-            tx.commit();
+    @Override
+    public Result<List<User>> searchUsers(String pattern, String cursor, int limit) {
+        var res = streamUsers(pattern, cursor, limit);
+        if (!res.isOK())
+            return Result.error(res.error());
 
-            return Result.ok(user);
-        } catch (Exception e) {
-            if (tx != null) tx.rollback();
-            Log.severe("Database error deleting user: " + e.getMessage());
-            return Result.error(ErrorCode.INTERNAL_ERROR);
+        try (var found = res.value()) {
+            return Result.ok(found.collect(Collectors.toList()));
         }
     }
 
+    /**
+     * The stream walks the map, or the index, as it is consumed and holds no resources.
+     */
     @Override
-    public Result<List<User>> searchUsers(String pattern) {
-        Log.info("searchUsers : pattern = " + pattern);
+    public Result<Stream<User>> streamUsers(String pattern, String cursor, int limit) {
+        Log.info("streamUsers : pattern = " + pattern + "; cursor = " + cursor + "; limit = " + limit);
 
-        try {
-            List<User> users;
-
-            // Empty pattern should return all users
-            if (pattern.trim().isEmpty()) {
-                users = hibernate.jpql("SELECT u FROM User u", User.class);
-            } else {
-                users = hibernate.jpql(
-                        "SELECT u FROM User u WHERE LOWER(u.userId) LIKE LOWER('%" + pattern + "%')",
-                        User.class
-                );
-            }
+        if (limit < 0)
+            return Result.error(ErrorCode.BAD_REQUEST);
+
+        // Empty pattern should return all users
+        String wanted = isNullOrBlank(pattern) ? "" : pattern;
+        Stream<User> found;
+        if (wanted.length() >= UserIdIndex.GRAM) {
+            found = index.search(wanted).stream()
+                    .filter(id -> cursor == null || id.compareTo(cursor) > 0)
+                    .map(users::get)
+                    .filter(Objects::nonNull)
+                    .map(entry -> entry.user);
+        } else {
+            String lowered = wanted.toLowerCase(Locale.ROOT);
+            found = (cursor == null ? users : users.tailMap(cursor, false)).values().stream()
+                    .map(entry -> entry.user)
+                    .filter(user -> user.getUserId().toLowerCase(Locale.ROOT).contains(lowered));
+        }
+        if (limit > 0)
+            found = found.limit(limit);
 
-            // Clear passwords as required by the interface
-            for (User user : users) {
-                user.setPassword("");
+        return Result.ok(found.map(JavaUsers::listed));
+    }
+
+    private void load() {
+        if (!Files.exists(snapshot))
+            return;
+
+        try (var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshot)))) {
+            while (in.readBoolean()) {
+                User user = new User(readString(in), readString(in), readString(in), readString(in), readString(in), in.readLong());
+                users.put(user.getUserId(), new Entry(user));
+                index.add(user.getUserId());
             }
+            Log.info("Loaded " + users.size() + " users from " + snapshot);
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to load the users snapshot " + snapshot, e);
+        }
+    }
 
-            return Result.ok(users);
-        } catch (Exception e) {
-            Log.severe("Database error searching users: " + e.getMessage());
-            return Result.error(ErrorCode.INTERNAL_ERROR);
+    /**
+     * Writes the users to a new file, synced to disk, that then replaces the previous
+     * snapshot, so a crash while saving leaves the previous one intact. The users written
+     * are those in the map as it is walked, which writes may change meanwhile.
+     */
+    private synchronized void save() {
+        long seen = changes.get();
+        if (seen == savedChanges)
+            return;
+
+        Path next = snapshot.resolveSibling(snapshot.getFileName() + ".tmp");
+        try (var channel = FileChannel.open(next, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            var out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+            int count = 0;
+            for (Entry entry : users.values()) {
+                User user = entry.user;
+                out.writeBoolean(true);
+                writeString(out, user.getUserId());
+                writeString(out, user.getFullName());
+                writeString(out, user.getEmail());
+                writeString(out, user.getPassword());
+                writeString(out, user.getAvatarUrl());
+                out.writeLong(user.version());
+                count++;
+            }
+            out.writeBoolean(false);
+            out.flush();
+            channel.force(true);
+
+            Files.move(next, snapshot, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            savedChanges = seen;
+            Log.info("Saved " + count + " users to " + snapshot);
+        } catch (IOException e) {
+            Log.severe("Unable to save the users snapshot: " + e.getMessage());
         }
     }
 
-}
\ No newline at end of file
+    private static void writeString(DataOutputStream out, String s) throws IOException {
+        out.writeBoolean(s != null);
+        if (s != null)
+            out.writeUTF(s);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
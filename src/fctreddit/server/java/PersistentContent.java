@@ -0,0 +1,521 @@
+package fctreddit.server.java;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.hibernate.exception.ConstraintViolationException;
+
+import fctreddit.api.Post;
+import fctreddit.api.PostsPage;
+import fctreddit.api.java.AsyncContent;
+import fctreddit.api.java.Result;
+import fctreddit.api.java.Result.ErrorCode;
+import fctreddit.api.utils.Props;
+import fctreddit.server.persistence.Hibernate;
+import fctreddit.server.persistence.PostVote;
+
+/**
+ * Implementation of the Content service that keeps posts and votes in the database.
+ *
+ * Replies are found through the indexed parentId column of their post. Every vote is a
+ * row keyed by post and user, and the vote and reply counts of a post are kept in the
+ * post itself, always changed by a single UPDATE statement, so concurrent changes are
+ * never lost. Votes are written behind, through a {@link VoteJournal} that also answers
+ * vote counts, so those are always current even before they reach the database. Listings
+ * ranked by upvotes order posts by the stored counts, which lag by up to VOTE_FLUSH_MILLIS.
+ * Clients waiting for new answers are parked in {@link AnswerWatchers}.
+ */
+public class PersistentContent implements AsyncContent {
+
+    private static final Logger Log = Logger.getLogger(PersistentContent.class.getName());
+
+    private static final String UP_VOTES = "upVote";
+    private static final String DOWN_VOTES = "downVote";
+    private static final String REPLIES = "replyCount";
+
+    public static final String VOTE_JOURNAL = "VOTE_JOURNAL";
+    public static final String VOTE_FLUSH_MILLIS = "VOTE_FLUSH_MILLIS";
+
+    private static final String TOP_LEVEL = "p.parentId IS NULL AND p.creationTimestamp >= :timestamp";
+
+    private final Hibernate hibernate;
+    private final AnswerWatchers watchers = new AnswerWatchers();
+    private final Authenticator authenticator = new Authenticator();
+    private final VoteJournal votes;
+
+    // Creation timestamps are kept strictly increasing, so they also order posts created in the same millisecond
+    private final AtomicLong lastTimestamp = new AtomicLong();
+
+    public PersistentContent() {
+        this.hibernate = Hibernate.getInstance();
+        try {
+            this.votes = new VoteJournal(hibernate, Path.of(Props.get(VOTE_JOURNAL, "/tmp/votes.journal")),
+                    Props.getInt(VOTE_FLUSH_MILLIS, 500));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to open the vote journal", e);
+        }
+    }
+
+    @Override
+    public Result<String> createPost(Post post, String userPassword) {
+        return createPostAsync(post, userPassword).join();
+    }
+
+    @Override
+    public CompletableFuture<Result<String>> createPostAsync(Post post, String userPassword) {
+        Log.info("createPost : " + post);
+
+        if (post == null || post.getAuthorId() == null || post.getContent() == null || post.getContent().isBlank()) {
+            Log.info("Post, author or content null.");
+            return CompletableFuture.completedFuture(Result.error(ErrorCode.BAD_REQUEST));
+        }
+
+        return authenticated(post.getAuthorId(), userPassword, () -> store(post));
+    }
+
+    private Result<String> store(Post post) {
+        String parentId = post.getParentUrl() == null ? null : JavaContent.postIdFromUrl(post.getParentUrl());
+        String postId = UUID.randomUUID().toString();
+        long creationTimestamp = lastTimestamp.updateAndGet(last -> Math.max(System.currentTimeMillis(), last + 1));
+
+        Post stored = new Post(postId, post.getAuthorId(), creationTimestamp, post.getContent(),
+                post.getMediaUrl(), post.getParentUrl(), 0, 0);
+
+        // Registered before it is stored, so no vote on it can be turned down
+        votes.addPost(postId);
+        Result<String> res = write(session -> {
+            if (parentId != null && session.get(Post.class, parentId) == null) {
+                Log.info("Parent post does not exist: " + post.getParentUrl());
+                return Result.error(ErrorCode.NOT_FOUND);
+            }
+            session.persist(stored);
+            if (parentId != null)
+                adjust(session, parentId, REPLIES, 1);
+            return Result.ok(postId);
+        });
+
+        if (!res.isOK())
+            votes.removePosts(List.of(postId));
+        else if (parentId != null)
+            watchers.signal(parentId);
+        return res;
+    }
+
+    @Override
+    public Result<List<String>> getPosts(long timestamp, String sortOrder) {
+        Log.info("getPosts : timestamp = " + timestamp + "; sortOrder = " + sortOrder);
+
+        String jpql = "SELECT p.postId FROM Post p WHERE " + TOP_LEVEL + " ORDER BY " + orderBy(scoreOf(sortOrder));
+        return read(session -> session.createQuery(jpql, String.class)
+                .setParameter("timestamp", timestamp)
+                .list());
+    }
+
+    /**
+     * Pages are read by keyset: each cursor holds the sort key of the last post of its page,
+     * and the next page starts right after that key, through the index of the sort order.
+     */
+    @Override
+    public Result<PostsPage> getPosts(long timestamp, String sortOrder, String cursor, int limit) {
+        Log.info("getPosts : timestamp = " + timestamp + "; sortOrder = " + sortOrder + "; cursor = " + cursor + "; limit = " + limit);
+
+        if (limit <= 0) {
+            Log.info("Limit not positive.");
+            return Result.error(ErrorCode.BAD_REQUEST);
+        }
+        int size = Math.min(limit, JavaContent.MAX_PAGE_SIZE);
+
+        String score = scoreOf(sortOrder);
+        String tag = score == null ? JavaContent.CREATION_CURSOR
+                : score.equals(UP_VOTES) ? JavaContent.UP_VOTES_CURSOR : JavaContent.REPLIES_CURSOR;
+
+        String[] after;
+        try {
+            after = cursor == null ? null : JavaContent.decodeCursor(tag, cursor).split(",", 3);
+            if (after != null && after.length != 3)
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            if (after != null) {
+                Integer.parseInt(after[0]);
+                Long.parseLong(after[1]);
+            }
+        } catch (IllegalArgumentException e) {
+            Log.info("Invalid cursor: " + cursor);
+            return Result.error(ErrorCode.BAD_REQUEST);
+        }
+
+        StringBuilder jpql = new StringBuilder("SELECT p.postId, p.upVote, p.replyCount, p.creationTimestamp FROM Post p WHERE ")
+                .append(TOP_LEVEL);
+        if (after != null) {
+            String afterCreation = "(p.creationTimestamp > :afterTimestamp OR (p.creationTimestamp = :afterTimestamp AND p.postId > :afterId))";
+            jpql.append(" AND ").append(score == null ? afterCreation
+                    : "(p." + score + " < :afterScore OR (p." + score + " = :afterScore AND " + afterCreation + "))");
+        }
+        jpql.append(" ORDER BY ").append(orderBy(score));
+
+        Result<List<Object[]>> rows = read(session -> {
+            var query = session.createQuery(jpql.toString(), Object[].class)
+                    .setParameter("timestamp", timestamp)
+                    .setMaxResults(size + 1);
+            if (after != null) {
+                query.setParameter("afterTimestamp", Long.parseLong(after[1]))
+                        .setParameter("afterId", after[2]);
+                if (score != null)
+                    query.setParameter("afterScore", Integer.parseInt(after[0]));
+            }
+            return query.list();
+        });
+        if (!rows.isOK())
+            return Result.error(rows.error());
+
+        List<String> postIds = new ArrayList<>(size);
+        for (int i = 0; i < Math.min(size, rows.value().size()); i++)
+            postIds.add((String) rows.value().get(i)[0]);
+
+        String nextCursor = null;
+        if (rows.value().size() > size) {
+            Object[] last = rows.value().get(size - 1);
+            int lastScore = score == null ? 0 : ((Number) last[score.equals(UP_VOTES) ? 1 : 2]).intValue();
+            nextCursor = JavaContent.encodeCursor(tag, lastScore + "," + last[3] + "," + last[0]);
+        }
+        return Result.ok(new PostsPage(postIds, nextCursor));
+    }
+
+    @Override
+    public Result<Post> getPost(String postId) {
+        Log.info("getPost : postId = " + postId);
+
+        Result<Post> res = postId == null ? Result.ok(null) : read(session -> session.get(Post.class, postId));
+        if (res.isOK() && res.value() == null)
+            return Result.error(ErrorCode.NOT_FOUND);
+        return res.isOK() ? Result.ok(withCurrentVotes(res.value())) : res;
+    }
+
+    /**
+     * All the posts are read by a single query, so they come from a single snapshot of the database.
+     */
+    @Override
+    public Result<List<Post>> getPostsByIds(List<String> postIds) {
+        Log.info("getPostsByIds : postIds = " + postIds);
+
+        if (postIds == null || postIds.size() > JavaContent.MAX_PAGE_SIZE) {
+            Log.info("Missing or too many postIds.");
+            return Result.error(ErrorCode.BAD_REQUEST);
+        }
+
+        List<String> wanted = postIds.stream().filter(Objects::nonNull).toList();
+        if (wanted.isEmpty())
+            return Result.ok(new ArrayList<>());
+
+        Result<List<Post>> found = read(session -> session.createQuery("FROM Post p WHERE p.postId IN :ids", Post.class)
+                .setParameter("ids", wanted)
+                .list());
+        if (!found.isOK())
+            return found;
+
+        Map<String, Post> byId = new HashMap<>();
+        for (Post post : found.value())
+            byId.put(post.getPostId(), post);
+
+        List<Post> result = new ArrayList<>(found.value().size());
+        for (String postId : wanted)
+            if (byId.containsKey(postId))
+                result.add(withCurrentVotes(byId.get(postId)));
+        return Result.ok(result);
+    }
+
+    @Override
+    public Result<List<String>> getPostAnswers(String postId, long maxTimeout) {
+        return getPostAnswersAsync(postId, maxTimeout).join();
+    }
+
+    @Override
+    public CompletableFuture<Result<List<String>>> getPostAnswersAsync(String postId, long maxTimeout) {
+        Log.info("getPostAnswers : postId = " + postId + "; timeout = " + maxTimeout);
+
+        if (maxTimeout <= 0)
+            return CompletableFuture.completedFuture(answersOf(postId));
+
+        Result<Post> post = getPost(postId);
+        if (!post.isOK())
+            return CompletableFuture.completedFuture(Result.error(post.error()));
+
+        // The answers are queried off the thread that signals the new answer, which is serving another request
+        return watchers.await(postId, maxTimeout).thenApplyAsync(v -> answersOf(postId));
+    }
+
+    private Result<List<String>> answersOf(String postId) {
+        Result<List<String>> res = postId == null ? Result.ok(null) : read(session -> {
+            if (session.get(Post.class, postId) == null)
+                return null;
+            return session.createQuery("SELECT p.postId FROM Post p WHERE p.parentId = :postId ORDER BY p.creationTimestamp, p.postId", String.class)
+                    .setParameter("postId", postId)
+                    .list();
+        });
+        if (res.isOK() && res.value() == null)
+            return Result.error(ErrorCode.NOT_FOUND);
+        return res;
+    }
+
+    @Override
+    public Result<Post> updatePost(String postId, String userPassword, Post post) {
+        return updatePostAsync(postId, userPassword, post).join();
+    }
+
+    @Override
+    public CompletableFuture<Result<Post>> updatePostAsync(String postId, String userPassword, Post post) {
+        Log.info("updatePost : postId = " + postId);
+
+        if (postId == null || post == null) {
+            Log.info("PostId or post null.");
+            return CompletableFuture.completedFuture(Result.error(ErrorCode.BAD_REQUEST));
+        }
+
+        Result<Post> stored = getPost(postId);
+        if (!stored.isOK())
+            return CompletableFuture.completedFuture(stored);
+
+        // Only the editable columns are written, leaving the counters to their own updates
+        return authenticated(stored.value().getAuthorId(), userPassword, () -> write(session -> {
+            int updated = session.createMutationQuery("UPDATE Post p SET p.content = COALESCE(:content, p.content), "
+                            + "p.mediaUrl = COALESCE(:mediaUrl, p.mediaUrl) WHERE p.postId = :postId")
+                    .setParameter("content", post.getContent())
+                    .setParameter("mediaUrl", post.getMediaUrl())
+                    .setParameter("postId", postId)
+                    .executeUpdate();
+            if (updated == 0)
+                return Result.error(ErrorCode.NOT_FOUND);
+            return Result.ok(withCurrentVotes(session.get(Post.class, postId)));
+        }));
+    }
+
+    @Override
+    public Result<Void> deletePost(String postId, String userPassword) {
+        return deletePostAsync(postId, userPassword).join();
+    }
+
+    @Override
+    public CompletableFuture<Result<Void>> deletePostAsync(String postId, String userPassword) {
+        Log.info("deletePost : postId = " + postId);
+
+        Result<Post> stored = getPost(postId);
+        if (!stored.isOK())
+            return CompletableFuture.completedFuture(Result.error(stored.error()));
+
+        return authenticated(stored.value().getAuthorId(), userPassword, () -> delete(postId, stored.value()));
+    }
+
+    private Result<Void> delete(String postId, Post stored) {
+        String parentUrl = stored.getParentUrl();
+        String parentId = parentUrl == null ? null : JavaContent.postIdFromUrl(parentUrl);
+
+        Result<List<String>> removed = write(session -> {
+            if (session.get(Post.class, postId) == null)
+                return Result.error(ErrorCode.NOT_FOUND);
+
+            // Walks down the reply tree one level at a time, through the parentId index
+            List<String> tree = new ArrayList<>(List.of(postId));
+            List<String> level = tree;
+            while (!level.isEmpty()) {
+                level = session.createQuery("SELECT p.postId FROM Post p WHERE p.parentId IN :ids", String.class)
+                        .setParameter("ids", level)
+                        .list();
+                tree.addAll(level);
+            }
+
+            session.createMutationQuery("DELETE FROM PostVote v WHERE v.postId IN :ids")
+                    .setParameter("ids", tree)
+                    .executeUpdate();
+            session.createMutationQuery("DELETE FROM Post p WHERE p.postId IN :ids")
+                    .setParameter("ids", tree)
+                    .executeUpdate();
+            if (parentId != null)
+                adjust(session, parentId, REPLIES, -1);
+            return Result.ok(tree);
+        });
+        if (!removed.isOK())
+            return Result.error(removed.error());
+
+        votes.removePosts(removed.value());
+
+        // Waiters on removed posts are woken up to be told they are gone
+        removed.value().forEach(watchers::signal);
+        if (parentId != null)
+            watchers.signal(parentId);
+        return Result.ok();
+    }
+
+    @Override
+    public Result<Void> upVotePost(String postId, String userId, String userPassword) {
+        return upVotePostAsync(postId, userId, userPassword).join();
+    }
+
+    @Override
+    public CompletableFuture<Result<Void>> upVotePostAsync(String postId, String userId, String userPassword) {
+        return vote(postId, userId, userPassword, true, true);
+    }
+
+    @Override
+    public Result<Void> removeUpVotePost(String postId, String userId, String userPassword) {
+        return removeUpVotePostAsync(postId, userId, userPassword).join();
+    }
+
+    @Override
+    public CompletableFuture<Result<Void>> removeUpVotePostAsync(String postId, String userId, String userPassword) {
+        return vote(postId, userId, userPassword, true, false);
+    }
+
+    @Override
+    public Result<Void> downVotePost(String postId, String userId, String userPassword) {
+        return downVotePostAsync(postId, userId, userPassword).join();
+    }
+
+    @Override
+    public CompletableFuture<Result<Void>> downVotePostAsync(String postId, String userId, String userPassword) {
+        return vote(postId, userId, userPassword, false, true);
+    }
+
+    @Override
+    public Result<Void> removeDownVotePost(String postId, String userId, String userPassword) {
+        return removeDownVotePostAsync(postId, userId, userPassword).join();
+    }
+
+    @Override
+    public CompletableFuture<Result<Void>> removeDownVotePostAsync(String postId, String userId, String userPassword) {
+        return vote(postId, userId, userPassword, false, false);
+    }
+
+    @Override
+    public Result<Integer> getupVotes(String postId) {
+        int count = postId == null ? -1 : votes.upVotes(postId);
+        if (count < 0)
+            return Result.error(ErrorCode.NOT_FOUND);
+        return Result.ok(count);
+    }
+
+    @Override
+    public Result<Integer> getDownVotes(String postId) {
+        int count = postId == null ? -1 : votes.downVotes(postId);
+        if (count < 0)
+            return Result.error(ErrorCode.NOT_FOUND);
+        return Result.ok(count);
+    }
+
+    private CompletableFuture<Result<Void>> vote(String postId, String userId, String userPassword, boolean up, boolean add) {
+        Log.info("vote : postId = " + postId + "; userId = " + userId + "; up = " + up + "; add = " + add);
+
+        if (postId == null || userId == null) {
+            Log.info("PostId or userId null.");
+            return CompletableFuture.completedFuture(Result.error(ErrorCode.BAD_REQUEST));
+        }
+
+        // Decided and journaled in memory, and written to the database later, in a batch
+        return authenticated(userId, userPassword, () -> {
+            ErrorCode outcome = votes.vote(postId, userId, up, add);
+            if (outcome != ErrorCode.OK)
+                return Result.error(outcome);
+            return Result.ok();
+        });
+    }
+
+    /**
+     * Runs the action once the password of the user is checked, in the thread that completes
+     * the check, which is the calling one when its outcome was cached.
+     */
+    private <T> CompletableFuture<Result<T>> authenticated(String userId, String password, Supplier<Result<T>> action) {
+        return authenticator.authenticate(userId, password)
+                .thenApply(auth -> auth.isOK() ? action.get() : Result.error(auth.error()));
+    }
+
+    /**
+     * Sets the vote counts of a post read from the database to their current values, which
+     * include the votes not yet written to the database.
+     */
+    private Post withCurrentVotes(Post post) {
+        int up = votes.upVotes(post.getPostId()), down = votes.downVotes(post.getPostId());
+        if (up >= 0)
+            post.setUpVote(up);
+        if (down >= 0)
+            post.setDownVote(down);
+        return post;
+    }
+
+    /**
+     * Changes a counter of a post in place, with a single UPDATE statement.
+     */
+    private static void adjust(Session session, String postId, String counter, int delta) {
+        session.createMutationQuery("UPDATE Post p SET p." + counter + " = p." + counter + " + :delta WHERE p.postId = :postId")
+                .setParameter("delta", delta)
+                .setParameter("postId", postId)
+                .executeUpdate();
+    }
+
+    /**
+     * @return the counter that ranks posts in the given order, or null for the creation order
+     */
+    private static String scoreOf(String sortOrder) {
+        if (MOST_UP_VOTES.equals(sortOrder))
+            return UP_VOTES;
+        if (MOST_REPLIES.equals(sortOrder))
+            return REPLIES;
+        return null;
+    }
+
+    private static String orderBy(String score) {
+        return (score == null ? "" : "p." + score + " DESC, ") + "p.creationTimestamp, p.postId";
+    }
+
+    private <T> Result<T> read(Function<Session, T> query) {
+        try (var session = hibernate.getSessionFactory().openSession()) {
+            return Result.ok(query.apply(session));
+        } catch (Exception e) {
+            Log.severe("Database error: " + e.getMessage());
+            return Result.error(ErrorCode.INTERNAL_ERROR);
+        }
+    }
+
+    /**
+     * Runs the work in a transaction, committed only if the work succeeds.
+     */
+    private <T> Result<T> write(Function<Session, Result<T>> work) {
+        Transaction tx = null;
+        try (var session = hibernate.getSessionFactory().openSession()) {
+            tx = session.beginTransaction();
+            Result<T> res = work.apply(session);
+            if (res.isOK())
+                tx.commit();
+            else
+                tx.rollback();
+            return res;
+        } catch (Exception e) {
+            if (tx != null && tx.isActive())
+                tx.rollback();
+            if (isConstraintViolation(e)) {
+                Log.info("Constraint violation: " + e.getMessage());
+                return Result.error(ErrorCode.CONFLICT);
+            }
+            Log.severe("Database error: " + e.getMessage());
+            return Result.error(ErrorCode.INTERNAL_ERROR);
+        }
+    }
+
+    private static boolean isConstraintViolation(Throwable t) {
+        for (; t != null; t = t.getCause())
+            if (t instanceof ConstraintViolationException)
+                return true;
+        return false;
+    }
+}
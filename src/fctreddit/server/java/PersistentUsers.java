@@ -0,0 +1,662 @@
+package fctreddit.server.java;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Streams;
+
+import fctreddit.api.User;
+import fctreddit.api.java.Result;
+import fctreddit.api.java.Result.ErrorCode;
+import fctreddit.api.utils.Props;
+import fctreddit.server.persistence.Hibernate;
+import org.hibernate.StaleStateException;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+
+/**
+ * Implementation of the Users service that keeps users in the database.
+ *
+ * Reads are served from a cache of the stored users, searches from an index of their
+ * userIds, and writes are single statements conditional on the version of the user.
+ */
+public class PersistentUsers implements StreamingUsers {
+
+    private static final Logger Log = Logger.getLogger(PersistentUsers.class.getName());
+
+    public static final String CACHE_SIZE = "USERS_CACHE_SIZE";
+    public static final String CACHE_TTL_SECONDS = "USERS_CACHE_TTL_SECONDS";
+    public static final String CACHE_STATS_SECONDS = "USERS_CACHE_STATS_SECONDS";
+    public static final String SEARCH_FETCH_SIZE = "USERS_SEARCH_FETCH_SIZE";
+
+    private static final int fetchSize = Props.getInt(SEARCH_FETCH_SIZE, 100);
+
+    /**
+     * Listings are built straight from the columns they show, as detached users with the
+     * password already cleared, so the passwords are never read and no entity is managed.
+     */
+    private static final String LIST_USERS =
+            "SELECT new fctreddit.api.User(u.userId, u.fullName, u.email, '', u.avatarUrl) FROM User u";
+
+    /**
+     * Read-through cache of the stored users, shared by every instance, so that getUser
+     * (called by the other services to authenticate every request) seldom reaches the
+     * database. Entries are invalidated by the writes of this server; the expiry only
+     * bounds how long a load racing with a write may keep a stale entry. Absent users are
+     * not kept, and cached users are never handed out, only copies of them.
+     */
+    private static final LoadingCache<String, Optional<User>> cache = CacheBuilder.newBuilder()
+            .maximumSize(Props.getInt(CACHE_SIZE, 10_000))
+            .expireAfterWrite(Props.getInt(CACHE_TTL_SECONDS, 60), TimeUnit.SECONDS)
+            .recordStats()
+            .build(CacheLoader.from(userId -> Optional.ofNullable(Hibernate.getInstance().get(User.class, userId))));
+
+    static {
+        ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "users-cache-stats");
+            t.setDaemon(true);
+            return t;
+        });
+        int period = Props.getInt(CACHE_STATS_SECONDS, 60);
+        reporter.scheduleAtFixedRate(() -> Log.info("User cache: " + cacheStats()), period, period, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Index of the stored userIds that answers substring searches without scanning the users
+     * table. It is loaded from the database in the background, and kept up to date by the
+     * writes of this server. Writes made while it loads are queued, and replayed on top of
+     * the loaded userIds, so they never wait for it. Until it is loaded, searches are
+     * answered by the database. A failed load is retried.
+     */
+    private static final class Index {
+        private static final long RETRY_MILLIS = 5000;
+
+        private final UserIdIndex ids = new UserIdIndex();
+        private final AtomicBoolean started = new AtomicBoolean();
+
+        // Guarded by this: the changes made while loading, in order, or null once loaded
+        private List<Consumer<UserIdIndex>> queued = new ArrayList<>();
+        private volatile boolean loaded;
+
+        void add(String userId) {
+            change(index -> index.add(userId));
+        }
+
+        void remove(String userId) {
+            change(index -> index.remove(userId));
+        }
+
+        /**
+         * @return the userIds that contain the pattern, as in {@link UserIdIndex#search},
+         *         or null if the index is not loaded yet
+         */
+        List<String> search(String pattern) {
+            return loaded ? ids.search(pattern) : null;
+        }
+
+        private void change(Consumer<UserIdIndex> change) {
+            if (!loaded) {
+                synchronized (this) {
+                    if (queued != null) {
+                        queued.add(change);
+                        return;
+                    }
+                }
+            }
+            change.accept(ids);
+        }
+
+        /**
+         * Starts loading the index in the background, unless already started.
+         */
+        void load(Hibernate hibernate) {
+            if (!started.compareAndSet(false, true))
+                return;
+
+            Thread loader = new Thread(() -> {
+                while (!tryLoad(hibernate)) {
+                    try {
+                        Thread.sleep(RETRY_MILLIS);
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+            }, "users-index");
+            loader.setDaemon(true);
+            loader.start();
+        }
+
+        private boolean tryLoad(Hibernate hibernate) {
+            long start = System.currentTimeMillis();
+            List<String> stored;
+            try {
+                stored = hibernate.jpql("SELECT u.userId FROM User u", String.class);
+            } catch (RuntimeException e) {
+                Log.severe("Unable to load the userId index, retrying in " + RETRY_MILLIS + " ms: " + e.getMessage());
+                return false;
+            }
+
+            stored.forEach(ids::add);
+            synchronized (this) {
+                queued.forEach(change -> change.accept(ids));
+                queued = null;
+                loaded = true;
+            }
+            Log.info("Indexed " + stored.size() + " userIds in " + (System.currentTimeMillis() - start) + " ms");
+            return true;
+        }
+    }
+
+    // Shared by every instance, like the cache
+    private static final Index index = new Index();
+
+    private final Hibernate hibernate;
+
+    public PersistentUsers() {
+        this.hibernate = Hibernate.getInstance();
+
+        // Lookups, which the other services depend on, do not need the index, so they are
+        // served while it loads
+        index.load(hibernate);
+    }
+
+    /**
+     * @return the statistics of the user cache: hit rate, loads and evictions, among others
+     */
+    public static CacheStats cacheStats() {
+        return cache.stats();
+    }
+
+    private static User copyOf(User user) {
+        return new User(user.getUserId(), user.getFullName(), user.getEmail(), user.getPassword(), user.getAvatarUrl(), user.version());
+    }
+
+    private static String valueOr(String value, String current) {
+        return value != null ? value : current;
+    }
+
+    private static String escapeLike(String s) {
+        return s.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+
+    private boolean isNullOrBlank(String str) {
+        return str == null || str.trim().isEmpty();
+    }
+
+    private boolean isValid(User user) {
+        return user != null &&
+                !isNullOrBlank(user.getUserId()) &&
+                !isNullOrBlank(user.getPassword()) &&
+                !isNullOrBlank(user.getEmail()) &&
+                !isNullOrBlank(user.getFullName());
+    }
+
+    @Override
+    public Result<String> createUser(User user) {
+        Log.info("createUser : " + user);
+
+        if (!isValid(user))
+            return Result.error(ErrorCode.BAD_REQUEST);
+
+        Transaction tx = null;
+        try (var session = hibernate.getSessionFactory().openSession()) {
+            tx = session.beginTransaction();
+
+            User existing = session.get(User.class, user.getUserId());
+            if (existing != null) {
+                Log.info("User already exists: " + user.getUserId());
+                tx.rollback();
+                return Result.error(ErrorCode.CONFLICT);
+            }
+
+            session.persist(user);
+            tx.commit();
+            cache.invalidate(user.getUserId());
+            index.add(user.getUserId());
+
+            return Result.ok(user.getUserId());
+        } catch (Exception e) {
+            if (tx != null) tx.rollback();
+            Log.severe("Unable to store user: " + e.getMessage());
+            return Result.error(ErrorCode.INTERNAL_ERROR);
+        }
+    }
+
+    /**
+     * Users are stored Hibernate.batchSize() at a time: the userIds of a batch that already
+     * exist are found by a single query and the others are inserted together, as one JDBC
+     * batch, in the same transaction. If that fails, typically because a concurrent create
+     * took one of the userIds, the users of the batch are created one at a time instead.
+     */
+    @Override
+    public Result<List<ErrorCode>> createUsers(List<User> users) {
+        Log.info("createUsers : " + (users == null ? null : users.size()) + " users");
+
+        if (users == null)
+            return Result.error(ErrorCode.BAD_REQUEST);
+
+        List<ErrorCode> outcomes = new ArrayList<>(users.size());
+        List<User> candidates = new ArrayList<>();
+        Set<String> requested = new HashSet<>();
+        for (User user : users) {
+            if (!isValid(user))
+                outcomes.add(ErrorCode.BAD_REQUEST);
+            else if (!requested.add(user.getUserId()))
+                outcomes.add(ErrorCode.CONFLICT);
+            else {
+                outcomes.add(ErrorCode.OK);
+                candidates.add(user);
+            }
+        }
+
+        Map<String, ErrorCode> stored = new HashMap<>();
+        for (List<User> batch : Lists.partition(candidates, Hibernate.batchSize()))
+            stored.putAll(storeBatch(batch));
+
+        for (int i = 0; i < outcomes.size(); i++)
+            if (outcomes.get(i) == ErrorCode.OK)
+                outcomes.set(i, stored.get(users.get(i).getUserId()));
+
+        return Result.ok(outcomes);
+    }
+
+    private Map<String, ErrorCode> storeBatch(List<User> batch) {
+        Map<String, ErrorCode> outcomes = new HashMap<>();
+
+        Transaction tx = null;
+        try (var session = hibernate.getSessionFactory().openSession()) {
+            tx = session.beginTransaction();
+
+            List<String> userIds = batch.stream().map(User::getUserId).collect(Collectors.toList());
+            Set<String> existing = new HashSet<>(session.createQuery("SELECT u.userId FROM User u WHERE u.userId IN :ids", String.class)
+                    .setParameter("ids", userIds)
+                    .list());
+
+            for (User user : batch) {
+                if (existing.contains(user.getUserId()))
+                    outcomes.put(user.getUserId(), ErrorCode.CONFLICT);
+                else {
+                    session.persist(user);
+                    outcomes.put(user.getUserId(), ErrorCode.OK);
+                }
+            }
+            tx.commit();
+        } catch (Exception e) {
+            if (tx != null && tx.isActive()) tx.rollback();
+            Log.info("Unable to store a batch of users, storing them one at a time: " + e.getMessage());
+
+            for (User user : batch) {
+                var res = createUser(new User(user.getUserId(), user.getFullName(), user.getEmail(), user.getPassword(), user.getAvatarUrl()));
+                outcomes.put(user.getUserId(), res.isOK() ? ErrorCode.OK : res.error());
+            }
+            return outcomes;
+        }
+
+        outcomes.forEach((userId, outcome) -> {
+            if (outcome == ErrorCode.OK) {
+                cache.invalidate(userId);
+                index.add(userId);
+            }
+        });
+        return outcomes;
+    }
+
+    @Override
+    public Result<User> getUser(String userId, String password) {
+        Log.info("getUser : user = " + userId + "; pwd = " + password);
+
+        if (userId == null) {
+            Log.info("UserId or password null.");
+            return Result.error(ErrorCode.BAD_REQUEST);
+        }
+
+        try {
+            Optional<User> cached = cache.getUnchecked(userId);
+
+            // Check if user exists
+            if (cached.isEmpty()) {
+                Log.info("User does not exist: " + userId);
+                cache.invalidate(userId);
+                return Result.error(ErrorCode.NOT_FOUND);
+            }
+            User user = cached.get();
+
+            // Check if the password is correct
+            if (!user.getPassword().equals(password)) {
+                Log.info("Password is incorrect for user: " + userId);
+                return Result.error(ErrorCode.FORBIDDEN);
+            }
+
+            return Result.ok(copyOf(user));
+        } catch (Exception e) {
+            Log.severe("Database error retrieving user: " + e.getMessage());
+            return Result.error(ErrorCode.INTERNAL_ERROR);
+        }
+    }
+
+    @Override
+    public Result<String> login(String userId, String password) {
+        Log.info("login : user = " + userId);
+
+        var res = getUser(userId, password);
+        return res.isOK() ? SessionTokens.issue(userId) : Result.error(res.error());
+    }
+
+    /**
+     * Users are taken from the cache, and those missing are loaded together, from the
+     * second-level cache or by a single query.
+     */
+    @Override
+    public Result<List<User>> getUsersByIds(List<String> userIds) {
+        Log.info("getUsersByIds : userIds = " + userIds);
+
+        if (userIds == null || userIds.size() > JavaUsers.MAX_BATCH_SIZE) {
+            Log.info("Missing or too many userIds.");
+            return Result.error(ErrorCode.BAD_REQUEST);
+        }
+
+        try {
+            Map<String, User> found = new HashMap<>();
+            List<String> missing = new ArrayList<>();
+            for (String userId : userIds) {
+                if (userId == null || found.containsKey(userId))
+                    continue;
+                Optional<User> cached = cache.getIfPresent(userId);
+                if (cached == null)
+                    missing.add(userId);
+                else
+                    found.put(userId, cached.orElse(null));
+            }
+
+            if (!missing.isEmpty()) {
+                var factory = hibernate.getSessionFactory();
+                try (var session = factory.openSession()) {
+                    // Multi-loads skip the second-level cache, so cached users are looked up one by one
+                    List<String> uncached = new ArrayList<>();
+                    for (String userId : missing) {
+                        if (factory.getCache().containsEntity(User.class, userId))
+                            found.put(userId, session.get(User.class, userId));
+                        else
+                            uncached.add(userId);
+                    }
+                    if (!uncached.isEmpty())
+                        session.createQuery("SELECT u FROM User u WHERE u.userId IN :ids", User.class)
+                                .setParameter("ids", uncached)
+                                .list()
+                                .forEach(user -> found.put(user.getUserId(), user));
+                }
+            }
+
+            return Result.ok(userIds.stream()
+                    .map(userId -> userId == null ? null : found.get(userId))
+                    .filter(Objects::nonNull)
+                    .map(JavaUsers::profileOf)
+                    .collect(Collectors.toList()));
+        } catch (Exception e) {
+            Log.severe("Database error retrieving users: " + e.getMessage());
+            return Result.error(ErrorCode.INTERNAL_ERROR);
+        }
+    }
+
+    /**
+     * The stored user is taken from the cache, where the password is checked, and written back as
+     * a versioned entity: a single statement conditional on the version of that user, so no lock
+     * is held between reading and writing, and any change of password since the check fails it too.
+     * If it does not apply, because the cached copy was stale or a concurrent write came first,
+     * the user is read again from the database and the update retried. Only that user is evicted
+     * from the second-level cache.
+     */
+    @Override
+    public Result<User> updateUser(String userId, String password, User user) {
+        Log.info("updateUser: userId = " + userId);
+
+        if (userId == null || password == null || user == null) {
+            Log.info("UserId, password or user null.");
+            return Result.error(ErrorCode.BAD_REQUEST);
+        }
+
+        try {
+            for (boolean fresh = false;; fresh = true) {
+                var stored = check(userId, password, fresh);
+                if (stored == null)
+                    continue;
+                if (!stored.isOK())
+                    return stored;
+
+                User current = stored.value();
+                // Update fields if provided
+                User updated = new User(userId,
+                        valueOr(user.getFullName(), current.getFullName()),
+                        valueOr(user.getEmail(), current.getEmail()),
+                        valueOr(user.getPassword(), current.getPassword()),
+                        valueOr(user.getAvatarUrl(), current.getAvatarUrl()),
+                        current.version());
+
+                // Increments the version of updated when it applies
+                boolean applied = write(session -> session.update(updated));
+                forget(userId);
+
+                if (applied)
+                    return Result.ok(updated);
+            }
+        } catch (Exception e) {
+            Log.severe("Database error updating user: " + e.getMessage());
+            return Result.error(ErrorCode.INTERNAL_ERROR);
+        }
+    }
+
+    /**
+     * Like updateUser, a single statement conditional on the version of the cached user.
+     */
+    @Override
+    public Result<User> deleteUser(String userId, String password) {
+        Log.info("deleteUser: userId = " + userId);
+
+        if (userId == null || password == null) {
+            Log.info("UserId or password null.");
+            return Result.error(ErrorCode.BAD_REQUEST);
+        }
+
+        try {
+            for (boolean fresh = false;; fresh = true) {
+                var stored = check(userId, password, fresh);
+                if (stored == null)
+                    continue;
+                if (!stored.isOK())
+                    return stored;
+
+                User current = stored.value();
+                boolean applied = write(session -> session.delete(current));
+                forget(userId);
+
+                if (applied) {
+                    index.remove(userId);
+                    // A create of the same userId may have been indexed before the removal above
+                    if (exists(userId))
+                        index.add(userId);
+                    return Result.ok(current);
+                }
+            }
+        } catch (Exception e) {
+            Log.severe("Database error deleting user: " + e.getMessage());
+            return Result.error(ErrorCode.INTERNAL_ERROR);
+        }
+    }
+
+    /**
+     * Looks up the stored user and checks the password. A failed check against the cached
+     * copy is not trusted, it may be stale, so it is answered with null after dropping that
+     * copy, for the caller to check again with fresh data.
+     *
+     * @return OK and the stored user if the password is correct;
+     *         NOT_FOUND or FORBIDDEN, as in getUser, if the check was fresh;
+     *         null if the check must be repeated
+     */
+    private Result<User> check(String userId, String password, boolean fresh) {
+        Optional<User> stored = cache.getUnchecked(userId);
+        if (stored.isPresent() && stored.get().getPassword().equals(password))
+            return Result.ok(stored.get());
+
+        forget(userId);
+        if (!fresh)
+            return null;
+
+        if (stored.isEmpty()) {
+            Log.info("User does not exist: " + userId);
+            return Result.error(ErrorCode.NOT_FOUND);
+        } else {
+            Log.info("Password is incorrect for user: " + userId);
+            return Result.error(ErrorCode.FORBIDDEN);
+        }
+    }
+
+    /**
+     * @return true if the user is stored, as read from the database, bypassing the caches
+     */
+    private boolean exists(String userId) {
+        try (var session = hibernate.getSessionFactory().openStatelessSession()) {
+            return session.get(User.class, userId) != null;
+        }
+    }
+
+    /**
+     * Drops the cached copies of a user, here and in the second-level cache, after a write
+     * through a stateless session, which bypasses that cache.
+     */
+    private void forget(String userId) {
+        cache.invalidate(userId);
+        hibernate.getSessionFactory().getCache().evict(User.class, userId);
+    }
+
+    /**
+     * Writes a versioned user in a transaction of its own, checking the version it was read with.
+     *
+     * @return true if the write applied, false if that version is no longer the stored one
+     */
+    private boolean write(Consumer<StatelessSession> op) {
+        try (var session = hibernate.getSessionFactory().openStatelessSession()) {
+            // Unbatched, a version conflict fails the write itself rather than the batch holding it
+            session.setJdbcBatchSize(1);
+            Transaction tx = session.beginTransaction();
+            try {
+                op.accept(session);
+                tx.commit();
+                return true;
+            } catch (StaleStateException e) {
+                tx.rollback();
+                return false;
+            } catch (RuntimeException e) {
+                if (tx.isActive()) tx.rollback();
+                throw e;
+            }
+        }
+    }
+
+    @Override
+    public Result<List<User>> searchUsers(String pattern) {
+        Log.info("searchUsers : pattern = " + pattern);
+
+        return searchUsers(pattern, null, 0);
+    }
+
+    @Override
+    public Result<List<User>> searchUsers(String pattern, String cursor, int limit) {
+        var res = streamUsers(pattern, cursor, limit);
+        if (!res.isOK())
+            return Result.error(res.error());
+
+        try (var users = res.value()) {
+            return Result.ok(users.collect(Collectors.toList()));
+        } catch (Exception e) {
+            Log.severe("Database error searching users: " + e.getMessage());
+            return Result.error(ErrorCode.INTERNAL_ERROR);
+        }
+    }
+
+    /**
+     * Rows are scrolled in a stateless session, fetchSize at a time, or
+     * loaded in batches of fetchSize when the userId index answers the search. The stream
+     * holds a database session until it is closed.
+     */
+    @Override
+    public Result<Stream<User>> streamUsers(String pattern, String cursor, int limit) {
+        Log.info("streamUsers : pattern = " + pattern + "; cursor = " + cursor + "; limit = " + limit);
+
+        if (limit < 0)
+            return Result.error(ErrorCode.BAD_REQUEST);
+
+        // Empty pattern should return all users
+        String wanted = isNullOrBlank(pattern) ? "" : pattern;
+
+        StatelessSession session = hibernate.getSessionFactory().openStatelessSession();
+        try {
+            List<String> indexed = wanted.length() >= UserIdIndex.GRAM ? index.search(wanted) : null;
+            Stream<User> users = indexed != null
+                    ? loadInBatches(session, indexed, cursor, limit)
+                    : scroll(session, wanted, cursor, limit);
+
+            return Result.ok(users.onClose(session::close));
+        } catch (Exception e) {
+            session.close();
+            Log.severe("Database error searching users: " + e.getMessage());
+            return Result.error(ErrorCode.INTERNAL_ERROR);
+        }
+    }
+
+    private static Stream<User> scroll(StatelessSession session, String pattern, String cursor, int limit) {
+        List<String> conditions = new ArrayList<>();
+        if (!pattern.isEmpty())
+            conditions.add("LOWER(u.userId) LIKE :pattern ESCAPE '!'");
+        if (cursor != null)
+            conditions.add("u.userId > :cursor");
+
+        String jpql = LIST_USERS
+                + (conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions))
+                + " ORDER BY u.userId";
+
+        var query = session.createQuery(jpql, User.class).setFetchSize(fetchSize);
+        if (!pattern.isEmpty())
+            query.setParameter("pattern", "%" + escapeLike(pattern.toLowerCase(Locale.ROOT)) + "%");
+        if (cursor != null)
+            query.setParameter("cursor", cursor);
+        if (limit > 0)
+            query.setMaxResults(limit);
+
+        return query.getResultStream();
+    }
+
+    private static Stream<User> loadInBatches(StatelessSession session, List<String> userIds, String cursor, int limit) {
+        Stream<String> ids = userIds.stream().filter(id -> cursor == null || id.compareTo(cursor) > 0);
+        if (limit > 0)
+            ids = ids.limit(limit);
+
+        Iterator<List<String>> batches = Iterators.partition(ids.iterator(), fetchSize);
+        return Streams.stream(Iterators.concat(Iterators.transform(batches,
+                batch -> session.createQuery(LIST_USERS + " WHERE u.userId IN :ids ORDER BY u.userId", User.class)
+                        .setParameter("ids", batch)
+                        .list()
+                        .iterator())));
+    }
+}
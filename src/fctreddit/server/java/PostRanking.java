@@ -0,0 +1,173 @@
+package fctreddit.server.java;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+import fctreddit.api.PostsPage;
+
+/**
+ * A ranking of posts by a score (e.g. upvotes or replies), kept sorted as the scores change.
+ *
+ * Posts are ordered from the highest to the lowest score, ties being broken by creation
+ * order. Every score change is an O(log n) re-insertion in a concurrent skip list, so
+ * listing the ranking is a plain in-order traversal.
+ *
+ * A score change inserts the new key before removing the old one, so a post being moved
+ * may be met twice by a concurrent traversal, and is listed at the first rank met. A
+ * traversal can still miss a post that is moved from ahead of it to behind it, so a full
+ * listing overlapping a move looks up the posts it missed afterwards.
+ */
+final class PostRanking {
+
+    private record Key(int score, long creationTimestamp, String postId) {
+
+        private static final String SEPARATOR = ",";
+
+        String encode() {
+            return score + SEPARATOR + creationTimestamp + SEPARATOR + postId;
+        }
+
+        static Key decode(String cursor) {
+            String[] fields = cursor.split(SEPARATOR, 3);
+            if (fields.length != 3)
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            return new Key(Integer.parseInt(fields[0]), Long.parseLong(fields[1]), fields[2]);
+        }
+    }
+
+    private static final Comparator<Key> RANK_ORDER = Comparator.comparingInt(Key::score).reversed()
+            .thenComparingLong(Key::creationTimestamp)
+            .thenComparing(Key::postId);
+
+    private final ConcurrentSkipListSet<Key> order = new ConcurrentSkipListSet<>(RANK_ORDER);
+
+    // The current key of every ranked post, updated atomically per post
+    private final Map<String, Key> keys = new ConcurrentHashMap<>();
+
+    // Moves started and finished, which tell a listing whether one overlapped it
+    private final AtomicLong movesStarted = new AtomicLong();
+    private final AtomicLong movesFinished = new AtomicLong();
+
+    /**
+     * Adds a post to the ranking, with a score of zero.
+     */
+    void add(String postId, long creationTimestamp) {
+        keys.computeIfAbsent(postId, id -> {
+            Key key = new Key(0, creationTimestamp, id);
+            order.add(key);
+            return key;
+        });
+    }
+
+    /**
+     * Changes the score of a post by the given amount. Does nothing if the post is not ranked.
+     */
+    void adjust(String postId, int delta) {
+        keys.computeIfPresent(postId, (id, old) -> {
+            Key key = new Key(old.score() + delta, old.creationTimestamp(), id);
+            movesStarted.incrementAndGet();
+            order.add(key);
+            order.remove(old);
+            movesFinished.incrementAndGet();
+            return key;
+        });
+    }
+
+    /**
+     * Removes a post from the ranking.
+     */
+    void remove(String postId) {
+        keys.computeIfPresent(postId, (id, old) -> {
+            order.remove(old);
+            return null;
+        });
+    }
+
+    /**
+     * Lists, in rank order, the posts created at or after the given timestamp.
+     */
+    List<String> list(long timestamp) {
+        long started = movesStarted.get();
+        boolean quiet = movesFinished.get() == started;
+
+        List<Key> listed = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        for (Key key : order) {
+            if (key.creationTimestamp() >= timestamp && isListed(key, seen))
+                listed.add(key);
+        }
+
+        if (!quiet || movesStarted.get() != started)
+            listed = withMissed(listed, seen, timestamp);
+
+        List<String> result = new ArrayList<>(listed.size());
+        for (Key key : listed)
+            result.add(key.postId());
+        return result;
+    }
+
+    /**
+     * Lists, in rank order, up to limit posts created at or after the given timestamp,
+     * starting right after the given cursor.
+     *
+     * The cursor is the rank position of the last post of the previous page, so new posts
+     * never shift the following pages. A post whose score changes while paging may appear
+     * on two pages, or on none.
+     *
+     * @param after the cursor returned with the previous page, or null for the first page
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    PostsPage page(long timestamp, String after, int limit) {
+        NavigableSet<Key> tail = after == null ? order : order.tailSet(Key.decode(after), false);
+
+        List<String> result = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        Key last = null;
+        for (Key key : tail) {
+            if (key.creationTimestamp() < timestamp || !isListed(key, seen))
+                continue;
+            if (result.size() == limit)
+                return new PostsPage(result, last.encode());
+            result.add(key.postId());
+            last = key;
+        }
+        return new PostsPage(result, null);
+    }
+
+    /**
+     * Tells whether a key met by a traversal is to be listed, i.e. its post is still ranked
+     * and was not met before at another rank, while being moved.
+     */
+    private boolean isListed(Key key, Set<String> seen) {
+        return keys.containsKey(key.postId()) && seen.add(key.postId());
+    }
+
+    /**
+     * Adds, at their current rank, the posts a traversal missed while they were moved.
+     */
+    private List<Key> withMissed(List<Key> listed, Set<String> seen, long timestamp) {
+        List<Key> missed = new ArrayList<>();
+        for (Key key : keys.values())
+            if (key.creationTimestamp() >= timestamp && !seen.contains(key.postId()))
+                missed.add(key);
+        if (missed.isEmpty())
+            return listed;
+
+        missed.sort(RANK_ORDER);
+        List<Key> merged = new ArrayList<>(listed.size() + missed.size());
+        int i = 0, j = 0;
+        while (i < listed.size() && j < missed.size())
+            merged.add(RANK_ORDER.compare(listed.get(i), missed.get(j)) <= 0 ? listed.get(i++) : missed.get(j++));
+        merged.addAll(listed.subList(i, listed.size()));
+        merged.addAll(missed.subList(j, missed.size()));
+        return merged;
+    }
+}
@@ -0,0 +1,62 @@
+package fctreddit.server.java;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Links every post to its direct replies, kept in creation order.
+ *
+ * Listing the answers of a post, or walking down a reply tree, only touches the
+ * posts involved instead of scanning every post.
+ */
+final class ReplyIndex {
+
+    private final Map<String, List<String>> children = new ConcurrentHashMap<>();
+
+    /**
+     * Records a new reply, after the replies already known for the same parent.
+     */
+    void add(String parentId, String replyId) {
+        children.compute(parentId, (id, replies) -> {
+            if (replies == null)
+                replies = new ArrayList<>();
+            replies.add(replyId);
+            return replies;
+        });
+    }
+
+    /**
+     * Forgets a reply of the given parent.
+     */
+    void remove(String parentId, String replyId) {
+        children.computeIfPresent(parentId, (id, replies) -> {
+            replies.remove(replyId);
+            return replies.isEmpty() ? null : replies;
+        });
+    }
+
+    /**
+     * Forgets all the replies of the given parent.
+     *
+     * @return the replies that were known for it, in creation order
+     */
+    List<String> removeAll(String parentId) {
+        List<String> replies = children.remove(parentId);
+        return replies == null ? Collections.emptyList() : replies;
+    }
+
+    /**
+     * @return a copy of the direct replies of the given post, in creation order
+     */
+    List<String> of(String parentId) {
+        List<String> result = new ArrayList<>();
+        children.computeIfPresent(parentId, (id, replies) -> {
+            result.addAll(replies);
+            return replies;
+        });
+        return result;
+    }
+}
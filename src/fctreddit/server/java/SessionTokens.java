@@ -0,0 +1,120 @@
+package fctreddit.server.java;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+import fctreddit.api.java.Result;
+import fctreddit.api.java.Result.ErrorCode;
+import fctreddit.api.utils.Props;
+
+/**
+ * Session tokens, issued by Users on login and checked by the other services without
+ * calling Users.
+ *
+ * A token reads kid.expiry.userId.mac, where kid names the key that signed it, expiry is
+ * in seconds since the epoch, userId is base64url encoded, and mac is the HMAC-SHA256 of
+ * the first three parts under that key. All the servers share the keys listed in
+ * SESSION_KEYS, as kid:base64 secret pairs separated by commas. New tokens are signed with
+ * SESSION_KEY_ID, or the first key listed, and last SESSION_TTL_SECONDS.
+ *
+ * Keys are rotated by listing the new key on every server, then making it the signing key
+ * of Users, and removing the old one once the tokens it signed have expired. Without keys,
+ * tokens are neither issued nor accepted.
+ */
+final class SessionTokens {
+    private static final Logger Log = Logger.getLogger(SessionTokens.class.getName());
+
+    public static final String KEYS = "SESSION_KEYS";
+    public static final String KEY_ID = "SESSION_KEY_ID";
+    public static final String TTL_SECONDS = "SESSION_TTL_SECONDS";
+
+    private static final char SEPARATOR = '.';
+
+    private static final Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder decoder = Base64.getUrlDecoder();
+
+    // Guava HMAC functions are thread safe, unlike javax.crypto.Mac instances
+    private static final Map<String, HashFunction> keys = loadKeys();
+    private static final String signingKey = Props.get(KEY_ID, keys.isEmpty() ? null : keys.keySet().iterator().next());
+    private static final long ttlSeconds = Props.getInt(TTL_SECONDS, 3600);
+
+    private SessionTokens() {
+    }
+
+    /**
+     * @return OK and a token for the user, valid until it expires;
+     *         NOT_IMPLEMENTED if no signing key is configured
+     */
+    static Result<String> issue(String userId) {
+        HashFunction hmac = signingKey == null ? null : keys.get(signingKey);
+        if (hmac == null) {
+            Log.warning("No " + KEYS + " configured, sessions are disabled.");
+            return Result.error(ErrorCode.NOT_IMPLEMENTED);
+        }
+
+        long expiry = System.currentTimeMillis() / 1000 + ttlSeconds;
+        String signed = signingKey + SEPARATOR + expiry + SEPARATOR + encoder.encodeToString(userId.getBytes(StandardCharsets.UTF_8));
+        return Result.ok(signed + SEPARATOR + encoder.encodeToString(mac(hmac, signed)));
+    }
+
+    /**
+     * @return true if the token was signed by one of the keys, has not expired, and was issued to userId
+     */
+    static boolean verify(String token, String userId) {
+        if (token == null || userId == null || keys.isEmpty())
+            return false;
+
+        int kidEnd = token.indexOf(SEPARATOR);
+        int expiryEnd = token.indexOf(SEPARATOR, kidEnd + 1);
+        int userEnd = token.indexOf(SEPARATOR, expiryEnd + 1);
+        if (kidEnd < 0 || expiryEnd < 0 || userEnd < 0)
+            return false;
+
+        HashFunction hmac = keys.get(token.substring(0, kidEnd));
+        if (hmac == null)
+            return false;
+
+        try {
+            String signed = token.substring(0, userEnd);
+            if (!MessageDigest.isEqual(mac(hmac, signed), decoder.decode(token.substring(userEnd + 1))))
+                return false;
+
+            long expiry = Long.parseLong(token.substring(kidEnd + 1, expiryEnd));
+            String owner = new String(decoder.decode(token.substring(expiryEnd + 1, userEnd)), StandardCharsets.UTF_8);
+            return expiry > System.currentTimeMillis() / 1000 && owner.equals(userId);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static byte[] mac(HashFunction hmac, String signed) {
+        return hmac.hashString(signed, StandardCharsets.US_ASCII).asBytes();
+    }
+
+    private static Map<String, HashFunction> loadKeys() {
+        Map<String, HashFunction> keys = new LinkedHashMap<>();
+        for (String entry : Props.get(KEYS, "").split(",")) {
+            if (entry.isBlank())
+                continue;
+
+            int colon = entry.indexOf(':');
+            String kid = colon < 0 ? "" : entry.substring(0, colon).trim();
+            try {
+                if (kid.isEmpty() || kid.indexOf(SEPARATOR) >= 0)
+                    throw new IllegalArgumentException("invalid key id");
+                keys.put(kid, Hashing.hmacSha256(Base64.getDecoder().decode(entry.substring(colon + 1).trim())));
+            } catch (IllegalArgumentException e) {
+                // The secret itself is never logged
+                Log.warning("Ignoring invalid entry of " + KEYS + " with key id '" + kid + "': " + e.getMessage());
+            }
+        }
+        return keys;
+    }
+}
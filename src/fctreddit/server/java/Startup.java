@@ -0,0 +1,41 @@
+package fctreddit.server.java;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
+
+/**
+ * Reports how long this server takes to start, counted from the start of the JVM: when it
+ * is ready to be announced, and when it sends its first response.
+ */
+public final class Startup {
+    private static final Logger Log = Logger.getLogger(Startup.class.getName());
+
+    private static final AtomicBoolean responded = new AtomicBoolean();
+
+    private Startup() {
+    }
+
+    /**
+     * @return the milliseconds elapsed since the JVM started
+     */
+    public static long elapsedMillis() {
+        return System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime();
+    }
+
+    public static void ready(String service) {
+        Log.info(service + " ready " + elapsedMillis() + " ms after the JVM started");
+    }
+
+    /**
+     * Logs the time to the first response, the first time it is called.
+     */
+    public static void responded() {
+        if (!responded.get() && responded.compareAndSet(false, true))
+            Log.info("First response sent " + elapsedMillis() + " ms after the JVM started");
+    }
+
+    public static boolean hasResponded() {
+        return responded.get();
+    }
+}
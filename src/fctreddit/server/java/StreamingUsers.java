@@ -0,0 +1,21 @@
+package fctreddit.server.java;
+
+import java.util.stream.Stream;
+
+import fctreddit.api.User;
+import fctreddit.api.java.Result;
+import fctreddit.api.java.Users;
+
+/**
+ * A Users engine that can also stream the results of a search.
+ */
+public interface StreamingUsers extends Users {
+
+    /**
+     * Same as {@link #searchUsers(String, String, int)}, but the users are produced as the
+     * stream is consumed, rather than collected first, so that any number of them can be
+     * sent back with bounded memory. The stream must be closed, as it may hold resources
+     * of the engine.
+     */
+    Result<Stream<User>> streamUsers(String pattern, String cursor, int limit);
+}
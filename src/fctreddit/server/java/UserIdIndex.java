@@ -0,0 +1,88 @@
+package fctreddit.server.java;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A trigram index of user identifiers, for case-insensitive substring search.
+ *
+ * Every user is listed under each trigram (sequence of three characters) of its lowercased
+ * userId. A search intersects the lists of the trigrams of the pattern, starting from the
+ * shortest one, and checks the few candidates left, so its cost depends on how selective
+ * the pattern is rather than on the number of users. Patterns shorter than a trigram
+ * cannot be answered by the index.
+ */
+final class UserIdIndex {
+
+    static final int GRAM = 3;
+
+    private final Map<String, Set<String>> postings = new ConcurrentHashMap<>();
+
+    void add(String userId) {
+        for (String gram : gramsOf(normalize(userId)))
+            postings.compute(gram, (g, ids) -> {
+                if (ids == null)
+                    ids = ConcurrentHashMap.newKeySet();
+                ids.add(userId);
+                return ids;
+            });
+    }
+
+    void remove(String userId) {
+        for (String gram : gramsOf(normalize(userId)))
+            postings.computeIfPresent(gram, (g, ids) -> {
+                ids.remove(userId);
+                return ids.isEmpty() ? null : ids;
+            });
+    }
+
+    /**
+     * @return the userIds that contain the pattern, ignoring case, in lexicographic order
+     * @throws IllegalArgumentException if the pattern is shorter than a trigram
+     */
+    List<String> search(String pattern) {
+        String wanted = normalize(pattern);
+        if (wanted.length() < GRAM)
+            throw new IllegalArgumentException("Pattern shorter than " + GRAM + " characters: " + pattern);
+
+        List<Set<String>> lists = new ArrayList<>();
+        for (String gram : gramsOf(wanted)) {
+            Set<String> ids = postings.get(gram);
+            if (ids == null)
+                return Collections.emptyList();
+            lists.add(ids);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        List<String> result = new ArrayList<>();
+        candidates:
+        for (String userId : lists.get(0)) {
+            for (int i = 1; i < lists.size(); i++)
+                if (!lists.get(i).contains(userId))
+                    continue candidates;
+            // Sharing all the trigrams does not guarantee they appear in sequence
+            if (normalize(userId).contains(wanted))
+                result.add(userId);
+        }
+        Collections.sort(result);
+        return result;
+    }
+
+    private static String normalize(String s) {
+        return s.toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<String> gramsOf(String s) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM <= s.length(); i++)
+            grams.add(s.substring(i, i + GRAM));
+        return grams;
+    }
+}
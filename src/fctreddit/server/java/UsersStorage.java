@@ -0,0 +1,32 @@
+package fctreddit.server.java;
+
+import java.util.logging.Logger;
+
+import fctreddit.api.utils.Props;
+
+/**
+ * Provides the Users engine of this server, shared by all its endpoints.
+ *
+ * The engine is chosen by the USERS_STORAGE setting: "memory" keeps users in memory,
+ * optionally snapshotted to disk, anything else keeps them in the database.
+ */
+public class UsersStorage {
+    private static final Logger Log = Logger.getLogger(UsersStorage.class.getName());
+
+    public static final String STORAGE = "USERS_STORAGE";
+    public static final String MEMORY_STORAGE = "memory";
+
+    private static StreamingUsers instance;
+
+    private UsersStorage() {
+    }
+
+    synchronized public static StreamingUsers getInstance() {
+        if (instance == null) {
+            String storage = Props.get(STORAGE, "hibernate");
+            Log.info("Users storage: " + storage);
+            instance = MEMORY_STORAGE.equalsIgnoreCase(storage) ? new JavaUsers() : new PersistentUsers();
+        }
+        return instance;
+    }
+}
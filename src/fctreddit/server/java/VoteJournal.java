@@ -0,0 +1,406 @@
+package fctreddit.server.java;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+
+import fctreddit.api.java.Result.ErrorCode;
+import fctreddit.server.persistence.Hibernate;
+import fctreddit.server.persistence.PostVote;
+
+/**
+ * A write-behind journal of the votes of the persistent Content backend.
+ *
+ * Votes are decided against an in-memory {@link VoteRegistry}, loaded from the database on
+ * startup, and appended to a journal file. A vote is only acknowledged once the journal is
+ * synced to disk, and concurrent votes share the same sync. A background task coalesces the
+ * pending votes by post and user and writes them to the database in a single transaction,
+ * with one counter UPDATE per post, after which their journal segment is discarded. Segments
+ * left behind by a crash are replayed on startup.
+ */
+class VoteJournal {
+
+    private static final Logger Log = Logger.getLogger(VoteJournal.class.getName());
+
+    private static final int UP = 1, ADD = 2;
+
+    private enum State { UP, DOWN, NONE }
+
+    private record VoteKey(String postId, String userId) {
+    }
+
+    private final Hibernate hibernate;
+    private final Path base;
+    private final VoteRegistry votes = new VoteRegistry();
+
+    // Guarded by this, which may be taken under the lock of a post in the registry: the current
+    // segment, and the votes and counter deltas not yet in the database
+    private FileChannel channel;
+    private long segment;
+    private final List<Path> flushing = new ArrayList<>();
+    private Map<VoteKey, State> pending = new HashMap<>();
+    private Map<String, int[]> deltas = new HashMap<>();
+    private long written;
+
+    // Guarded by syncLock, which is always taken before this
+    private final Object syncLock = new Object();
+    private long synced;
+
+    // Serializes flushes, so they reach the database in journal order
+    private final Object flushLock = new Object();
+
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "vote-journal-flusher");
+        t.setDaemon(true);
+        return t;
+    });
+
+    VoteJournal(Hibernate hibernate, Path base, long flushMillis) throws IOException {
+        this.hibernate = hibernate;
+        this.base = base;
+
+        recover();
+        load();
+        channel = openSegment(++segment);
+
+        flusher.scheduleWithFixedDelay(this::flush, flushMillis, flushMillis, TimeUnit.MILLISECONDS);
+        Runtime.getRuntime().addShutdownHook(new Thread(this::flush));
+    }
+
+    /**
+     * Starts accepting votes on a new post.
+     */
+    void addPost(String postId) {
+        votes.add(postId);
+    }
+
+    /**
+     * Stops accepting votes on removed posts, and drops their pending votes.
+     */
+    synchronized void removePosts(Collection<String> postIds) {
+        Set<String> removed = new HashSet<>(postIds);
+        for (String postId : removed) {
+            votes.remove(postId);
+            deltas.remove(postId);
+        }
+        pending.keySet().removeIf(key -> removed.contains(key.postId()));
+    }
+
+    /**
+     * Adds or removes a vote, returning once it is durably journaled.
+     *
+     * @return OK if the vote was changed; NOT_FOUND if the post is unknown; CONFLICT as in
+     *         {@link VoteRegistry#vote}; INTERNAL_ERROR if the journal could not be written or
+     *         synced, in which case the vote is undone
+     */
+    ErrorCode vote(String postId, String userId, boolean up, boolean add) {
+        long[] seq = new long[1];
+        ErrorCode outcome = journaled(postId, userId, up, add, seq);
+        if (outcome != ErrorCode.OK)
+            return outcome;
+
+        try {
+            sync(seq[0]);
+        } catch (IOException e) {
+            Log.severe("Unable to sync vote journal: " + e.getMessage());
+            // Undone, and the undo journaled behind it, so a retry of the failed vote is not turned down
+            if (journaled(postId, userId, up, !add, seq) != ErrorCode.OK)
+                Log.severe("Unable to undo vote of " + userId + " on " + postId);
+            return ErrorCode.INTERNAL_ERROR;
+        }
+        return ErrorCode.OK;
+    }
+
+    /**
+     * Decides a vote under the lock of its post, and appends it to the journal before it is
+     * made, so the votes on a post are journaled in the order they were decided.
+     */
+    private ErrorCode journaled(String postId, String userId, boolean up, boolean add, long[] seq) {
+        byte[] record = encode(postId, userId, up, add);
+        return votes.vote(postId, userId, up, add, () -> (seq[0] = append(postId, userId, up, add, record)) > 0);
+    }
+
+    /**
+     * Appends a vote to the current segment and to the votes pending for the database.
+     *
+     * @return the sequence number of the vote in the journal, or 0 if it could not be written
+     */
+    private synchronized long append(String postId, String userId, boolean up, boolean add, byte[] record) {
+        try {
+            channel.write(ByteBuffer.wrap(record));
+        } catch (IOException e) {
+            Log.severe("Unable to journal vote: " + e.getMessage());
+            return 0;
+        }
+        pending.put(new VoteKey(postId, userId), add ? (up ? State.UP : State.DOWN) : State.NONE);
+        deltas.computeIfAbsent(postId, id -> new int[2])[up ? 0 : 1] += add ? 1 : -1;
+        return ++written;
+    }
+
+    /**
+     * @return the number of upvotes of the post, or -1 if the post is unknown
+     */
+    int upVotes(String postId) {
+        return votes.upVotes(postId);
+    }
+
+    /**
+     * @return the number of downvotes of the post, or -1 if the post is unknown
+     */
+    int downVotes(String postId) {
+        return votes.downVotes(postId);
+    }
+
+    /**
+     * Syncs the journal, unless a concurrent sync already covered the given record.
+     */
+    private void sync(long seq) throws IOException {
+        synchronized (syncLock) {
+            if (synced >= seq)
+                return;
+
+            FileChannel current;
+            long upTo;
+            synchronized (this) {
+                current = channel;
+                upTo = written;
+            }
+            force(current);
+            synced = upTo;
+        }
+    }
+
+    /**
+     * Forces a segment to disk. A failure fails the votes waiting on the sync.
+     */
+    void force(FileChannel file) throws IOException {
+        file.force(false);
+    }
+
+    /**
+     * Writes the pending votes to the database, then discards their journal segments.
+     */
+    void flush() {
+        synchronized (flushLock) {
+            flushPending();
+        }
+    }
+
+    private void flushPending() {
+        Map<VoteKey, State> votesToFlush;
+        Map<String, int[]> deltasToFlush;
+        List<Path> segments;
+
+        synchronized (syncLock) {
+            synchronized (this) {
+                if (pending.isEmpty() && deltas.isEmpty())
+                    return;
+                try {
+                    // Retires the segment complete, including the votes still waiting for their sync
+                    force(channel);
+                    synced = written;
+                    channel.close();
+                    flushing.add(segmentPath(segment));
+                    channel = openSegment(++segment);
+                } catch (IOException e) {
+                    Log.severe("Unable to rotate vote journal: " + e.getMessage());
+                    return;
+                }
+                votesToFlush = pending;
+                deltasToFlush = deltas;
+                segments = new ArrayList<>(flushing);
+                pending = new HashMap<>();
+                deltas = new HashMap<>();
+            }
+        }
+
+        if (write(votesToFlush, deltasToFlush, false)) {
+            synchronized (this) {
+                flushing.removeAll(segments);
+            }
+            segments.forEach(this::delete);
+            return;
+        }
+
+        // Puts the votes back, behind the votes that arrived meanwhile, for the next flush
+        synchronized (this) {
+            votesToFlush.forEach(pending::putIfAbsent);
+            deltasToFlush.forEach((postId, d) -> {
+                int[] current = deltas.computeIfAbsent(postId, id -> new int[2]);
+                current[0] += d[0];
+                current[1] += d[1];
+            });
+        }
+    }
+
+    /**
+     * Applies votes to the database in a single transaction. Counters are either changed by
+     * the given deltas or, when recounting, recomputed from the vote rows.
+     */
+    private boolean write(Map<VoteKey, State> votesToFlush, Map<String, int[]> deltasToFlush, boolean recount) {
+        Transaction tx = null;
+        try (var session = hibernate.getSessionFactory().openSession()) {
+            tx = session.beginTransaction();
+
+            for (var e : votesToFlush.entrySet()) {
+                String postId = e.getKey().postId(), userId = e.getKey().userId();
+                session.createMutationQuery("DELETE FROM PostVote v WHERE v.postId = :postId AND v.userId = :userId")
+                        .setParameter("postId", postId)
+                        .setParameter("userId", userId)
+                        .executeUpdate();
+                // Inserted only if the post still exists, as it may have been deleted meanwhile
+                if (e.getValue() != State.NONE)
+                    session.createMutationQuery("INSERT INTO PostVote (postId, userId, upVote) "
+                                    + "SELECT p.postId, :userId, :up FROM Post p WHERE p.postId = :postId")
+                            .setParameter("userId", userId)
+                            .setParameter("up", e.getValue() == State.UP)
+                            .setParameter("postId", postId)
+                            .executeUpdate();
+            }
+
+            if (recount)
+                recount(session, votesToFlush.keySet().stream().map(VoteKey::postId).distinct().toList());
+            else
+                for (var e : deltasToFlush.entrySet())
+                    session.createMutationQuery("UPDATE Post p SET p.upVote = p.upVote + :up, "
+                                    + "p.downVote = p.downVote + :down WHERE p.postId = :postId")
+                            .setParameter("up", e.getValue()[0])
+                            .setParameter("down", e.getValue()[1])
+                            .setParameter("postId", e.getKey())
+                            .executeUpdate();
+
+            tx.commit();
+            Log.info("Flushed " + votesToFlush.size() + " votes on " + deltasToFlush.size() + " posts.");
+            return true;
+        } catch (Exception e) {
+            if (tx != null && tx.isActive())
+                tx.rollback();
+            Log.severe("Unable to flush votes: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private static void recount(Session session, List<String> postIds) {
+        if (!postIds.isEmpty())
+            session.createMutationQuery("UPDATE Post p SET "
+                            + "p.upVote = (SELECT COUNT(v) FROM PostVote v WHERE v.postId = p.postId AND v.upVote = true), "
+                            + "p.downVote = (SELECT COUNT(v) FROM PostVote v WHERE v.postId = p.postId AND v.upVote = false) "
+                            + "WHERE p.postId IN :ids")
+                    .setParameter("ids", postIds)
+                    .executeUpdate();
+    }
+
+    /**
+     * Replays the segments left behind by a previous run. They may have been written to the
+     * database already, so the last vote of each user on each post is applied as a state, and
+     * the counters of the posts involved are recomputed.
+     */
+    private void recover() throws IOException {
+        TreeMap<Long, Path> segments = new TreeMap<>();
+        String prefix = base.getFileName() + ".";
+        Path dir = base.toAbsolutePath().getParent();
+        Files.createDirectories(dir);
+        try (var files = Files.list(dir)) {
+            files.forEach(file -> {
+                String name = file.getFileName().toString();
+                if (name.startsWith(prefix)) {
+                    try {
+                        segments.put(Long.parseLong(name.substring(prefix.length())), file);
+                    } catch (NumberFormatException e) {
+                        // Not a segment
+                    }
+                }
+            });
+        }
+        if (segments.isEmpty())
+            return;
+
+        Map<VoteKey, State> replayed = new HashMap<>();
+        for (Path file : segments.values())
+            replay(file, replayed);
+
+        Log.info("Replaying " + replayed.size() + " votes from " + segments.size() + " journal segments.");
+        if (!write(replayed, Map.of(), true))
+            throw new IOException("Unable to replay the vote journal");
+
+        segments.values().forEach(this::delete);
+        segment = segments.lastKey();
+    }
+
+    private static void replay(Path file, Map<VoteKey, State> replayed) throws IOException {
+        try (var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            while (true) {
+                int flags = in.readByte();
+                String postId = in.readUTF(), userId = in.readUTF();
+                boolean up = (flags & UP) != 0;
+                replayed.put(new VoteKey(postId, userId), (flags & ADD) == 0 ? State.NONE : up ? State.UP : State.DOWN);
+            }
+        } catch (EOFException e) {
+            // End of the segment, possibly in the middle of a record that was never acknowledged
+        }
+    }
+
+    /**
+     * Loads the posts and votes in the database into the registry.
+     */
+    private void load() {
+        try (var session = hibernate.getSessionFactory().openSession()) {
+            session.createQuery("SELECT p.postId FROM Post p", String.class)
+                    .stream().forEach(votes::add);
+            session.createQuery("FROM PostVote v", PostVote.class)
+                    .stream().forEach(v -> votes.vote(v.getPostId(), v.getUserId(), v.isUpVote(), true));
+        }
+    }
+
+    private static byte[] encode(String postId, String userId, boolean up, boolean add) {
+        var bytes = new ByteArrayOutputStream();
+        try (var out = new DataOutputStream(bytes)) {
+            out.writeByte((up ? UP : 0) | (add ? ADD : 0));
+            out.writeUTF(postId);
+            out.writeUTF(userId);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private Path segmentPath(long n) {
+        return base.resolveSibling(base.getFileName() + "." + n);
+    }
+
+    private FileChannel openSegment(long n) throws IOException {
+        return FileChannel.open(segmentPath(n), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    private void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            Log.warning("Unable to delete journal segment " + file + ": " + e.getMessage());
+        }
+    }
+}
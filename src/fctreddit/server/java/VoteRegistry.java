@@ -0,0 +1,197 @@
+package fctreddit.server.java;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import fctreddit.api.java.Result.ErrorCode;
+
+/**
+ * Keeps the upvotes and downvotes of every post.
+ *
+ * Users are interned to int identifiers and the voters of a post are kept in compact
+ * open-addressing int sets. Changes are serialized by a fixed pool of striped locks,
+ * chosen by post, so votes on different posts rarely contend. Vote counts are
+ * published in volatile counters and read without locking.
+ */
+final class VoteRegistry {
+
+    private static final int STRIPES = Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 8 - 1) << 1;
+
+    private final Object[] locks = new Object[STRIPES];
+
+    private final Map<String, PostVotes> votes = new ConcurrentHashMap<>();
+
+    private final Map<String, Integer> userIds = new ConcurrentHashMap<>();
+    private final AtomicInteger nextUserId = new AtomicInteger();
+
+    private static final class PostVotes {
+        // Guarded by the stripe lock of the post
+        final IntSet up = new IntSet();
+        final IntSet down = new IntSet();
+
+        volatile int upCount;
+        volatile int downCount;
+    }
+
+    VoteRegistry() {
+        for (int i = 0; i < STRIPES; i++)
+            locks[i] = new Object();
+    }
+
+    /**
+     * Starts keeping the votes of a new post.
+     */
+    void add(String postId) {
+        votes.put(postId, new PostVotes());
+    }
+
+    /**
+     * Discards the votes of a post.
+     */
+    void remove(String postId) {
+        votes.remove(postId);
+    }
+
+    /**
+     * Adds or removes the upvote or downvote of a user on a post.
+     *
+     * @return OK if the vote was changed;
+     *         NOT_FOUND if the post is unknown;
+     *         CONFLICT if the user already voted on the post (when adding), or did not have
+     *         that vote (when removing)
+     */
+    ErrorCode vote(String postId, String userId, boolean up, boolean add) {
+        return vote(postId, userId, up, add, () -> true);
+    }
+
+    /**
+     * Same as {@link #vote(String, String, boolean, boolean)}, but the change is only made if
+     * commit, which runs under the lock of the post once the change is decided, returns true.
+     *
+     * @return as above, or INTERNAL_ERROR if commit returned false
+     */
+    ErrorCode vote(String postId, String userId, boolean up, boolean add, BooleanSupplier commit) {
+        PostVotes post = votes.get(postId);
+        if (post == null)
+            return ErrorCode.NOT_FOUND;
+
+        int user = userIds.computeIfAbsent(userId, id -> nextUserId.getAndIncrement());
+
+        synchronized (lockOf(postId)) {
+            IntSet voters = up ? post.up : post.down;
+            if (add ? post.up.contains(user) || post.down.contains(user) : !voters.contains(user))
+                return ErrorCode.CONFLICT;
+            if (!commit.getAsBoolean())
+                return ErrorCode.INTERNAL_ERROR;
+
+            if (add)
+                voters.add(user);
+            else
+                voters.remove(user);
+
+            if (up)
+                post.upCount = voters.size();
+            else
+                post.downCount = voters.size();
+        }
+        return ErrorCode.OK;
+    }
+
+    /**
+     * @return the number of upvotes of the post, or -1 if the post is unknown
+     */
+    int upVotes(String postId) {
+        PostVotes post = votes.get(postId);
+        return post == null ? -1 : post.upCount;
+    }
+
+    /**
+     * @return the number of downvotes of the post, or -1 if the post is unknown
+     */
+    int downVotes(String postId) {
+        PostVotes post = votes.get(postId);
+        return post == null ? -1 : post.downCount;
+    }
+
+    private Object lockOf(String postId) {
+        int h = postId.hashCode();
+        return locks[(h ^ (h >>> 16)) & (STRIPES - 1)];
+    }
+
+    /**
+     * A set of non-negative ints, using open addressing with linear probing.
+     * Not thread-safe.
+     */
+    static final class IntSet {
+        // Slots hold value + 1, so that 0 marks an empty slot
+        private int[] slots = new int[4];
+        private int size;
+
+        int size() {
+            return size;
+        }
+
+        boolean contains(int value) {
+            int[] s = slots;
+            for (int i = indexOf(value, s.length); s[i] != 0; i = (i + 1) & (s.length - 1))
+                if (s[i] == value + 1)
+                    return true;
+            return false;
+        }
+
+        boolean add(int value) {
+            if ((size + 1) * 4 > slots.length * 3)
+                rehash(slots.length * 2);
+
+            int[] s = slots;
+            int i = indexOf(value, s.length);
+            for (; s[i] != 0; i = (i + 1) & (s.length - 1))
+                if (s[i] == value + 1)
+                    return false;
+            s[i] = value + 1;
+            size++;
+            return true;
+        }
+
+        boolean remove(int value) {
+            int[] s = slots;
+            int mask = s.length - 1;
+            int i = indexOf(value, s.length);
+            for (; s[i] != value + 1; i = (i + 1) & mask)
+                if (s[i] == 0)
+                    return false;
+
+            // Shifts back the following entries of the probe sequence into the freed slot
+            int free = i;
+            for (int j = (i + 1) & mask; s[j] != 0; j = (j + 1) & mask) {
+                int home = indexOf(s[j] - 1, s.length);
+                if (((j - home) & mask) >= ((j - free) & mask)) {
+                    s[free] = s[j];
+                    free = j;
+                }
+            }
+            s[free] = 0;
+            size--;
+            return true;
+        }
+
+        private void rehash(int capacity) {
+            int[] old = slots;
+            slots = new int[capacity];
+            for (int v : old)
+                if (v != 0) {
+                    int i = indexOf(v - 1, capacity);
+                    while (slots[i] != 0)
+                        i = (i + 1) & (capacity - 1);
+                    slots[i] = v;
+                }
+        }
+
+        private static int indexOf(int value, int capacity) {
+            int h = value * 0x9E3779B9;
+            return (h ^ (h >>> 16)) & (capacity - 1);
+        }
+    }
+}
@@ -2,16 +2,66 @@ package fctreddit.server.persistence;
 
 import org.hibernate.SessionFactory;
 import org.hibernate.Transaction;
+import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.cfg.Configuration;
+import org.hibernate.cfg.JdbcSettings;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import fctreddit.api.User;
+import fctreddit.api.utils.Props;
 
 import java.io.File;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
 
 /**
  * A helper class to perform POJO (Plain Old Java Objects) persistence, using Hibernate and a backing relational database.
+ * 
+ * Connections come from a HikariCP pool, sized by the DB_POOL_* settings of fctreddit.props.
+ * With DB_PROFILE=production the database survives restarts, see {@link #configureDurability}.
+ * The second-level cache regions listed in DB_CACHE_REGIONS are bounded by their own
+ * DB_CACHE_<REGION>_SIZE and DB_CACHE_<REGION>_TTL_SECONDS settings.
  */
 public class Hibernate {
+	private static final Logger Log = Logger.getLogger(Hibernate.class.getName());
+
 	private static final String HIBERNATE_CFG_FILE = "hibernate.cfg.xml";
+
+	public static final String POOL_MAX_SIZE = "DB_POOL_MAX_SIZE";
+	public static final String POOL_MIN_IDLE = "DB_POOL_MIN_IDLE";
+	public static final String POOL_IDLE_TIMEOUT_MILLIS = "DB_POOL_IDLE_TIMEOUT_MILLIS";
+	public static final String POOL_WAIT_MILLIS = "DB_POOL_WAIT_MILLIS";
+	public static final String POOL_STATS_SECONDS = "DB_POOL_STATS_SECONDS";
+	public static final String STATEMENT_CACHE_SIZE = "DB_STATEMENT_CACHE_SIZE";
+	public static final String CACHE_REGIONS = "DB_CACHE_REGIONS";
+	public static final String BATCH_SIZE = "DB_BATCH_SIZE";
+	public static final String PROFILE = "DB_PROFILE";
+	public static final String WRITE_DELAY_MILLIS = "DB_WRITE_DELAY_MILLIS";
+	public static final String LOG_SIZE_MB = "DB_LOG_SIZE_MB";
+
+	// The profile that keeps the database across restarts
+	public static final String PRODUCTION_PROFILE = "production";
+
+	private static final String HIKARI = "hibernate.hikari.";
+
 	private SessionFactory sessionFactory;
 	private static Hibernate instance;
 
@@ -22,15 +72,196 @@ public class Hibernate {
 
 	private Hibernate() {
 		try {
-			sessionFactory = new Configuration()
-            .configure(new File(HIBERNATE_CFG_FILE))
+			boolean production = PRODUCTION_PROFILE.equalsIgnoreCase(Props.get(PROFILE, "dev"));
+			var cfg = new Configuration().configure(new File(HIBERNATE_CFG_FILE));
+			if (production)
+				configureDurability(cfg);
+
+			sessionFactory = configureCaches(configureBatching(configurePool(cfg)))
             .buildSessionFactory();
 
+			if (production) {
+				cacheTables();
+				configureFiles();
+				Runtime.getRuntime().addShutdownHook(new Thread(this::checkpoint));
+			}
+			reportStats();
 		} catch (Exception e) {
 			e.printStackTrace();
 		}
 	}
 
+	/**
+	 * Settings of the production profile, which keeps the database across restarts, over those
+	 * of hibernate.cfg.xml, which recreate it on every start. The schema is only validated, or
+	 * created if the database is new, and statements are not echoed. Tables are CACHED, so the
+	 * database opens without loading every row into memory, only those in use: new tables are
+	 * created so, and those of a database created by an earlier profile are converted on start.
+	 */
+	private static void configureDurability(Configuration cfg) throws SQLException {
+		String url = cfg.getProperty(JdbcSettings.JAKARTA_JDBC_URL) + ";hsqldb.default_table_type=cached";
+		cfg.setProperty(JdbcSettings.JAKARTA_JDBC_URL, url)
+			.setProperty(AvailableSettings.HBM2DDL_AUTO, hasTables(cfg, url) ? "validate" : "create-only")
+			.setProperty(AvailableSettings.SHOW_SQL, "false");
+	}
+
+	private static boolean hasTables(Configuration cfg, String url) throws SQLException {
+		try (var connection = DriverManager.getConnection(url, cfg.getProperty(JdbcSettings.JAKARTA_JDBC_USER), cfg.getProperty(JdbcSettings.JAKARTA_JDBC_PASSWORD));
+			 var tables = connection.getMetaData().getTables(null, "PUBLIC", "%", new String[] { "TABLE" })) {
+			return tables.next();
+		}
+	}
+
+	/**
+	 * Converts the MEMORY tables left by a database created without the production profile
+	 * to CACHED. This rewrites each table once; later starts find nothing to convert.
+	 */
+	private void cacheTables() {
+		List<String> tables = new ArrayList<>();
+		try (var session = sessionFactory.openSession()) {
+			session.doWork(connection -> {
+				try (var statement = connection.createStatement();
+					 var rows = statement.executeQuery("SELECT TABLE_NAME FROM INFORMATION_SCHEMA.SYSTEM_TABLES "
+							+ "WHERE TABLE_SCHEM = 'PUBLIC' AND HSQLDB_TYPE = 'MEMORY'")) {
+					while (rows.next())
+						tables.add(rows.getString(1));
+				}
+			});
+		}
+		for (String table : tables) {
+			Log.info("Converting table " + table + " to CACHED");
+			execute("SET TABLE PUBLIC.\"" + table + "\" TYPE CACHED");
+		}
+	}
+
+	/**
+	 * Commits are written to the log at most DB_WRITE_DELAY_MILLIS later (0 syncs every commit),
+	 * and the log is checkpointed into the data files whenever it grows past DB_LOG_SIZE_MB.
+	 */
+	private void configureFiles() {
+		execute("SET FILES WRITE DELAY " + Props.getInt(WRITE_DELAY_MILLIS, 500) + " MILLIS",
+				"SET FILES LOG SIZE " + Props.getInt(LOG_SIZE_MB, 50));
+	}
+
+	/**
+	 * Writes every change to the data files and empties the log, so that the next start
+	 * does not have to replay it. Done on shutdown in the production profile.
+	 */
+	public void checkpoint() {
+		Log.info("Checkpointing the database");
+		execute("CHECKPOINT");
+	}
+
+	private void execute(String... statements) {
+		try (var session = sessionFactory.openSession()) {
+			session.doWork(connection -> {
+				try (var statement = connection.createStatement()) {
+					for (String sql : statements)
+						statement.execute(sql);
+				}
+			});
+		}
+	}
+
+	/**
+	 * Sizes the connection pool, and the cache of translated queries, from the deployment settings.
+	 * The database itself keeps compiled statements, so repeated queries are only parsed once end to end.
+	 */
+	private static Configuration configurePool(Configuration cfg) {
+		return cfg.setProperty(HIKARI + "poolName", "fctreddit")
+			.setProperty(HIKARI + "maximumPoolSize", Props.get(POOL_MAX_SIZE, "16"))
+			.setProperty(HIKARI + "minimumIdle", Props.get(POOL_MIN_IDLE, "4"))
+			.setProperty(HIKARI + "idleTimeout", Props.get(POOL_IDLE_TIMEOUT_MILLIS, "600000"))
+			.setProperty(HIKARI + "connectionTimeout", Props.get(POOL_WAIT_MILLIS, "5000"))
+			.setProperty(HIKARI + "registerMbeans", "true")
+			.setProperty(AvailableSettings.QUERY_PLAN_CACHE_MAX_SIZE, Props.get(STATEMENT_CACHE_SIZE, "256"));
+	}
+
+	/**
+	 * Groups the inserts and updates flushed by a session into JDBC batches of up to DB_BATCH_SIZE
+	 * statements, ordered by entity so that a flush of many entities of a kind is a single batch.
+	 */
+	private static Configuration configureBatching(Configuration cfg) {
+		return cfg.setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, String.valueOf(batchSize()))
+			.setProperty(AvailableSettings.ORDER_INSERTS, "true")
+			.setProperty(AvailableSettings.ORDER_UPDATES, "true");
+	}
+
+	/**
+	 * @return the number of statements in a JDBC batch, which is also the number of entities
+	 * that bulk writes should flush at a time
+	 */
+	public static int batchSize() {
+		return Props.getInt(BATCH_SIZE, 100);
+	}
+
+	/**
+	 * Creates the configured cache regions, each bounded in size and lifetime. Regions that are
+	 * not configured, such as the update timestamps, are created unbounded by Hibernate.
+	 */
+	private static Configuration configureCaches(Configuration cfg) {
+		CacheManager manager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+		for (String region : cacheRegions()) {
+			String setting = "DB_CACHE_" + region.toUpperCase().replace('-', '_');
+			var config = new CaffeineConfiguration<Object, Object>()
+					.setMaximumSize(OptionalLong.of(Props.getInt(setting + "_SIZE", 10_000)))
+					.setExpireAfterWrite(OptionalLong.of(TimeUnit.SECONDS.toNanos(Props.getInt(setting + "_TTL_SECONDS", 300))));
+			if (manager.getCache(region) == null)
+				manager.createCache(region, config);
+		}
+		cfg.getProperties().put("hibernate.javax.cache.cache_manager", manager);
+		return cfg;
+	}
+
+	private static String[] cacheRegions() {
+		return Props.get(CACHE_REGIONS, User.CACHE_REGION).split("\\s*,\\s*");
+	}
+
+	/**
+	 * Returns the Hibernate statistics, including the hits and misses of every cache region:
+	 * the hits of the users region are the lookups of users that did not reach the database.
+	 */
+	public Statistics getStatistics() {
+		return sessionFactory.getStatistics();
+	}
+
+	/**
+	 * Returns the live statistics of the connection pool: active, idle and total connections,
+	 * and the number of threads waiting for one, which signals saturation.
+	 */
+	public HikariPoolMXBean getPoolStats() {
+		return sessionFactory.unwrap(SessionFactoryImplementor.class)
+				.getServiceRegistry()
+				.requireService(ConnectionProvider.class)
+				.unwrap(HikariDataSource.class)
+				.getHikariPoolMXBean();
+	}
+
+	private void reportStats() {
+		var reporter = Executors.newSingleThreadScheduledExecutor(r -> {
+			Thread t = new Thread(r, "db-pool-stats");
+			t.setDaemon(true);
+			return t;
+		});
+		int period = Props.getInt(POOL_STATS_SECONDS, 60);
+		reporter.scheduleAtFixedRate(() -> {
+			var pool = getPoolStats();
+			String stats = "Connection pool: active = " + pool.getActiveConnections() + "; idle = " + pool.getIdleConnections()
+					+ "; total = " + pool.getTotalConnections() + "; waiting = " + pool.getThreadsAwaitingConnection();
+			if (pool.getThreadsAwaitingConnection() > 0)
+				Log.warning(stats);
+			else
+				Log.info(stats);
+
+			for (String region : cacheRegions()) {
+				CacheRegionStatistics cache = getStatistics().getCacheRegionStatistics(region);
+				if (cache != null)
+					Log.info("Cache region " + region + ": hits = " + cache.getHitCount() + "; misses = " + cache.getMissCount()
+							+ "; puts = " + cache.getPutCount());
+			}
+		}, period, period, TimeUnit.SECONDS);
+	}
+
 	/**
 	 * Returns the Hibernate instance, initializing if necessary.
 	 * Requires a configuration file (hibernate.cfg.xml)
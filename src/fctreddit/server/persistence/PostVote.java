@@ -0,0 +1,69 @@
+package fctreddit.server.persistence;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+
+/**
+ * The vote of a user on a post, keyed by both, so a user holds at most one vote per post.
+ * The vote counts of each post are kept apart, in the post itself.
+ */
+@Entity
+@IdClass(PostVote.Key.class)
+public class PostVote {
+
+	@Id
+	private String postId;
+	@Id
+	private String userId;
+	private boolean upVote;
+
+	public PostVote() {
+	}
+
+	public PostVote(String postId, String userId, boolean upVote) {
+		this.postId = postId;
+		this.userId = userId;
+		this.upVote = upVote;
+	}
+
+	public String getPostId() {
+		return postId;
+	}
+
+	public String getUserId() {
+		return userId;
+	}
+
+	public boolean isUpVote() {
+		return upVote;
+	}
+
+	public static class Key implements Serializable {
+		private static final long serialVersionUID = 1L;
+
+		private String postId;
+		private String userId;
+
+		public Key() {
+		}
+
+		public Key(String postId, String userId) {
+			this.postId = postId;
+			this.userId = userId;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof Key k && Objects.equals(postId, k.postId) && Objects.equals(userId, k.userId);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(postId, userId);
+		}
+	}
+}
@@ -0,0 +1,61 @@
+package fctreddit.server.persistence;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import fctreddit.api.User;
+import fctreddit.server.java.StreamingUsers;
+import fctreddit.server.java.UsersStorage;
+
+/**
+ * Measures how long the Users engine takes to become ready on an existing database.
+ *
+ * Meant to be run twice, with DB_PROFILE=production: the first run fills the database
+ * with the given number of users (1000000 by default), and the second one, finding them
+ * there, measures a restart. The engine is ready once it answered a lookup and a search,
+ * which loads its index of userIds.
+ */
+public class RestartBenchmark {
+
+	private static final int IMPORT_BATCH_SIZE = 10_000;
+
+	public static void main(String[] args) {
+		int wanted = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+		long jvmStart = ManagementFactory.getRuntimeMXBean().getStartTime();
+
+		long start = System.currentTimeMillis();
+		Hibernate hibernate = Hibernate.getInstance();
+		long factoryReady = System.currentTimeMillis();
+
+		long stored = hibernate.jpql("SELECT COUNT(u) FROM User u", Long.class).get(0);
+		if (stored < wanted) {
+			populate(UsersStorage.getInstance(), (int) stored, wanted);
+			hibernate.checkpoint();
+			System.out.printf("Stored %d users in %d ms, run again to measure a restart%n", wanted - stored,
+					System.currentTimeMillis() - factoryReady);
+			System.exit(0);
+		}
+
+		long engineStart = System.currentTimeMillis();
+		StreamingUsers users = UsersStorage.getInstance();
+		if (!users.getUser("user0", "pwd").isOK() || !users.searchUsers("user12345").isOK())
+			throw new IllegalStateException("The stored users are not the expected ones");
+		long ready = System.currentTimeMillis();
+
+		System.out.printf("%d users: session factory in %d ms, users engine in %d ms, ready %d ms after the JVM started%n",
+				stored, factoryReady - start, ready - engineStart, ready - jvmStart);
+		System.exit(0);
+	}
+
+	private static void populate(StreamingUsers users, int from, int to) {
+		List<User> batch = new ArrayList<>(IMPORT_BATCH_SIZE);
+		for (int i = from; i < to; i++) {
+			batch.add(new User("user" + i, "User " + i, "user" + i + "@fct.unl.pt", "pwd"));
+			if (batch.size() == IMPORT_BATCH_SIZE || i == to - 1) {
+				users.createUsers(batch);
+				batch.clear();
+			}
+		}
+	}
+}
@@ -0,0 +1,92 @@
+package fctreddit.server.resources;
+
+import java.util.List;
+
+import fctreddit.api.Post;
+import fctreddit.api.PostsPage;
+import fctreddit.api.java.AsyncContent;
+import fctreddit.api.rest.RestContent;
+import fctreddit.server.java.Contents;
+
+import jakarta.inject.Singleton;
+import jakarta.ws.rs.container.AsyncResponse;
+
+@Singleton
+public class ContentResource extends RestResource implements RestContent {
+
+    private final AsyncContent impl;
+
+    public ContentResource() {
+        this.impl = Contents.getInstance();
+    }
+
+    @Override
+    public void createPost(Post post, String userPassword, AsyncResponse ar) {
+        super.fromJavaResult(impl.createPostAsync(post, userPassword), ar);
+    }
+
+    @Override
+    public List<String> getPosts(long timestamp, String sortOrder) {
+        return super.fromJavaResult(impl.getPosts(timestamp, sortOrder));
+    }
+
+    @Override
+    public List<Post> getPostsByIds(List<String> postIds) {
+        return super.fromJavaResult(impl.getPostsByIds(postIds));
+    }
+
+    @Override
+    public PostsPage getPostsPage(long timestamp, String sortOrder, String cursor, int limit) {
+        return super.fromJavaResult(impl.getPosts(timestamp, sortOrder, cursor, limit));
+    }
+
+    @Override
+    public Post getPost(String postId) {
+        return super.fromJavaResult(impl.getPost(postId));
+    }
+
+    @Override
+    public void getPostAnswers(String postId, long timeout, AsyncResponse ar) {
+        super.fromJavaResult(impl.getPostAnswersAsync(postId, timeout), ar);
+    }
+
+    @Override
+    public void updatePost(String postId, String userPassword, Post post, AsyncResponse ar) {
+        super.fromJavaResult(impl.updatePostAsync(postId, userPassword, post), ar);
+    }
+
+    @Override
+    public void deletePost(String postId, String userPassword, AsyncResponse ar) {
+        super.fromJavaResult(impl.deletePostAsync(postId, userPassword), ar);
+    }
+
+    @Override
+    public void upVotePost(String postId, String userId, String userPassword, AsyncResponse ar) {
+        super.fromJavaResult(impl.upVotePostAsync(postId, userId, userPassword), ar);
+    }
+
+    @Override
+    public void removeUpVotePost(String postId, String userId, String userPassword, AsyncResponse ar) {
+        super.fromJavaResult(impl.removeUpVotePostAsync(postId, userId, userPassword), ar);
+    }
+
+    @Override
+    public void downVotePost(String postId, String userId, String userPassword, AsyncResponse ar) {
+        super.fromJavaResult(impl.downVotePostAsync(postId, userId, userPassword), ar);
+    }
+
+    @Override
+    public void removeDownVotePost(String postId, String userId, String userPassword, AsyncResponse ar) {
+        super.fromJavaResult(impl.removeDownVotePostAsync(postId, userId, userPassword), ar);
+    }
+
+    @Override
+    public Integer getupVotes(String postId) {
+        return super.fromJavaResult(impl.getupVotes(postId));
+    }
+
+    @Override
+    public Integer getDownVotes(String postId) {
+        return super.fromJavaResult(impl.getDownVotes(postId));
+    }
+}
@@ -0,0 +1,19 @@
+package fctreddit.server.resources;
+
+import fctreddit.server.java.Startup;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.ext.Provider;
+
+/**
+ * Logs how long after the JVM started this server answered its first request.
+ */
+@Provider
+public class FirstResponseFilter implements ContainerResponseFilter {
+
+    @Override
+    public void filter(ContainerRequestContext request, ContainerResponseContext response) {
+        Startup.responded();
+    }
+}
@@ -1,26 +1,27 @@
 package fctreddit.server.resources;
 
-import fctreddit.api.java.Image;
+import fctreddit.api.java.AsyncImage;
 import fctreddit.api.java.Users;
 import fctreddit.api.rest.RestImage;
 import fctreddit.server.java.JavaImages;
-import fctreddit.server.java.JavaUsers;
+import fctreddit.server.java.UsersStorage;
 
 import jakarta.inject.Singleton;
+import jakarta.ws.rs.container.AsyncResponse;
 
 @Singleton
 public class ImageResource extends RestResource implements RestImage {
 
-    private final Image impl;
+    private final AsyncImage impl;
 
     public ImageResource() {
-        Users usersImpl = new JavaUsers();
+        Users usersImpl = UsersStorage.getInstance();
         this.impl = new JavaImages(usersImpl);
     }
 
     @Override
-    public String createImage(String userId, byte[] imageContents, String password) {
-        return super.fromJavaResult(impl.createImage(userId, imageContents, password));
+    public void createImage(String userId, byte[] imageContents, String password, AsyncResponse ar) {
+        super.fromJavaResult(impl.createImageAsync(userId, imageContents, password), ar);
     }
 
     @Override
@@ -29,7 +30,7 @@ public class ImageResource extends RestResource implements RestImage {
     }
 
     @Override
-    public void deleteImage(String userId, String imageId, String password) {
-        super.fromJavaResult(impl.deleteImage(userId, imageId, password));
+    public void deleteImage(String userId, String imageId, String password, AsyncResponse ar) {
+        super.fromJavaResult(impl.deleteImageAsync(userId, imageId, password), ar);
     }
-}
\ No newline at end of file
+}
@@ -1,8 +1,12 @@
 package fctreddit.server.resources;
 
 
+import java.util.concurrent.CompletionStage;
+
 import fctreddit.api.java.Result;
 import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.Response.Status;
 
 
@@ -19,6 +23,21 @@ public class RestResource {
             throw new WebApplicationException(statusCodeFrom(result));
     }
 
+    /**
+     * Given a pending Result<T>, resumes the suspended request once it completes, either
+     * with the value or with the JAX-WS Exception matching the error code...
+     */
+    protected <T> void fromJavaResult(CompletionStage<Result<T>> result, AsyncResponse ar) {
+        result.whenComplete((r, x) -> {
+            if (x != null)
+                ar.resume(x);
+            else if (r.isOK())
+                ar.resume(r.value() != null ? r.value() : Response.noContent().build());
+            else
+                ar.resume(new WebApplicationException(statusCodeFrom(r)));
+        });
+    }
+
     /**
      * Translates a Result<T> to a HTTP Status code
      */
@@ -1,20 +1,29 @@
 package fctreddit.server.resources;
 
 import java.util.List;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import jakarta.inject.Singleton;
+import jakarta.ws.rs.core.StreamingOutput;
 import fctreddit.api.User;
-import fctreddit.api.java.Users;
+import fctreddit.api.java.Result.ErrorCode;
 import fctreddit.api.rest.RestUsers;
-import fctreddit.server.java.JavaUsers;
+import fctreddit.server.java.StreamingUsers;
+import fctreddit.server.java.UsersStorage;
 
 @Singleton
 public class UsersResource extends RestResource implements RestUsers {
 
-	final Users impl;
+	private static final ObjectMapper json = new ObjectMapper()
+			.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+
+	final StreamingUsers impl;
 
 	public UsersResource() {
-		this.impl = new JavaUsers();
+		this.impl = UsersStorage.getInstance();
 	}
 
 	@Override
@@ -22,11 +31,26 @@ public class UsersResource extends RestResource implements RestUsers {
 		return super.fromJavaResult(impl.createUser(user));
 	}
 
+	@Override
+	public List<ErrorCode> createUsers(List<User> users) {
+		return super.fromJavaResult(impl.createUsers(users));
+	}
+
 	@Override
 	public User getUser(String userId, String password) {
 		return super.fromJavaResult(impl.getUser(userId, password));
 	}
 
+	@Override
+	public String login(String userId, String password) {
+		return super.fromJavaResult(impl.login(userId, password));
+	}
+
+	@Override
+	public List<User> getUsersByIds(List<String> userIds) {
+		return super.fromJavaResult(impl.getUsersByIds(userIds));
+	}
+
 	@Override
 	public User updateUser(String userId, String password, User user) {
 		return super.fromJavaResult(impl.updateUser(userId, password, user));
@@ -37,8 +61,22 @@ public class UsersResource extends RestResource implements RestUsers {
 		return super.fromJavaResult(impl.deleteUser(userId, password));
 	}
 
+	/**
+	 * The JSON array is written one user at a time, as they are read from the database.
+	 * The search only starts, holding a database session, once Jersey writes the response;
+	 * its errors are still mapped, as nothing has been written by then. A failure halfway
+	 * through aborts the response, leaving the array unterminated.
+	 */
 	@Override
-	public List<User> searchUsers(String pattern) {
-		return super.fromJavaResult(impl.searchUsers(pattern));
+	public StreamingOutput searchUsers(String pattern, String cursor, int limit) {
+		return out -> {
+			try (Stream<User> users = super.fromJavaResult(impl.streamUsers(pattern, cursor, limit));
+				 var gen = json.getFactory().createGenerator(out)) {
+				gen.writeStartArray();
+				for (var it = users.iterator(); it.hasNext();)
+					gen.writeObject(it.next());
+				gen.writeEndArray();
+			}
+		};
 	}
 }
\ No newline at end of file
@@ -0,0 +1,61 @@
+package fctreddit.server.restServers;
+
+import fctreddit.api.rest.RestContent;
+import fctreddit.api.utils.Discovery;
+import fctreddit.server.java.Contents;
+import fctreddit.server.java.Startup;
+import fctreddit.server.resources.ContentResource;
+import fctreddit.server.resources.FirstResponseFilter;
+import org.glassfish.jersey.grizzly2.httpserver.GrizzlyHttpServerFactory;
+import org.glassfish.jersey.server.ResourceConfig;
+
+import java.net.InetAddress;
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Logger;
+
+public class ContentsServer {
+
+	private static Logger Log = Logger.getLogger(ContentsServer.class.getName());
+
+	static {
+		System.setProperty("java.net.preferIPv4Stack", "true");
+		System.setProperty("java.util.logging.SimpleFormatter.format", "%4$s: %5$s\n");
+	}
+
+	public static final int PORT = 8080;
+	public static final String SERVICE = "ContentService";
+	private static final String SERVER_URI_FMT = "http://%s:%s/rest";
+
+	public static void main(String[] args) {
+		try {
+
+		String ip = InetAddress.getLocalHost().getHostAddress();
+		String serverURI = String.format(SERVER_URI_FMT, ip, PORT);
+
+		// The engine authenticates against Users, so it needs discovery, but this server is
+		// only announced once the engine is ready
+		Discovery discovery = Discovery.getInstance(Discovery.DISCOVERY_ADDR, RestContent.SERVICE_NAME, serverURI);
+		discovery.listen();
+
+		// The engine, and the database under it, is built while the HTTP server starts
+		CompletableFuture<?> engine = CompletableFuture.runAsync(Contents::getInstance);
+
+		ResourceConfig config = new ResourceConfig();
+		config.register(ContentResource.class);
+		config.register(FirstResponseFilter.class);
+
+		// Grizzly supports suspended requests, which the long polling of answers relies on
+		GrizzlyHttpServerFactory.createHttpServer( URI.create(serverURI), config);
+
+		engine.join();
+		Startup.ready(RestContent.SERVICE_NAME);
+		Log.info(String.format("%s Server ready @ %s\n",  RestContent.SERVICE_NAME, serverURI));
+
+			discovery.announce();
+
+		} catch( Exception e) {
+			Log.severe(e.getMessage());
+		}
+	}
+}
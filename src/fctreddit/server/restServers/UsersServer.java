@@ -2,12 +2,16 @@ package fctreddit.server.restServers;
 
 import fctreddit.api.rest.RestUsers;
 import fctreddit.api.utils.Discovery;
+import fctreddit.server.java.Startup;
+import fctreddit.server.java.UsersStorage;
+import fctreddit.server.resources.FirstResponseFilter;
 import fctreddit.server.resources.UsersResource;
 import org.glassfish.jersey.jdkhttp.JdkHttpServerFactory;
 import org.glassfish.jersey.server.ResourceConfig;
 
 import java.net.InetAddress;
 import java.net.URI;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
 public class UsersServer {
@@ -25,16 +29,23 @@ public class UsersServer {
 	
 	public static void main(String[] args) {
 		try {
-			
+
+		// The engine, and the database under it, is built while the HTTP server starts
+		CompletableFuture<?> engine = CompletableFuture.runAsync(UsersStorage::getInstance);
+
 		ResourceConfig config = new ResourceConfig();
 		config.register(UsersResource.class);
+		config.register(FirstResponseFilter.class);
 
 		String ip = InetAddress.getLocalHost().getHostAddress();
 		String serverURI = String.format(SERVER_URI_FMT, ip, PORT);
 		JdkHttpServerFactory.createHttpServer( URI.create(serverURI), config);
-	
+
+		engine.join();
+		Startup.ready(RestUsers.SERVICE_NAME);
 		Log.info(String.format("%s Server ready @ %s\n",  RestUsers.SERVICE_NAME, serverURI));
 
+			// Announced only once the engine is ready, so clients are not sent here earlier
 			Discovery discovery = Discovery.getInstance(Discovery.DISCOVERY_ADDR, RestUsers.SERVICE_NAME, serverURI);
 			discovery.start();
 
@@ -0,0 +1,85 @@
+package fctreddit.server.java;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Test;
+
+import fctreddit.api.PostsPage;
+
+public class PostRankingTest {
+
+    @Test
+    public void listsByScoreThenCreationOrder() {
+        var ranking = new PostRanking();
+        ranking.add("a", 1);
+        ranking.add("b", 2);
+        ranking.add("c", 3);
+        ranking.add("d", 4);
+        ranking.adjust("c", 2);
+        ranking.adjust("b", 1);
+        ranking.adjust("d", 1);
+        ranking.remove("a");
+
+        assertEquals(List.of("c", "b", "d"), ranking.list(0));
+        assertEquals(List.of("c", "d"), ranking.list(3));
+    }
+
+    @Test
+    public void pagesDoNotShiftWhenPostsAreAdded() {
+        var ranking = new PostRanking();
+        for (int i = 0; i < 5; i++) {
+            ranking.add("p" + i, i);
+            ranking.adjust("p" + i, 10 - i);
+        }
+
+        PostsPage first = ranking.page(0, null, 2);
+        assertEquals(List.of("p0", "p1"), first.getPostIds());
+
+        ranking.add("new", 100);
+        PostsPage second = ranking.page(0, first.getNextCursor(), 2);
+        assertEquals(List.of("p2", "p3"), second.getPostIds());
+
+        PostsPage last = ranking.page(0, second.getNextCursor(), 2);
+        assertEquals(List.of("p4", "new"), last.getPostIds());
+        assertNull(last.getNextCursor());
+    }
+
+    @Test
+    public void listingsHaveEveryPostOnceWhileVotesMoveThem() throws InterruptedException {
+        int posts = 200;
+        var ranking = new PostRanking();
+        for (int i = 0; i < posts; i++)
+            ranking.add("p" + i, i);
+
+        var stop = new AtomicBoolean();
+        List<Thread> voters = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            var voter = new Thread(() -> {
+                var random = ThreadLocalRandom.current();
+                while (!stop.get())
+                    ranking.adjust("p" + random.nextInt(posts), random.nextBoolean() ? 1 : -1);
+            });
+            voter.start();
+            voters.add(voter);
+        }
+
+        try {
+            for (int i = 0; i < 2_000; i++) {
+                List<String> listed = ranking.list(0);
+                assertEquals("listing " + i, posts, listed.size());
+                assertEquals("listing " + i, posts, new HashSet<>(listed).size());
+            }
+        } finally {
+            stop.set(true);
+            for (var voter : voters)
+                voter.join();
+        }
+    }
+}
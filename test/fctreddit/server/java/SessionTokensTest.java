@@ -0,0 +1,86 @@
+package fctreddit.server.java;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.google.common.hash.Hashing;
+
+public class SessionTokensTest {
+
+    private static final byte[] CURRENT = "current-secret-of-32-bytes-long!".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] PREVIOUS = "previous-secret-of-32-bytes-lon!".getBytes(StandardCharsets.US_ASCII);
+
+    private static final Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+
+    // The keys are read once, when SessionTokens is loaded
+    @BeforeClass
+    public static void configureKeys() {
+        var b64 = Base64.getEncoder();
+        System.setProperty(SessionTokens.KEYS, "current:" + b64.encodeToString(CURRENT) + ",previous:" + b64.encodeToString(PREVIOUS));
+    }
+
+    @Test
+    public void acceptsTheTokensItIssues() {
+        String token = SessionTokens.issue("alice").value();
+        assertTrue(token.startsWith("current."));
+        assertTrue(SessionTokens.verify(token, "alice"));
+        assertFalse(SessionTokens.verify(token, "bob"));
+    }
+
+    @Test
+    public void acceptsTokensOfEveryListedKey() {
+        assertTrue(SessionTokens.verify(sign("previous", PREVIOUS, inSeconds(60), "alice"), "alice"));
+    }
+
+    @Test
+    public void rejectsExpiredTokens() {
+        assertFalse(SessionTokens.verify(sign("current", CURRENT, inSeconds(-1), "alice"), "alice"));
+    }
+
+    @Test
+    public void rejectsTamperedTokens() {
+        String token = sign("current", CURRENT, inSeconds(60), "alice");
+        String[] parts = token.split("\\.");
+
+        // Another user, a later expiry, or another key, under the original mac
+        assertFalse(SessionTokens.verify(String.join(".", parts[0], parts[1], encode("bob"), parts[3]), "bob"));
+        assertFalse(SessionTokens.verify(String.join(".", parts[0], String.valueOf(inSeconds(3600)), parts[2], parts[3]), "alice"));
+        assertFalse(SessionTokens.verify(String.join(".", "previous", parts[1], parts[2], parts[3]), "alice"));
+
+        // A mac that is altered, cut short or not base64
+        char c = parts[3].charAt(0);
+        assertFalse(SessionTokens.verify(String.join(".", parts[0], parts[1], parts[2], (c == 'A' ? 'B' : 'A') + parts[3].substring(1)), "alice"));
+        assertFalse(SessionTokens.verify(String.join(".", parts[0], parts[1], parts[2], parts[3].substring(1)), "alice"));
+        assertFalse(SessionTokens.verify(String.join(".", parts[0], parts[1], parts[2], "*"), "alice"));
+
+        // Signed by an unknown key, or missing parts
+        assertFalse(SessionTokens.verify(sign("current", "some-other-secret".getBytes(StandardCharsets.US_ASCII), inSeconds(60), "alice"), "alice"));
+        assertFalse(SessionTokens.verify(sign("unknown", CURRENT, inSeconds(60), "alice"), "alice"));
+        assertFalse(SessionTokens.verify(parts[0] + "." + parts[1], "alice"));
+        assertFalse(SessionTokens.verify("", "alice"));
+        assertFalse(SessionTokens.verify(null, "alice"));
+    }
+
+    /**
+     * Builds a token the way SessionTokens does, so its fields can be chosen.
+     */
+    private static String sign(String kid, byte[] secret, long expiry, String userId) {
+        String signed = kid + "." + expiry + "." + encode(userId);
+        byte[] mac = Hashing.hmacSha256(secret).hashString(signed, StandardCharsets.US_ASCII).asBytes();
+        return signed + "." + encoder.encodeToString(mac);
+    }
+
+    private static String encode(String userId) {
+        return encoder.encodeToString(userId.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static long inSeconds(long seconds) {
+        return System.currentTimeMillis() / 1000 + seconds;
+    }
+}
@@ -0,0 +1,99 @@
+package fctreddit.server.java;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.UUID;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import fctreddit.api.Post;
+import fctreddit.api.java.Result.ErrorCode;
+import fctreddit.server.persistence.Hibernate;
+
+public class VoteJournalTest {
+
+    // Long enough that only the test flushes
+    private static final long NO_FLUSH = 3_600_000;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final Hibernate hibernate = Hibernate.getInstance();
+
+    @Test
+    public void replaysTheLastVoteOfEachUserAfterACrash() throws IOException {
+        String postId = newPost();
+        Path base = folder.getRoot().toPath().resolve("votes.journal");
+
+        var crashed = new VoteJournal(hibernate, base, NO_FLUSH);
+        crashed.addPost(postId);
+        assertEquals(ErrorCode.OK, crashed.vote(postId, "alice", true, true));
+        assertEquals(ErrorCode.OK, crashed.vote(postId, "bob", true, true));
+        assertEquals(ErrorCode.OK, crashed.vote(postId, "bob", true, false));
+        assertEquals(ErrorCode.OK, crashed.vote(postId, "bob", false, true));
+        assertEquals(ErrorCode.OK, crashed.vote(postId, "carol", false, true));
+        // Nothing was flushed, the votes are only in the journal
+
+        var recovered = new VoteJournal(hibernate, base, NO_FLUSH);
+        assertEquals(1, recovered.upVotes(postId));
+        assertEquals(2, recovered.downVotes(postId));
+        assertStored(postId, 1, 2);
+        assertEquals(ErrorCode.CONFLICT, recovered.vote(postId, "bob", false, true));
+    }
+
+    @Test
+    public void undoesAVoteWhoseSyncFails() throws IOException {
+        String postId = newPost();
+        var journal = new FailingJournal(hibernate, folder.getRoot().toPath().resolve("votes.journal"));
+        journal.addPost(postId);
+
+        journal.failing = true;
+        assertEquals(ErrorCode.INTERNAL_ERROR, journal.vote(postId, "alice", true, true));
+        assertEquals(0, journal.upVotes(postId));
+
+        journal.failing = false;
+        assertEquals(ErrorCode.OK, journal.vote(postId, "alice", true, true));
+        assertEquals(1, journal.upVotes(postId));
+
+        journal.flush();
+        assertStored(postId, 1, 0);
+    }
+
+    private static final class FailingJournal extends VoteJournal {
+        volatile boolean failing;
+
+        FailingJournal(Hibernate hibernate, Path base) throws IOException {
+            super(hibernate, base, NO_FLUSH);
+        }
+
+        @Override
+        void force(FileChannel file) throws IOException {
+            if (failing)
+                throw new IOException("Simulated sync failure");
+            super.force(file);
+        }
+    }
+
+    private String newPost() {
+        String postId = UUID.randomUUID().toString();
+        hibernate.persist(new Post(postId, "author", System.currentTimeMillis(), "content", null, null, 0, 0));
+        return postId;
+    }
+
+    private void assertStored(String postId, int upVotes, int downVotes) {
+        try (var session = hibernate.getSessionFactory().openSession()) {
+            Post post = session.get(Post.class, postId);
+            assertEquals(upVotes, post.getUpVote());
+            assertEquals(downVotes, post.getDownVote());
+            long rows = session.createQuery("SELECT COUNT(v) FROM PostVote v WHERE v.postId = :postId", Long.class)
+                    .setParameter("postId", postId)
+                    .getSingleResult();
+            assertEquals(upVotes + downVotes, rows);
+        }
+    }
+}
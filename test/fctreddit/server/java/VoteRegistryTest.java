@@ -0,0 +1,102 @@
+package fctreddit.server.java;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+
+import fctreddit.api.java.Result.ErrorCode;
+
+public class VoteRegistryTest {
+
+    @Test
+    public void removeKeepsCollidingValuesReachable() {
+        // Values sharing a home slot form one probe run, which a removal must not break
+        List<Integer> colliding = collidingValues(5, 16);
+        var set = new VoteRegistry.IntSet();
+        for (int v : colliding)
+            assertTrue(set.add(v));
+
+        assertTrue(set.remove(colliding.get(0)));
+        assertFalse(set.contains(colliding.get(0)));
+        for (int v : colliding.subList(1, colliding.size()))
+            assertTrue("lost " + v, set.contains(v));
+
+        assertTrue(set.remove(colliding.get(2)));
+        assertFalse(set.remove(colliding.get(2)));
+        assertEquals(colliding.size() - 2, set.size());
+        for (int v : List.of(colliding.get(1), colliding.get(3), colliding.get(4)))
+            assertTrue("lost " + v, set.contains(v));
+    }
+
+    @Test
+    public void agreesWithHashSetUnderRandomAddsAndRemoves() {
+        var random = new Random(42);
+        var set = new VoteRegistry.IntSet();
+        Set<Integer> expected = new HashSet<>();
+
+        for (int i = 0; i < 200_000; i++) {
+            int v = random.nextInt(512);
+            if (random.nextInt(3) == 0)
+                assertEquals(expected.remove(v), set.remove(v));
+            else
+                assertEquals(expected.add(v), set.add(v));
+        }
+
+        assertEquals(expected.size(), set.size());
+        for (int v = 0; v < 512; v++)
+            assertEquals("value " + v, expected.contains(v), set.contains(v));
+    }
+
+    @Test
+    public void votesConflictLikeTheServiceContract() {
+        var registry = new VoteRegistry();
+        registry.add("post");
+
+        assertEquals(ErrorCode.NOT_FOUND, registry.vote("other", "alice", true, true));
+        assertEquals(ErrorCode.OK, registry.vote("post", "alice", true, true));
+        assertEquals(ErrorCode.CONFLICT, registry.vote("post", "alice", true, true));
+        assertEquals(ErrorCode.CONFLICT, registry.vote("post", "alice", false, true));
+        assertEquals(ErrorCode.CONFLICT, registry.vote("post", "alice", false, false));
+        assertEquals(1, registry.upVotes("post"));
+
+        assertEquals(ErrorCode.OK, registry.vote("post", "alice", true, false));
+        assertEquals(ErrorCode.OK, registry.vote("post", "alice", false, true));
+        assertEquals(0, registry.upVotes("post"));
+        assertEquals(1, registry.downVotes("post"));
+    }
+
+    @Test
+    public void refusedCommitLeavesVotesUnchanged() {
+        var registry = new VoteRegistry();
+        registry.add("post");
+
+        assertEquals(ErrorCode.INTERNAL_ERROR, registry.vote("post", "alice", true, true, () -> false));
+        assertEquals(0, registry.upVotes("post"));
+        assertEquals(ErrorCode.OK, registry.vote("post", "alice", true, true));
+    }
+
+    /**
+     * @return count values that all hash to the same slot of a table of the given capacity
+     */
+    private static List<Integer> collidingValues(int count, int capacity) {
+        List<Integer> values = new ArrayList<>();
+        for (int v = 0; values.size() < count; v++)
+            if (home(v, capacity) == home(0, capacity))
+                values.add(v);
+        return values;
+    }
+
+    // The same hash as IntSet.indexOf
+    private static int home(int value, int capacity) {
+        int h = value * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & (capacity - 1);
+    }
+}